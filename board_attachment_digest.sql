@@ -0,0 +1,18 @@
+-- 첨부파일 내용 주소 저장소(BlobStore) 지원
+--  - digest: 파일 내용의 SHA-256 (16진수 64자), 같은 내용의 첨부파일은 같은 파일을 공유
+--  - 참조 수는 digest 인덱스로 COUNT(*) → 0이 되면 파일 삭제
+--  - 기존 첨부파일은 digest가 NULL (기존 경로 그대로 사용)
+
+ALTER TABLE tbl_board_attachment
+    ADD COLUMN digest CHAR(64) NULL AFTER path;
+
+ALTER TABLE tbl_board_attachment
+    ADD INDEX idx_attachment_digest (digest);
+
+-- 중복 저장 현황 (같은 파일을 공유하는 첨부파일 수)
+SELECT digest, COUNT(*) AS refs, MAX(size) AS size
+FROM tbl_board_attachment
+WHERE digest IS NOT NULL
+GROUP BY digest
+HAVING COUNT(*) > 1
+ORDER BY refs DESC;
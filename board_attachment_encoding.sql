@@ -0,0 +1,12 @@
+-- 첨부파일 압축 저장 지원
+--  - encoding: 저장 파일의 압축 형식 (HTTP Content-Encoding 값, 예: gzip)
+--  - NULL이면 원본 그대로 저장된 파일 (기존 첨부파일, 이미지/zip 등 압축 효과가 없는 형식)
+--  - size는 항상 원본 크기 (다운로드 시 Content-Length 계산에 사용)
+
+ALTER TABLE tbl_board_attachment
+    ADD COLUMN encoding VARCHAR(16) NULL AFTER digest;
+
+-- 압축 저장 현황 (형식별 첨부파일 수와 원본 크기 합계)
+SELECT IFNULL(encoding, 'identity') AS encoding, COUNT(*) AS files, SUM(size) AS original_size
+FROM tbl_board_attachment
+GROUP BY encoding;
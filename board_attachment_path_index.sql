@@ -0,0 +1,13 @@
+-- 고아 첨부파일 정리(AttachmentCollector) 지원
+--  - 저장 디렉토리의 파일을 배치(기본 500개) 단위로 첨부파일 테이블과 대조
+--  - BlobStore 파일({digest}, {digest}.gz): idx_attachment_digest로 digest IN (...) 조회
+--  - digest가 없는 기존 파일(UUID 파일명): path IN (...) 조회 → path 인덱스 필요 (없으면 배치마다 전체 검색)
+
+ALTER TABLE tbl_board_attachment
+    ADD INDEX idx_attachment_path (path);
+
+-- 대조 쿼리 실행 계획 확인 (key: idx_attachment_path)
+EXPLAIN
+SELECT DISTINCT path
+FROM tbl_board_attachment
+WHERE path IN ('c:/upload/board/a.txt', 'c:/upload/board/b.txt');
@@ -0,0 +1,18 @@
+-- 게시글 ETag(조건부 GET) 지원용 스키마 변경
+--  - 상세 ETag는 update_date로 계산하므로 같은 초에 두 번 수정해도 구분되도록 밀리초 정밀도로 변경
+--    (변경 전에도 동작하지만 1초 안의 연속 수정은 같은 ETag가 될 수 있음)
+--  - 목록 ETag는 MAX(no), MAX(update_date)로 계산하므로 update_date 인덱스로 전체 스캔 없이 조회
+
+ALTER TABLE tbl_board
+    MODIFY update_date DATETIME(3) DEFAULT CURRENT_TIMESTAMP(3);
+
+ALTER TABLE tbl_board
+    ADD INDEX idx_board_update_date (update_date);
+
+-- 인덱스 확인
+SHOW INDEX FROM tbl_board;
+
+-- 목록 버전 조회 확인 (Extra: Select tables optimized away)
+EXPLAIN
+SELECT MAX(no), MAX(update_date)
+FROM tbl_board;
@@ -0,0 +1,39 @@
+-- 게시글 목록 필터(작성자, 등록일 범위) 인덱스
+--  - 작성자 필터: WHERE writer = ? ORDER BY no DESC LIMIT → (writer, no) 인덱스를 역순으로 읽고 LIMIT에서 중단
+--  - 등록일 필터: WHERE reg_date >= ? AND reg_date < ? → (reg_date, no) 인덱스 범위 검색
+--  - 첨부파일 유무: 첨부파일 테이블의 bno 외래키 인덱스로 EXISTS 확인 (추가 인덱스 불필요)
+
+ALTER TABLE tbl_board
+    ADD INDEX idx_board_writer_no (writer, no);
+
+ALTER TABLE tbl_board
+    ADD INDEX idx_board_reg_date_no (reg_date, no);
+
+-- 인덱스 확인
+SHOW INDEX FROM tbl_board;
+
+-- 내 글 보기 (key: idx_board_writer_no, Extra에 filesort 없음)
+EXPLAIN
+SELECT no, title
+FROM tbl_board
+WHERE writer = 'user00'
+ORDER BY no DESC
+LIMIT 10;
+
+-- 이번 주 글 보기 (key: idx_board_reg_date_no, type: range)
+EXPLAIN
+SELECT no, title
+FROM tbl_board
+WHERE reg_date >= CURDATE() - INTERVAL WEEKDAY(CURDATE()) DAY
+  AND reg_date < CURDATE() + INTERVAL 1 DAY
+ORDER BY no DESC
+LIMIT 10;
+
+-- 내 글 중 첨부파일 있는 글 (b 행 key: idx_board_writer_no, 첨부파일은 bno 인덱스로 EXISTS 확인)
+EXPLAIN
+SELECT b.no, b.title
+FROM tbl_board b
+WHERE b.writer = 'user00'
+  AND EXISTS (SELECT 1 FROM tbl_board_attachment a WHERE a.bno = b.no)
+ORDER BY no DESC
+LIMIT 10;
@@ -0,0 +1,25 @@
+-- 게시글 FULLTEXT 검색 인덱스 (ngram 파서, 한글 검색용)
+--  - 적용 후 프로파일 설정에 board.search.mode=fulltext 지정
+--  - ngram 토큰 크기는 서버 변수 ngram_token_size (기본 2)를 따름
+--  - 검색 타입(T/C/W) 조합을 유지하기 위해 컬럼별 인덱스를 생성
+--    (InnoDB는 MATCH() 컬럼 목록과 정확히 일치하는 FULLTEXT 인덱스가 필요)
+
+ALTER TABLE tbl_board
+    ADD FULLTEXT INDEX ft_board_title (title) WITH PARSER ngram;
+
+ALTER TABLE tbl_board
+    ADD FULLTEXT INDEX ft_board_content (content) WITH PARSER ngram;
+
+ALTER TABLE tbl_board
+    ADD FULLTEXT INDEX ft_board_writer (writer) WITH PARSER ngram;
+
+-- 인덱스 확인
+SHOW INDEX FROM tbl_board;
+
+-- 검색 확인 (제목 + 내용)
+SELECT no, title
+FROM tbl_board
+WHERE MATCH(title) AGAINST('"테스트"' IN BOOLEAN MODE)
+   OR MATCH(content) AGAINST('"테스트"' IN BOOLEAN MODE)
+ORDER BY no DESC
+LIMIT 10;
@@ -0,0 +1,17 @@
+-- 목록 ETag(목록 버전)의 삭제 감지용 스키마 변경
+--  - 목록 버전은 MAX(no)(등록), MAX(update_date)(수정)로 계산 → 마지막 글이 아닌 글의 삭제는 두 값을 바꾸지 않음
+--  - 삭제할 때마다 한 행짜리 카운터를 증가시키고 목록 버전에 포함 → 모든 서버가 같은 DB 값으로 같은 ETag 계산
+--  - PK 한 행만 읽으므로 COUNT(*)처럼 테이블을 훑지 않음
+
+CREATE TABLE tbl_board_delete_count
+(
+    id  TINYINT PRIMARY KEY,
+    cnt BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO tbl_board_delete_count (id, cnt) VALUES (1, 0);
+
+-- 목록 버전 조회 확인 (tbl_board: Select tables optimized away, tbl_board_delete_count: const)
+EXPLAIN
+SELECT MAX(no), MAX(update_date), (SELECT cnt FROM tbl_board_delete_count WHERE id = 1)
+FROM tbl_board;
@@ -6,17 +6,35 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.scoula.board.domain.BoardAttachmentVO;
 import org.scoula.board.dto.BoardDTO;
+import org.scoula.board.dto.BoardSummaryDTO;
+import org.scoula.board.dto.UploadSessionDTO;
+import org.scoula.board.export.AttachmentZipWriter;
+import org.scoula.board.export.BoardExportFormat;
 import org.scoula.board.service.BoardService;
+import org.scoula.board.service.UploadSessionService;
+import org.scoula.common.cache.HotFileCache;
+import org.scoula.common.image.ImageVariant;
+import org.scoula.common.image.ImageVariants;
 import org.scoula.common.pagination.Page;
 import org.scoula.common.pagination.PageRequest;
+import org.scoula.common.util.StorageLayout;
 import org.scoula.common.util.UploadFiles;
+import org.scoula.security.account.domain.CustomUser;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 
 @RestController                    // REST API 컨트롤러 선언 (@Controller + @ResponseBody)
 @RequestMapping("/api/board")   // 기본 URL 매핑
@@ -41,6 +59,9 @@ public class BoardController {
     String propertiesName;
 
     private final BoardService service; // 의존성 주입
+    private final UploadSessionService uploadSessionService; // 분할 업로드
+    private final ImageVariants imageVariants; // 이미지 첨부파일 썸네일
+    private final HotFileCache hotFileCache;   // 자주 요청되는 첨부파일 캐시
 
 //    /**
 //     * 전체 목록 조회
@@ -68,39 +89,100 @@ public class BoardController {
     /**
      * 페이징된 게시글 목록 조회 (검색 기능 포함)
      * GET: http://localhost:8080/api/board?page=1&amount=10&type=T&keyword=검색어
-     * @param pageRequest 쿼리스트링이 자동 바인딩된 커맨드 객체 (page, amount, type, keyword)
+     * GET: http://localhost:8080/api/board?page=1&type=C&keyword=검색어&approx=true (근사 건수, 예: 10,000+)
+     * GET: http://localhost:8080/api/board?writer=user00 (내 글 보기, 작성자 정확히 일치)
+     * GET: http://localhost:8080/api/board?from=2025-01-20&to=2025-01-26&hasAttachment=true (기간 + 첨부파일 있는 글)
+     * GET: http://localhost:8080/api/board?cursor=&amount=10 (커서 모드 첫 페이지)
+     * GET: http://localhost:8080/api/board?cursor={nextCursor}&amount=10 (커서 모드 다음 페이지)
+     * @param pageRequest 쿼리스트링이 자동 바인딩된 커맨드 객체
+     *                    (page, amount, type, keyword, cursor, approx, writer, from, to, hasAttachment)
+     * @param request If-None-Match 헤더 확인용 요청 객체
      * @return ResponseEntity
-     *         - 200 OK: 목록 조회 성공, 페이징 처리된 게시글 리스트 반환 (빈 리스트 포함)
+     *         - 200 OK: 목록 조회 성공, 페이징 처리된 게시글 요약 리스트 반환 (빈 리스트 포함, ETag 헤더 포함)
+     *                   목록 항목은 본문 앞부분(excerpt)과 첨부파일 수만 포함 (전체 본문은 상세 조회)
+     *                   커서 모드에서는 nextCursor/prevCursor 포함, 전체 건수는 계산하지 않음
+     *         - 304 Not Modified: If-None-Match의 ETag와 현재 목록 버전이 같음 (목록 조회 생략)
      *         - 204 No Content: 조회 성공했지만 게시글이 하나도 없음
+     *         - 400 Bad Request: 잘못된 커서 값
      *         - 500 Internal Server Error: 서버 내부 오류 (DB 연결 실패 등)
      */
-    @ApiOperation(value = "게시글 목록 조회(Pagination + Search)", notes = "페이징 처리된 게시글 목록을 얻는 API (검색 기능 포함)")
+    @ApiOperation(value = "게시글 목록 조회(Pagination + Search)", notes = "페이징 처리된 게시글 목록을 얻는 API (검색 기능 포함, cursor 지정 시 커서 페이지네이션)")
     @ApiResponses(value = {
-            @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = BoardDTO.class),
+            @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = BoardSummaryDTO.class),
+            @ApiResponse(code = 304, message = "변경되지 않았습니다."),
             @ApiResponse(code = 400, message = "잘못된 요청입니다."),
             @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
     })
     @GetMapping("")
     public ResponseEntity<Page> getList(
-            @ApiParam(value = "페이지네이션 및 검색 조건 요청 객체", required = true) PageRequest pageRequest) {
-        Page<BoardDTO> result;
-        
-        // 검색 조건이 있으면 검색, 없으면 전체 목록
-        if (pageRequest.hasSearchCondition()) {
+            @ApiParam(value = "페이지네이션 및 검색 조건 요청 객체", required = true) PageRequest pageRequest,
+            WebRequest request) {
+        // 목록 버전이 클라이언트와 같으면 목록 조회/직렬화 없이 304 응답
+        String etag = service.getListETag(pageRequest);
+        if (request.checkNotModified(etag)) {
+            return null;    // 304 Not Modified (상태 코드와 ETag 헤더는 checkNotModified가 설정)
+        }
+
+        Page<BoardSummaryDTO> result;
+
+        // 커서가 지정되면 커서 모드, 아니면 검색 조건 유무에 따라 offset 모드
+        if (pageRequest.isCursorMode()) {
+            result = service.getCursorPage(pageRequest);
+        } else if (pageRequest.hasSearchCondition()) {
             result = service.getPageWithSearch(pageRequest);
         } else {
             result = service.getPage(pageRequest);
         }
-        
-        return ResponseEntity.ok(result);
+
+        return ResponseEntity.ok().eTag(etag).body(result);
+    }
+
+    /**
+     * 전체 게시글 내보내기 (관리자 전용, 야간 백업/재색인 작업용)
+     * GET: http://localhost:8080/api/board/export?format=ndjson
+     * GET: http://localhost:8080/api/board/export?format=csv
+     * @param format 내보내기 형식 (ndjson | csv, 기본 ndjson)
+     * @param response 게시글을 한 건씩 기록할 응답 객체
+     *         - 200 OK: 전체 게시글을 스트리밍으로 전송 (첨부파일 제외)
+     *         - 400 Bad Request: 지원하지 않는 형식
+     *         - 403 Forbidden: 관리자 권한 없음
+     * @throws IOException 응답 스트림을 얻지 못한 경우
+     */
+    @ApiOperation(value = "게시글 내보내기", notes = "전체 게시글을 NDJSON 또는 CSV로 스트리밍하는 API (관리자 전용)")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다."),
+            @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+            @ApiResponse(code = 403, message = "권한이 없습니다."),
+            @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
+    })
+    @GetMapping("/export")
+    public void export(
+            @ApiParam(value = "내보내기 형식 (ndjson, csv)", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        BoardExportFormat exportFormat = BoardExportFormat.of(format);  // 잘못된 형식이면 400
+        String fileName = "board-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "." + exportFormat.getExtension();
+
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
+
+        try {
+            long count = service.export(exportFormat, response.getOutputStream());
+            log.info("============> 게시글 내보내기 완료: " + count + "건 (" + exportFormat + ")");
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 - 이미 응답을 보내는 중이므로 오류 응답 없이 중단
+            log.warn("============> 게시글 내보내기 중단 (클라이언트 연결 종료): " + e.getMessage());
+        }
     }
 
     /**
      * 개별 게시글 조회
      * GET: http://localhost:8080/api/board/{no}.
      * @param no 게시글 번호(PK)
+     * @param request If-None-Match 헤더 확인용 요청 객체
      * @return ResponseEntity
-     *         - 200 OK: 게시글 조회 성공, 게시글 정보 반환
+     *         - 200 OK: 게시글 조회 성공, 게시글 정보 반환 (ETag 헤더 포함)
+     *         - 304 Not Modified: If-None-Match의 ETag와 현재 게시글 버전이 같음 (본문 조회 생략)
      *         - 404 Not Found: 해당 번호의 게시글이 존재하지 않음
      *         - 400 Bad Request: 잘못된 게시글 번호 형식 (음수, 문자 등)
      *         - 500 Internal Server Error: 서버 내부 오류
@@ -108,6 +190,7 @@ public class BoardController {
     @ApiOperation(value = "상세정보 얻기", notes = "게시글 상세 정보를 얻는 API")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = BoardDTO.class),
+            @ApiResponse(code = 304, message = "변경되지 않았습니다."),
             @ApiResponse(code = 400, message = "잘못된 요청입니다."),
             @ApiResponse(code = 404, message = "게시글을 찾을 수 없습니다."),
             @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
@@ -119,9 +202,16 @@ public class BoardController {
                     required = true,              // 필수 여부
                     example = "1"                 // 예시 값
             )
-            @PathVariable Long no) {
+            @PathVariable Long no,
+            WebRequest request) {
         log.info("============> 게시글 상세 조회: " + no);
 
+        // 게시글 버전이 클라이언트와 같으면 조인 쿼리/직렬화 없이 304 응답
+        String etag = service.getETag(no);
+        if (request.checkNotModified(etag)) {
+            return null;    // 304 Not Modified
+        }
+
 
         log.info("driver: {}", driver);
         log.info("url: {}", url);
@@ -129,7 +219,7 @@ public class BoardController {
         log.info("password: {}", password);
         log.info("propertiesName: {}", propertiesName);
         BoardDTO board = service.get(no);
-        return ResponseEntity.ok(board);
+        return ResponseEntity.ok().eTag(etag).body(board);
     }
 
 
@@ -153,11 +243,13 @@ public class BoardController {
     public ResponseEntity<BoardDTO> create(
             @ApiParam(value = "게시글 객체", required = true)
             /*@RequestBody*/ //  mulipart/form-data 요청 매핑 시 매개변수 @RequestBody 삭제!!!
-            BoardDTO board) {
+            BoardDTO board,
+            @ApiParam(value = "인증 사용자", hidden = true)
+            @AuthenticationPrincipal CustomUser customUser) {
         log.info("============> 게시글 생성: " + board);
 
-        // 새 게시글 생성 후 결과 반환
-        BoardDTO createdBoard = service.create(board);
+        // 새 게시글 생성 후 결과 반환 (uploadIds는 요청 사용자의 업로드만 첨부 가능)
+        BoardDTO createdBoard = service.create(board, customUser.getUsername());
         return ResponseEntity.ok(createdBoard);
     }
 
@@ -186,13 +278,15 @@ public class BoardController {
             @PathVariable Long no,           // URL에서 게시글 번호 추출
             @ApiParam(value = "게시글 객체", required = true)
             /*@RequestBody*/ //  mulipart/form-data 요청 매핑 시 매개변수 @RequestBody 삭제!!!
-            BoardDTO board      // 수정할 데이터 (JSON)
+            BoardDTO board,     // 수정할 데이터 (JSON)
+            @ApiParam(value = "인증 사용자", hidden = true)
+            @AuthenticationPrincipal CustomUser customUser
     ) {
         log.info("============> 게시글 수정: " + no + ", " + board);
 
         // 게시글 번호 설정 (안전성을 위해)
         board.setNo(no);
-        BoardDTO updatedBoard = service.update(board);
+        BoardDTO updatedBoard = service.update(board, customUser.getUsername());
         return ResponseEntity.ok(updatedBoard);
     }
 
@@ -231,15 +325,53 @@ public class BoardController {
     // ----------------------------------------------------------------
     /* 파일 관련 API 엔드포인트 추가*/
 
+    /**
+     * 게시글의 모든 첨부파일을 ZIP으로 다운로드
+     * GET: http://localhost:8080/api/board/{no}/attachments.zip
+     * @param no 게시글 번호
+     * @param response ZIP을 기록할 응답 객체
+     *         - 200 OK: 첨부파일 목록을 한 번 조회한 뒤 ZIP을 만들며 바로 전송 (Content-Length 없음)
+     *         - 404 Not Found: 첨부파일이 없음
+     * @throws IOException 응답 스트림을 얻지 못한 경우
+     */
+    @ApiOperation(value = "첨부파일 전체 다운로드", notes = "게시글의 모든 첨부파일을 ZIP으로 묶어 스트리밍하는 API")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "ZIP 다운로드 성공"),
+            @ApiResponse(code = 404, message = "첨부파일을 찾을 수 없습니다."),
+            @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
+    })
+    @GetMapping("/{no}/attachments.zip")
+    public void downloadAll(
+            @ApiParam(value = "게시글 ID", required = true, example = "1")
+            @PathVariable Long no,
+            HttpServletResponse response) throws IOException {
+        List<BoardAttachmentVO> attachments = service.getAttachmentList(no);   // 없으면 404
+
+        response.setContentType("application/zip");
+        response.setHeader("Content-Disposition", "attachment; filename=\"board-" + no + "-attachments.zip\"");
+
+        try {
+            int count = AttachmentZipWriter.write(attachments, response.getOutputStream());
+            log.info("============> 첨부파일 ZIP 전송 완료: 게시글 " + no + ", " + count + "개");
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 - 이미 응답을 보내는 중이므로 오류 응답 없이 중단
+            log.warn("============> 첨부파일 ZIP 전송 중단 (클라이언트 연결 종료): " + e.getMessage());
+        }
+    }
+
     /**
      * 파일 다운로드 API 엔드포인트
      * @param no
+     * @param request
      * @param response
      * @throws Exception
      */
     @ApiOperation(value = "첨부파일 다운로드", notes = "게시글의 첨부파일을 다운로드하는 API")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "파일 다운로드 성공"),
+            @ApiResponse(code = 206, message = "요청한 구간만 전송 (Range 요청)"),
+            @ApiResponse(code = 304, message = "변경되지 않았습니다."),
+            @ApiResponse(code = 416, message = "요청한 구간이 파일 크기를 벗어났습니다."),
             @ApiResponse(code = 404, message = "첨부파일을 찾을 수 없습니다."),
             @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
     })
@@ -247,15 +379,59 @@ public class BoardController {
     public void download(
             @ApiParam(value = "첨부파일 ID", required = true, example = "1")
             @PathVariable Long no, 
+            HttpServletRequest request,
             HttpServletResponse response) throws Exception {
         // 1. 첨부파일 정보 조회
         BoardAttachmentVO attachment = service.getAttachment(no);
 
-        // 2. 실제 파일 객체 생성
-        File file = new File(attachment.getPath());
+        // 2. 실제 파일 객체 생성 (저장 구조 이전 중이면 새 위치 확인)
+        File file = StorageLayout.locate(attachment.getPath());
 
-        // 3. 파일 다운로드 처리 (브라우저로 전송)
-        UploadFiles.download(response, file, attachment.getFilename());
+        // 3. 파일 다운로드 처리 (브라우저로 전송, 내용 digest를 ETag로 사용, 압축 저장 파일은 협상하여 전송)
+        //    - 원본 그대로 저장된 파일은 자주 요청되면 메모리 캐시에서 전송
+        if (attachment.getEncoding() == null) {
+            UploadFiles.setDownloadHeaders(response, attachment.getFilename());
+            hotFileCache.send(request, response, file, attachment.getDigest());
+            return;
+        }
+        Long size = attachment.getSize();
+        UploadFiles.download(request, response, file, attachment.getFilename(), attachment.getDigest(),
+                attachment.getEncoding(), size == null ? -1 : size);
+    }
+
+
+    /**
+     * 이미지 첨부파일 보기 (브라우저에 바로 표시, 크기 지정 가능)
+     * GET: http://localhost:8080/api/board/image/{no}?size=thumb (목록용 썸네일, medium: 상세용, 없으면 원본)
+     * @param no 첨부파일 ID
+     * @param size 이미지 크기 (thumb, medium, 없으면 원본)
+     */
+    @ApiOperation(value = "이미지 첨부파일 보기", notes = "이미지 첨부파일을 요청 크기로 전송하는 API (변형 이미지는 디스크에 캐시)")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "이미지 조회 성공"),
+            @ApiResponse(code = 304, message = "변경되지 않았습니다."),
+            @ApiResponse(code = 400, message = "이미지가 아니거나 지원하지 않는 크기입니다."),
+            @ApiResponse(code = 404, message = "첨부파일을 찾을 수 없습니다."),
+            @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
+    })
+    @GetMapping("/image/{no}")
+    public void viewImage(
+            @ApiParam(value = "첨부파일 ID", required = true, example = "1")
+            @PathVariable Long no,
+            @ApiParam(value = "이미지 크기 (thumb, medium, 없으면 원본)", example = "thumb")
+            @RequestParam(required = false) String size,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        BoardAttachmentVO attachment = Optional.ofNullable(service.getAttachment(no))
+                .orElseThrow(NoSuchElementException::new);
+        if (!attachment.isImage()) {
+            throw new IllegalArgumentException("이미지 첨부파일이 아닙니다: " + no);
+        }
+
+        // 내용 digest를 원본 키로 사용 (digest가 없는 기존 첨부파일은 파일 정보로 계산)
+        File file = StorageLayout.locate(attachment.getPath());
+        String sourceKey = attachment.getDigest() != null ? attachment.getDigest() : ImageVariants.keyOf(file);
+        imageVariants.send(request, response, file, sourceKey, ImageVariant.of(size));
     }
 
 
@@ -279,4 +455,136 @@ public class BoardController {
     }
 
 
+    // ----------------------------------------------------------------
+    /* 분할(chunked) 업로드 API - 큰 파일을 여러 구간으로 나눠 전송, 실패한 구간만 다시 전송 */
+
+    /**
+     * 분할 업로드 세션 생성
+     * POST: http://localhost:8080/api/board/uploads
+     * {"filename": "video.mp4", "contentType": "video/mp4", "size": 104857600, "digest": "(선택) SHA-256"}
+     * @param request 파일명, 크기, MIME 타입, SHA-256(선택)
+     * @return 생성된 세션 (id로 구간 전송)
+     */
+    @ApiOperation(value = "분할 업로드 시작", notes = "큰 첨부파일을 구간별로 나눠 올리기 위한 업로드 세션을 생성하는 API")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = UploadSessionDTO.class),
+            @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+            @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
+    })
+    @PostMapping("/uploads")
+    public ResponseEntity<UploadSessionDTO> createUpload(
+            @ApiParam(value = "업로드할 파일 정보", required = true)
+            @RequestBody UploadSessionDTO request,
+            @ApiParam(value = "인증 사용자", hidden = true)
+            @AuthenticationPrincipal CustomUser customUser) throws IOException {
+        return ResponseEntity.ok(uploadSessionService.create(request, customUser.getUsername()));
+    }
+
+    /**
+     * multipart 스트리밍 업로드 (파일 파트를 읽으며 저장소에 바로 기록)
+     * POST: http://localhost:8080/api/board/uploads/stream  (Content-Type: multipart/form-data)
+     * - 컨테이너의 multipart 처리(최대 5MB 메모리 버퍼 + 임시 파일 복사)를 거치지 않아 요청당 메모리 사용량이 일정함
+     * - 반환된 id를 게시글 등록/수정 시 uploadIds로 보내 첨부
+     * @return 저장된 파일별 업로드 세션 (완료 상태)
+     */
+    @ApiOperation(value = "스트리밍 업로드", notes = "multipart 요청의 파일들을 버퍼링 없이 바로 저장하는 API")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = UploadSessionDTO.class),
+            @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+            @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
+    })
+    @PostMapping("/uploads/stream")   // ServletConfig.STREAMING_UPLOAD_PATH
+    public ResponseEntity<List<UploadSessionDTO>> streamUpload(
+            HttpServletRequest request,
+            @ApiParam(value = "인증 사용자", hidden = true)
+            @AuthenticationPrincipal CustomUser customUser) throws IOException {
+        return ResponseEntity.ok(uploadSessionService.receive(request.getContentType(), request.getInputStream(),
+                customUser.getUsername()));
+    }
+
+    /**
+     * 구간 전송 (요청 본문이 offset 위치부터의 파일 데이터)
+     * PUT: http://localhost:8080/api/board/uploads/{id}?offset=0  (Content-Type: application/octet-stream)
+     * - 구간은 순서와 관계없이 동시에 보낼 수 있고, 같은 구간을 다시 보내도 됨
+     * @return 받은 구간 목록
+     */
+    @ApiOperation(value = "분할 업로드 구간 전송", notes = "요청 본문을 파일의 offset 위치에 기록하는 API (Content-Length 필수)")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = UploadSessionDTO.class),
+            @ApiResponse(code = 400, message = "잘못된 요청입니다."),
+            @ApiResponse(code = 404, message = "업로드 세션을 찾을 수 없습니다."),
+            @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
+    })
+    @PutMapping("/uploads/{id}")
+    public ResponseEntity<UploadSessionDTO> writeUpload(
+            @ApiParam(value = "업로드 세션 ID", required = true)
+            @PathVariable String id,
+            @ApiParam(value = "구간 시작 위치(byte)", required = true, example = "0")
+            @RequestParam long offset,
+            HttpServletRequest request,
+            @ApiParam(value = "인증 사용자", hidden = true)
+            @AuthenticationPrincipal CustomUser customUser) throws IOException {
+        return ResponseEntity.ok(uploadSessionService.write(id, customUser.getUsername(), offset,
+                request.getContentLengthLong(), request.getInputStream()));
+    }
+
+    /**
+     * 분할 업로드 상태 조회 (재시도 전에 받은 구간 확인)
+     * GET: http://localhost:8080/api/board/uploads/{id}
+     */
+    @ApiOperation(value = "분할 업로드 상태 조회", notes = "지금까지 받은 구간 목록을 얻는 API")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = UploadSessionDTO.class),
+            @ApiResponse(code = 404, message = "업로드 세션을 찾을 수 없습니다."),
+            @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
+    })
+    @GetMapping("/uploads/{id}")
+    public ResponseEntity<UploadSessionDTO> getUpload(
+            @ApiParam(value = "업로드 세션 ID", required = true)
+            @PathVariable String id,
+            @ApiParam(value = "인증 사용자", hidden = true)
+            @AuthenticationPrincipal CustomUser customUser) {
+        return ResponseEntity.ok(uploadSessionService.get(id, customUser.getUsername()));
+    }
+
+    /**
+     * 분할 업로드 완료 (완료 후 게시글 등록/수정 시 uploadIds로 첨부)
+     * POST: http://localhost:8080/api/board/uploads/{id}/complete
+     */
+    @ApiOperation(value = "분할 업로드 완료", notes = "모든 구간을 받았는지 확인하고 파일을 저장하는 API")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = UploadSessionDTO.class),
+            @ApiResponse(code = 400, message = "받지 못한 구간이 있거나 SHA-256 값이 다릅니다."),
+            @ApiResponse(code = 404, message = "업로드 세션을 찾을 수 없습니다."),
+            @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
+    })
+    @PostMapping("/uploads/{id}/complete")
+    public ResponseEntity<UploadSessionDTO> completeUpload(
+            @ApiParam(value = "업로드 세션 ID", required = true)
+            @PathVariable String id,
+            @ApiParam(value = "인증 사용자", hidden = true)
+            @AuthenticationPrincipal CustomUser customUser) throws IOException {
+        return ResponseEntity.ok(uploadSessionService.complete(id, customUser.getUsername()));
+    }
+
+    /**
+     * 분할 업로드 취소
+     * DELETE: http://localhost:8080/api/board/uploads/{id}
+     */
+    @ApiOperation(value = "분할 업로드 취소", notes = "업로드 세션과 받은 데이터를 삭제하는 API")
+    @ApiResponses(value = {
+            @ApiResponse(code = 204, message = "취소되었습니다."),
+            @ApiResponse(code = 404, message = "업로드 세션을 찾을 수 없습니다."),
+            @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
+    })
+    @DeleteMapping("/uploads/{id}")
+    public ResponseEntity<Void> cancelUpload(
+            @ApiParam(value = "업로드 세션 ID", required = true)
+            @PathVariable String id,
+            @ApiParam(value = "인증 사용자", hidden = true)
+            @AuthenticationPrincipal CustomUser customUser) throws IOException {
+        uploadSessionService.cancel(id, customUser.getUsername());
+        return ResponseEntity.noContent().build();
+    }
+
 }
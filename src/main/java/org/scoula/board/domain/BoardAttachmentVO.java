@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.scoula.common.util.BlobStore;
 import org.scoula.common.util.UploadFiles;
 import org.springframework.web.multipart.MultipartFile;
 import java.util.Date;
@@ -11,12 +12,14 @@ import java.util.Date;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class BoardAttachmentVO {
     private Long no;                // 첨부파일 고유 번호
     private Long bno;               // 게시글 번호 (FK)
     private String filename;        // 원본 파일명
     private String path;            // 서버 저장 경로
+    private String digest;          // 파일 내용 SHA-256 (같은 내용의 첨부파일은 같은 파일 공유)
+    private String encoding;        // 압축 저장 형식 (gzip, 원본 그대로면 null) - size는 원본 크기
     private String contentType;     // MIME 타입
     private Long size;              // 파일 크기
     private Date regDate;           // 등록일
@@ -38,6 +41,25 @@ public class BoardAttachmentVO {
                 .build();
     }
 
+    /**
+     * 저장소(BlobStore)에 저장된 업로드 파일로부터 BoardAttachmentVO 객체를 생성하는 팩토리 메서드
+     * @param part 업로드된 파일 객체
+     * @param bno 게시글 번호
+     * @param blob 저장 결과 (경로, digest, 압축 형식)
+     * @return BoardAttachmentVO 객체
+     */
+    public static BoardAttachmentVO of(MultipartFile part, Long bno, BlobStore.Blob blob) {
+        BoardAttachmentVO attach = of(part, bno, blob.getPath());
+        attach.setDigest(blob.getDigest());
+        attach.setEncoding(blob.getEncoding());
+        return attach;
+    }
+
+    // 이미지 파일 여부 (썸네일 제공 대상)
+    public boolean isImage() {
+        return contentType != null && contentType.startsWith("image/");
+    }
+
     /**
      * 파일 크기를 사용자 친화적 형태로 변환
      * @return 포맷된 파일 크기 (예: 1.2 MB)
@@ -0,0 +1,26 @@
+package org.scoula.board.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * 게시글 목록용 요약 정보
+ * - 본문 전체 대신 앞부분(excerpt)만, 첨부파일 목록 대신 개수만 조회
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardSummaryVO {
+    private Long no;           // 게시글 번호
+    private String title;      // 제목
+    private String writer;     // 작성자
+    private Date regDate;      // 등록일시
+    private Date updateDate;   // 수정일시
+    private String excerpt;    // 본문 앞부분 (최대 100자, BoardMapper.xml boardSummaryColumns)
+    private int attachCount;   // 첨부파일 수
+}
@@ -0,0 +1,30 @@
+package org.scoula.board.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.scoula.common.util.ETags;
+
+import java.util.Date;
+
+/**
+ * 게시글 상세 버전 정보 (ETag 계산용)
+ * - 게시글 수정일시 + 첨부파일 수/마지막 첨부파일 번호
+ * - 첨부파일 추가 시 마지막 번호가, 삭제 시 개수가 바뀌므로 첨부파일 목록 변경도 감지
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardVersionVO {
+    private Long no;             // 게시글 번호
+    private Date updateDate;     // 수정일시
+    private int attachCount;     // 첨부파일 수
+    private Long lastAttachNo;   // 마지막 첨부파일 번호 (없으면 null)
+
+    // 버전 정보로 강한 ETag 생성
+    public String toETag() {
+        return ETags.strong(no, updateDate == null ? null : updateDate.getTime(), attachCount, lastAttachNo);
+    }
+}
@@ -74,8 +74,17 @@ public class BoardDTO {
             value = "업로드 파일 목록",
             hidden = true            // Swagger UI에서 숨김 (내부 처리용)
     )
+    @Builder.Default         // 빌더로 생성해도 빈 목록으로 초기화
     private List<MultipartFile> files = new ArrayList<>();
 
+    @ApiModelProperty(
+            value = "분할 업로드로 완료한 업로드 세션 ID 목록 (문자열 ID, 첨부파일로 연결)",
+            example = "[\"6f1c2a0e9b8d4f3e8a7b6c5d4e3f2a1b\"]",
+            position = 8
+    )
+    @Builder.Default
+    private List<String> uploadIds = new ArrayList<>();
+
     /**
      * BoardVO를 BoardDTO로 변환하는 정적 팩토리 메서드
      *
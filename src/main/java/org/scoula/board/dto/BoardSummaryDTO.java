@@ -0,0 +1,55 @@
+package org.scoula.board.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.scoula.board.domain.BoardSummaryVO;
+
+import java.util.Date;
+
+@Data                    // getter, setter, toString, equals, hashCode 생성
+@NoArgsConstructor       // 기본 생성자
+@AllArgsConstructor      // 모든 필드 생성자
+@Builder                 // 빌더 패턴
+public class BoardSummaryDTO {
+    @ApiModelProperty(value = "게시글 ID", example = "1", position = 1)
+    private Long no;
+
+    @ApiModelProperty(value = "제목", example = "게시글 제목 예시", position = 2)
+    private String title;
+
+    @ApiModelProperty(value = "작성자", example = "user1", position = 3)
+    private String writer;
+
+    @ApiModelProperty(value = "등록일", example = "2025-01-20T10:30:00", position = 4)
+    private Date regDate;
+
+    @ApiModelProperty(value = "수정일", example = "2025-01-20T15:45:00", position = 5)
+    private Date updateDate;
+
+    @ApiModelProperty(value = "본문 앞부분 (최대 100자)", example = "게시글 내용 예시입니다.", position = 6)
+    private String excerpt;
+
+    @ApiModelProperty(value = "첨부파일 수", example = "0", position = 7)
+    private int attachCount;
+
+    /**
+     * BoardSummaryVO를 BoardSummaryDTO로 변환하는 정적 팩토리 메서드
+     *
+     * @param vo 변환할 BoardSummaryVO 객체
+     * @return 변환된 BoardSummaryDTO 객체 (vo가 null이면 null 반환)
+     */
+    public static BoardSummaryDTO of(BoardSummaryVO vo) {
+        return vo == null ? null : BoardSummaryDTO.builder()
+                .no(vo.getNo())
+                .title(vo.getTitle())
+                .writer(vo.getWriter())
+                .regDate(vo.getRegDate())
+                .updateDate(vo.getUpdateDate())
+                .excerpt(vo.getExcerpt())
+                .attachCount(vo.getAttachCount())
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package org.scoula.board.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsDTO {
+    private long hitCount;          // 캐시 적중 수
+    private long missCount;         // 캐시 미스 수
+    private double hitRate;         // 적중률 (0 ~ 1)
+    private long evictionCount;     // 용량 초과로 제거된 항목 수
+    private long evictionWeight;    // 제거된 항목의 추정 바이트 합계
+    private long entryCount;        // 현재 항목 수 (추정)
+    private long weightedSize;      // 현재 사용 중인 추정 바이트
+    private long loadCount;         // 캐시 미스로 실제 실행된 DB 조회 수
+    private long coalescedCount;    // 동시 요청 병합으로 생략된 DB 조회 수
+
+    // Caffeine 통계를 DTO로 변환
+    public static CacheStatsDTO of(CacheStats stats, long entryCount, long weightedSize) {
+        return CacheStatsDTO.builder()
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .evictionWeight(stats.evictionWeight())
+                .entryCount(entryCount)
+                .weightedSize(weightedSize)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package org.scoula.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StorageCollectDTO {
+    private Date startedAt;         // 정리 시작 시각
+    private long elapsedMillis;     // 소요 시간 (ms)
+    private long scanned;           // 검사한 파일 수
+    private long deleted;           // 삭제한 고아 파일 수
+    private long reclaimedBytes;    // 회수한 디스크 용량 (바이트)
+    private long failed;            // 삭제 실패 파일 수 (다음 실행에서 재시도)
+}
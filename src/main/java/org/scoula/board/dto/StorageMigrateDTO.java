@@ -0,0 +1,23 @@
+package org.scoula.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StorageMigrateDTO {
+    private Date startedAt;         // 이전 시작 시각
+    private long elapsedMillis;     // 소요 시간 (ms)
+    private long scanned;           // 검사한 첨부파일 행 수
+    private long moved;             // 새 위치로 이동한 파일 수
+    private long updated;           // path를 갱신한 첨부파일 행 수
+    private long missing;           // 파일이 없어 건너뛴 행 수
+    private long conflicts;         // 새 위치에 내용이 다른 파일이 있어 건너뛴 파일 수
+    private boolean completed;      // 이전 완료 여부 (완료 표시 후 기존 위치는 더 이상 확인하지 않음)
+}
@@ -0,0 +1,44 @@
+package org.scoula.board.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 분할(chunked) 업로드 세션
+ * - 생성 요청: filename, contentType, size (digest는 선택 - 완료 시 내용 검증용)
+ * - 응답: 세션 ID, 지금까지 받은 구간, 완료 여부
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSessionDTO {
+    @ApiModelProperty(value = "업로드 세션 ID", example = "6f1c2a0e9b8d4f3e8a7b6c5d4e3f2a1b", position = 1)
+    private String id;
+
+    @ApiModelProperty(value = "원본 파일명", example = "video.mp4", required = true, position = 2)
+    private String filename;
+
+    @ApiModelProperty(value = "MIME 타입", example = "video/mp4", position = 3)
+    private String contentType;
+
+    @ApiModelProperty(value = "전체 파일 크기(byte)", example = "104857600", required = true, position = 4)
+    private long size;
+
+    @ApiModelProperty(value = "파일 내용 SHA-256 (생성 시 지정하면 완료 시 검증, 완료 후에는 저장된 파일의 값)", position = 5)
+    private String digest;
+
+    @ApiModelProperty(value = "받은 바이트 수", example = "52428800", position = 6)
+    private long receivedBytes;
+
+    @ApiModelProperty(value = "받은 구간 목록 (시작-끝, 끝 포함)", example = "[\"0-52428799\"]", position = 7)
+    private List<String> received;
+
+    @ApiModelProperty(value = "업로드 완료 여부 (true면 게시글 등록/수정 시 uploadIds로 첨부 가능)", position = 8)
+    private boolean complete;
+}
@@ -0,0 +1,90 @@
+package org.scoula.board.export;
+
+import lombok.extern.log4j.Log4j2;
+import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.common.util.Compression;
+import org.scoula.common.util.StorageLayout;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 게시글 첨부파일 ZIP 출력기
+ * - 첨부파일을 하나씩 읽어 바로 ZIP 항목으로 기록 (임시 파일 없음, 고정 크기 버퍼만 사용)
+ * - 이미 압축된 형식(JPEG, PNG, 동영상, zip, docx 등)은 다시 압축하지 않고 그대로 저장
+ * - gzip으로 저장된 첨부파일은 압축을 풀며 원본 내용으로 기록
+ */
+@Log4j2
+public class AttachmentZipWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 첨부파일 목록을 ZIP으로 기록
+     * - 디스크에 파일이 없는 첨부파일은 건너뜀 (응답을 이미 보내는 중이므로 오류로 중단하지 않음)
+     * - 출력 스트림은 닫지 않음
+     * @param attachments 첨부파일 목록
+     * @param out 출력 스트림 (응답 스트림)
+     * @return ZIP에 기록한 파일 수
+     * @throws IOException 출력 실패 시 (클라이언트 연결 종료 포함)
+     */
+    public static int write(List<BoardAttachmentVO> attachments, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(out, BUFFER_SIZE), StandardCharsets.UTF_8);
+        Set<String> names = new HashSet<>();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int count = 0;
+
+        for (BoardAttachmentVO attach : attachments) {
+            File file = StorageLayout.locate(attach.getPath());
+            if (!file.isFile()) {
+                log.warn("ZIP에서 제외 (파일 없음): " + attach.getNo() + " " + attach.getPath());
+                continue;
+            }
+
+            ZipEntry entry = new ZipEntry(uniqueName(attach.getFilename(), names));
+            if (attach.getRegDate() != null) {
+                entry.setTime(attach.getRegDate().getTime());
+            }
+            // 압축 효과가 없는 형식은 무압축 블록으로 기록 (STORED는 CRC/크기를 미리 알아야 해서 파일을 두 번 읽어야 함)
+            zip.setLevel(Compression.isCompressible(attach.getContentType())
+                    ? Deflater.DEFAULT_COMPRESSION : Deflater.NO_COMPRESSION);
+            zip.putNextEntry(entry);
+            try (InputStream in = Compression.decode(attach.getEncoding(), new FileInputStream(file))) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    zip.write(buffer, 0, read);
+                }
+            }
+            zip.closeEntry();
+            count++;
+        }
+
+        zip.finish();
+        zip.flush();
+        return count;
+    }
+
+    // ZIP 안의 파일명 (경로 구분자 제거, 같은 이름은 "이름 (2).확장자")
+    static String uniqueName(String filename, Set<String> names) {
+        String name = filename == null ? "" : filename.substring(Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\')) + 1);
+        name = name.replaceAll("[\\p{Cntrl}]", "_");
+        if (name.isBlank() || name.equals(".") || name.equals("..")) {
+            name = "file";
+        }
+
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        String ext = dot > 0 ? name.substring(dot) : "";
+        String candidate = name;
+        for (int i = 2; !names.add(candidate.toLowerCase(Locale.ROOT)); i++) {   // 대소문자만 다른 이름도 압축 해제 시 충돌
+            candidate = base + " (" + i + ")" + ext;
+        }
+        return candidate;
+    }
+}
@@ -0,0 +1,49 @@
+package org.scoula.board.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * 게시글 내보내기 형식
+ * - NDJSON: 한 줄에 게시글 JSON 하나 (재색인 작업용)
+ * - CSV: RFC 4180 형식 (스프레드시트/백업용)
+ */
+public enum BoardExportFormat {
+    NDJSON("application/x-ndjson;charset=UTF-8", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;   // 응답 Content-Type
+    private final String extension;     // 다운로드 파일 확장자
+
+    BoardExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    // 형식에 맞는 출력기 생성
+    public BoardExportWriter open(OutputStream out) throws IOException {
+        return this == NDJSON ? new NdjsonBoardExportWriter(out) : new CsvBoardExportWriter(out);
+    }
+
+    /**
+     * 요청 파라미터로 형식 조회 (대소문자 무시)
+     * @param value 형식 이름 (ndjson, csv)
+     * @return 내보내기 형식
+     * @throws IllegalArgumentException 지원하지 않는 형식
+     */
+    public static BoardExportFormat of(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 내보내기 형식: " + value));
+    }
+}
@@ -0,0 +1,21 @@
+package org.scoula.board.export;
+
+import org.scoula.board.domain.BoardVO;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 게시글 내보내기 출력기
+ * - 게시글을 한 건씩 받아 바로 출력 스트림에 기록 (전체 목록을 메모리에 모으지 않음)
+ * - close()는 남은 버퍼만 내보내고 하위 스트림(응답 스트림)은 닫지 않음
+ */
+public interface BoardExportWriter extends Closeable {
+
+    /**
+     * 게시글 한 건 기록
+     * @param board 기록할 게시글 (첨부파일 제외)
+     * @throws IOException 출력 실패 시 (클라이언트 연결 종료 포함)
+     */
+    void write(BoardVO board) throws IOException;
+}
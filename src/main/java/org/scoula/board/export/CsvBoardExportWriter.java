@@ -0,0 +1,65 @@
+package org.scoula.board.export;
+
+import org.scoula.board.domain.BoardVO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV 출력기 (RFC 4180)
+ * - 첫 줄은 헤더, 줄바꿈은 CRLF
+ * - 쉼표/큰따옴표/줄바꿈이 포함된 값은 큰따옴표로 감싸고 내부 큰따옴표는 두 번 기록
+ */
+class CsvBoardExportWriter implements BoardExportWriter {
+    private static final String HEADER = "no,title,content,writer,regDate,updateDate";
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Writer writer;
+
+    CsvBoardExportWriter(OutputStream out) throws IOException {
+        writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(BoardVO board) throws IOException {
+        writer.write(String.valueOf(board.getNo()));
+        writer.write(',');
+        writeField(board.getTitle());
+        writer.write(',');
+        writeField(board.getContent());
+        writer.write(',');
+        writeField(board.getWriter());
+        writer.write(',');
+        writeField(NdjsonBoardExportWriter.format(board.getRegDate()));
+        writer.write(',');
+        writeField(NdjsonBoardExportWriter.format(board.getUpdateDate()));
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();   // 응답 스트림은 닫지 않고 남은 버퍼만 내보냄
+    }
+
+    // 필요한 경우에만 큰따옴표로 감싸서 기록 (null은 빈 값)
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,55 @@
+package org.scoula.board.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import org.scoula.board.domain.BoardVO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+
+/**
+ * NDJSON 출력기 - 게시글마다 JSON 객체 한 줄
+ * - ObjectMapper 직렬화 대신 JsonGenerator로 필드를 직접 기록 (행마다 중간 객체/트리 생성 없음)
+ * - 날짜는 ISO-8601 문자열 (예: 2025-01-20T10:30:00+09:00)
+ */
+class NdjsonBoardExportWriter implements BoardExportWriter {
+    static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ISO_OFFSET_DATE_TIME.withZone(ZoneId.systemDefault());
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);   // 응답 스트림은 컨테이너가 닫음
+
+    private final JsonGenerator generator;
+
+    NdjsonBoardExportWriter(OutputStream out) throws IOException {
+        generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+        generator.setPrettyPrinter(new MinimalPrettyPrinter(""));  // 루트 값 사이 구분자 제거 (줄바꿈은 직접 기록)
+    }
+
+    @Override
+    public void write(BoardVO board) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("no", board.getNo());
+        generator.writeStringField("title", board.getTitle());
+        generator.writeStringField("content", board.getContent());
+        generator.writeStringField("writer", board.getWriter());
+        generator.writeStringField("regDate", format(board.getRegDate()));
+        generator.writeStringField("updateDate", format(board.getUpdateDate()));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();   // 남은 버퍼 flush (AUTO_CLOSE_TARGET 비활성화로 응답 스트림은 유지)
+    }
+
+    static String format(Date date) {
+        return date == null ? null : DATE_FORMAT.format(date.toInstant());
+    }
+}
@@ -1,10 +1,15 @@
 package org.scoula.board.mapper;
 
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.domain.BoardSummaryVO;
 import org.scoula.board.domain.BoardVO;
+import org.scoula.board.domain.BoardVersionVO;
 import org.scoula.common.pagination.PageRequest;
 
 import java.util.List;
+import java.util.Map;
 
 public interface BoardMapper {
 
@@ -12,28 +17,48 @@ public interface BoardMapper {
 
     //@Select("select * from tbl_board order by no desc")
     public List<BoardVO> getList();         // 게시글 목록 조회
+    public Cursor<BoardVO> getListCursor(); // 전체 게시글 스트리밍 조회 (내보내기용)
     public BoardVO get(Long no);            // 단일 게시글 조회
     public void create(BoardVO board);      // 게시글 등록
     public int update(BoardVO board);       // 게시글 수정
     public int delete(Long no);             // 게시글 삭제
+    public int touch(Long no);              // 게시글 수정일 갱신 (첨부파일 변경 → 목록 버전 변경)
+    public int countDeleted();              // 게시글 삭제 횟수 증가 (삭제 → 목록 버전 변경)
+    public BoardVersionVO getVersion(Long no);  // 게시글 버전(수정일시, 첨부파일 수) 조회 - ETag용
 
     // === 첨부파일 관리 ===
     public void createAttachment(BoardAttachmentVO attach);         // 첨부파일 등록
+    public int createAttachments(List<BoardAttachmentVO> attaches); // 첨부파일 여러 건 등록 (multi-row INSERT)
     public List<BoardAttachmentVO> getAttachmentList(Long bno);     // 특정 게시글의 첨부 파일 목록 조회
     public BoardAttachmentVO getAttachment(Long no);                // 특정 첨부 파일 1개 조회
     public int deleteAttachment(Long no);                           // 특정 첨부 파일 1개 삭제
+    public int countAttachmentsByDigest(String digest);             // 같은 파일(digest)을 참조하는 첨부파일 수
+    public List<String> findReferencedDigests(List<String> digests); // 주어진 digest 중 첨부파일이 참조하는 것 (고아 파일 정리)
+    public List<String> findReferencedPaths(List<String> paths);     // 주어진 경로 중 첨부파일이 참조하는 것 (고아 파일 정리)
+    public List<BoardAttachmentVO> getAttachmentsAfter(@Param("after") Long after, @Param("limit") int limit); // 번호 순 첨부파일 배치 조회 (저장 구조 이전)
+    public int updateAttachmentPaths(@Param("moved") Map<String, String> moved);  // 이전 경로 → 새 경로 일괄 갱신 (저장 구조 이전)
 
     // === Pagination ===
     // 전체 게시글 수 조회
     int getTotalCount();
 
-    // 페이징된 게시글 목록 조회
-    List<BoardVO> getPage(PageRequest pageRequest);
+    // 목록 버전(마지막 번호, 최근 수정일시, 삭제 횟수) 조회 - 목록 ETag용
+    String getListVersion();
+
+    // 페이징된 게시글 목록 조회 (요약 컬럼)
+    List<BoardSummaryVO> getPage(PageRequest pageRequest);
 
     // === Search ===
     // 검색 조건을 포함한 전체 게시글 수 조회
     int getTotalCountWithSearch(PageRequest pageRequest);
 
+    // 검색 조건을 포함한 게시글 수를 상한(countLimit)까지만 조회 (근사 건수용)
+    int getTotalCountWithSearchLimit(PageRequest pageRequest);
+
     // 검색 조건을 포함한 페이징된 게시글 목록 조회
-    List<BoardVO> getPageWithSearch(PageRequest pageRequest);
+    List<BoardSummaryVO> getPageWithSearch(PageRequest pageRequest);
+
+    // === Cursor Pagination ===
+    // 커서(마지막으로 본 게시글 번호) 기준 목록 조회 (검색 조건 포함)
+    List<BoardSummaryVO> getPageByCursor(PageRequest pageRequest);
 }
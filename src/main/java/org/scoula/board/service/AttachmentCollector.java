@@ -0,0 +1,229 @@
+package org.scoula.board.service;
+
+import lombok.extern.log4j.Log4j2;
+import org.scoula.board.dto.StorageCollectDTO;
+import org.scoula.board.mapper.BoardMapper;
+import org.scoula.common.cache.HotFileCache;
+import org.scoula.common.util.UploadFiles;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 첨부파일 디렉토리의 고아 파일 정리
+ * - 디렉토리의 파일을 batchSize개씩 읽어 첨부파일 테이블과 대조 → 참조가 없는 파일 삭제
+ *   (게시글/첨부파일 삭제 후 남은 기존 파일, 롤백된 등록의 파일, 중단된 임시 파일)
+ * - 스케줄러 스레드에서 실행 (요청 스레드와 무관)
+ * - 배치마다 짧은 조회 한 번씩만 실행 → DB 커넥션을 오래 점유하지 않음
+ * - 수정 시각이 보호 시간(grace) 안인 파일은 제외 → 커밋 전인 업로드, 방금 재사용된 파일 보호
+ * - 완료되었지만 아직 첨부되지 않은 분할 업로드의 파일은 세션이 남아 있는 동안 제외 (세션 만료 후 삭제)
+ */
+@Log4j2
+@Component
+public class AttachmentCollector {
+    private static final String TEMP_DIR = ".tmp";             // BlobStore 임시 파일 (참조될 수 없음)
+    private static final int SHARD_DEPTH = 3;                   // {base}/ab/cd/{name} (StorageLayout)
+
+    // BlobStore 파일명 ({digest} 또는 {digest}.gz)
+    private static final Pattern BLOB_NAME = Pattern.compile("([0-9a-f]{64})(\\.[a-z0-9]+)?");
+
+    private final BoardMapper boardMapper;
+    private final UploadSessionService uploadSessionService;
+    private final HotFileCache hotFileCache;    // 삭제한 파일의 캐시 항목 제거
+    private final String baseDir;
+    private final long graceMillis;
+    private final int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();  // 중복 실행 방지
+    private volatile StorageCollectDTO lastResult;              // 마지막 정리 결과 (운영 API 조회용)
+
+    public AttachmentCollector(
+            BoardMapper boardMapper,
+            UploadSessionService uploadSessionService,
+            HotFileCache hotFileCache,
+            @Value("${board.upload.dir:c:/upload/board}") String baseDir,
+            @Value("${board.collector.grace:86400000}") long graceMillis,     // 보호 시간 (24시간)
+            @Value("${board.collector.batch-size:500}") int batchSize) {      // 한 번에 대조할 파일 수
+        this.boardMapper = boardMapper;
+        this.uploadSessionService = uploadSessionService;
+        this.hotFileCache = hotFileCache;
+        this.baseDir = baseDir;
+        this.graceMillis = graceMillis;
+        this.batchSize = batchSize;
+    }
+
+    // 정기 실행 (기본 매일 04:30, "-"로 설정하면 비활성화)
+    @Scheduled(cron = "${board.collector.cron:0 30 4 * * *}")
+    public void scheduled() {
+        collect();
+    }
+
+    /**
+     * 고아 파일 정리
+     * @return 정리 결과 (이미 실행 중이거나 저장 구조 이전 중이면 null)
+     */
+    public StorageCollectDTO collect() {
+        return runExclusively("첨부파일 정리", () -> {
+            StorageCollectDTO result = StorageCollectDTO.builder().startedAt(new Date()).build();
+            long started = System.currentTimeMillis();
+            Path base = Paths.get(baseDir);
+            if (Files.isDirectory(base)) {
+                collectFiles(base, result);
+                collectTemp(base.resolve(TEMP_DIR), result);
+            }
+            result.setElapsedMillis(System.currentTimeMillis() - started);
+            lastResult = result;
+
+            log.info("첨부파일 정리 완료: 검사 " + result.getScanned() + "개, 삭제 " + result.getDeleted()
+                    + "개, 회수 " + UploadFiles.getFormatSize(result.getReclaimedBytes())
+                    + ", 실패 " + result.getFailed() + "개, " + result.getElapsedMillis() + "ms");
+            return result;
+        });
+    }
+
+    /**
+     * 저장 디렉토리 작업을 정리 작업과 겹치지 않게 실행
+     * - 저장 구조 이전(AttachmentMigrator) 도중에는 파일 이동과 경로 갱신 사이의 파일이
+     *   참조 없는 파일로 보일 수 있으므로 함께 실행하지 않음
+     * @param name 작업 이름 (로그용)
+     * @param task 실행할 작업
+     * @return 작업 결과 (다른 작업이 실행 중이거나 실패하면 null)
+     */
+    <T> T runExclusively(String name, StorageTask<T> task) {
+        if (!running.compareAndSet(false, true)) {
+            log.info(name + " 건너뜀: 다른 저장소 작업이 실행 중입니다.");
+            return null;
+        }
+        try {
+            return task.run();
+        } catch (IOException e) {
+            log.warn(name + " 실패: " + baseDir, e);   // 남은 파일은 다음 실행에서 처리
+            return null;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @FunctionalInterface
+    interface StorageTask<T> {
+        T run() throws IOException;
+    }
+
+    public StorageCollectDTO getLastResult() {
+        return lastResult;
+    }
+
+    // 저장 디렉토리의 파일을 배치 단위로 대조
+    //  - 해시 하위 디렉토리({base}/ab/cd/)와 이전 단일 디렉토리({base}/)의 파일 (.tmp 등 점으로 시작하는 디렉토리 제외)
+    private void collectFiles(Path base, StorageCollectDTO result) throws IOException {
+        List<Path> batch = new ArrayList<>(batchSize);
+        try (Stream<Path> files = Files.walk(base, SHARD_DEPTH)) {
+            Iterator<Path> iterator = files
+                    .filter(file -> !base.relativize(file).getName(0).toString().startsWith("."))
+                    .filter(Files::isRegularFile)
+                    .iterator();
+            while (iterator.hasNext()) {
+                Path file = iterator.next();
+                result.setScanned(result.getScanned() + 1);
+                if (isIdle(file)) {
+                    batch.add(file);
+                }
+                if (batch.size() == batchSize) {
+                    reconcile(batch, result);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            reconcile(batch, result);
+        }
+    }
+
+    // 배치의 파일 중 첨부파일이 참조하지 않는 파일 삭제
+    //  - BlobStore 파일은 digest로, 기존 파일(UUID 파일명)은 저장 경로로 대조
+    private void reconcile(List<Path> batch, StorageCollectDTO result) {
+        Map<String, List<Path>> byDigest = new HashMap<>();
+        Map<String, Path> byPath = new HashMap<>();
+        for (Path file : batch) {
+            String name = file.getFileName().toString();
+            var matcher = BLOB_NAME.matcher(name);
+            if (matcher.matches()) {
+                byDigest.computeIfAbsent(matcher.group(1), digest -> new ArrayList<>()).add(file);
+            } else {
+                byPath.put(file.toString(), file);   // 저장 경로와 같은 형식 (baseDir 기준 경로)
+            }
+        }
+
+        Set<String> referenced = new HashSet<>();
+        if (!byDigest.isEmpty()) {
+            referenced.addAll(boardMapper.findReferencedDigests(new ArrayList<>(byDigest.keySet())));
+            referenced.addAll(uploadSessionService.getPendingDigests());   // 첨부 대기 중인 업로드
+        }
+        if (!byPath.isEmpty()) {
+            referenced.addAll(boardMapper.findReferencedPaths(new ArrayList<>(byPath.keySet())));
+        }
+
+        byDigest.forEach((digest, files) -> {
+            if (!referenced.contains(digest)) {
+                files.forEach(file -> delete(file, result));
+            }
+        });
+        byPath.forEach((path, file) -> {
+            if (!referenced.contains(path)) {
+                delete(file, result);
+            }
+        });
+    }
+
+    // 중단된 업로드의 임시 파일 삭제 (보호 시간이 지난 것만)
+    private void collectTemp(Path temp, StorageCollectDTO result) throws IOException {
+        if (!Files.isDirectory(temp)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(temp, Files::isRegularFile)) {
+            for (Path file : files) {
+                result.setScanned(result.getScanned() + 1);
+                if (isIdle(file)) {
+                    delete(file, result);
+                }
+            }
+        }
+    }
+
+    // 보호 시간이 지난 파일인지 확인 (삭제 직전에 다시 확인 → 대조 도중 재사용된 파일 보호)
+    private boolean isIdle(Path file) {
+        try {
+            return System.currentTimeMillis() - Files.getLastModifiedTime(file).toMillis() >= graceMillis;
+        } catch (IOException e) {
+            return false;   // 이미 삭제된 파일
+        }
+    }
+
+    private void delete(Path file, StorageCollectDTO result) {
+        try {
+            if (!isIdle(file)) {
+                return;
+            }
+            long size = Files.readAttributes(file, BasicFileAttributes.class).size();
+            if (Files.deleteIfExists(file)) {
+                hotFileCache.invalidate(file.toFile());
+                result.setDeleted(result.getDeleted() + 1);
+                result.setReclaimedBytes(result.getReclaimedBytes() + size);
+                log.debug("고아 파일 삭제: " + file);
+            }
+        } catch (NoSuchFileException e) {
+            // 다른 곳에서 이미 삭제됨
+        } catch (IOException e) {
+            result.setFailed(result.getFailed() + 1);
+            log.warn("고아 파일 삭제 실패: " + file, e);
+        }
+    }
+}
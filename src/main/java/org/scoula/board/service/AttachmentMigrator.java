@@ -0,0 +1,146 @@
+package org.scoula.board.service;
+
+import lombok.extern.log4j.Log4j2;
+import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.dto.StorageMigrateDTO;
+import org.scoula.board.mapper.BoardMapper;
+import org.scoula.common.cache.HotFileCache;
+import org.scoula.common.util.BlobStore;
+import org.scoula.common.util.StorageLayout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 첨부파일 저장 구조 이전 도구
+ * - 단일 디렉토리({base}/{name})에 저장된 기존 첨부파일을 해시 하위 디렉토리({base}/ab/cd/{name})로 이동
+ * - 첨부파일 행을 번호 순으로 batchSize개씩 읽어 파일 이동 후, 배치마다 UPDATE 한 번으로 path 갱신
+ * - 중단 후 다시 실행해도 안전 (이미 이동된 파일은 경로만 갱신, 이미 갱신된 행은 건너뜀)
+ * - 새 위치에 같은 내용의 파일이 이미 있으면 기존 파일만 삭제, 내용이 다르면 건너뛰고 경고
+ * - 건너뛴 파일 없이 끝나면 완료 표시 (StorageLayout.markMigrated) → 이후 기존 위치는 확인하지 않음
+ * - 고아 파일 정리(AttachmentCollector)와 동시에 실행하지 않음
+ */
+@Log4j2
+@Component
+public class AttachmentMigrator {
+    private final BoardMapper boardMapper;
+    private final AttachmentCollector collector;
+    private final HotFileCache hotFileCache;    // 옮긴 파일의 이전 경로 캐시 항목 제거
+    private final String baseDir;
+    private final int batchSize;
+
+    public AttachmentMigrator(
+            BoardMapper boardMapper,
+            AttachmentCollector collector,
+            HotFileCache hotFileCache,
+            @Value("${board.upload.dir:c:/upload/board}") String baseDir,
+            @Value("${board.collector.batch-size:500}") int batchSize) {
+        this.boardMapper = boardMapper;
+        this.collector = collector;
+        this.hotFileCache = hotFileCache;
+        this.baseDir = baseDir;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 저장 구조 이전 실행
+     * @return 이전 결과 (정리/이전 작업이 이미 실행 중이면 null)
+     */
+    public StorageMigrateDTO migrate() {
+        return collector.runExclusively("첨부파일 저장 구조 이전", () -> {
+            StorageMigrateDTO result = StorageMigrateDTO.builder().startedAt(new Date()).build();
+            long started = System.currentTimeMillis();
+            Path base = Paths.get(baseDir);
+
+            Long after = 0L;
+            List<BoardAttachmentVO> rows;
+            while (!(rows = boardMapper.getAttachmentsAfter(after, batchSize)).isEmpty()) {
+                after = rows.get(rows.size() - 1).getNo();
+
+                // 1. 파일 이동 (같은 파일을 공유하는 행은 한 번만)
+                Map<String, String> moved = new LinkedHashMap<>();
+                for (BoardAttachmentVO row : rows) {
+                    result.setScanned(result.getScanned() + 1);
+                    String path = row.getPath();
+                    if (moved.containsKey(path) || StorageLayout.isLaidOut(baseDir, path)) {
+                        continue;
+                    }
+                    Path source = Paths.get(path);
+                    if (!base.equals(source.getParent())) {
+                        continue;   // 다른 디렉토리의 파일은 대상 아님
+                    }
+                    Path target = StorageLayout.resolve(base, source.getFileName().toString());
+                    if (move(source, target, result)) {
+                        moved.put(path, target.toString());
+                    }
+                }
+
+                // 2. 배치의 경로를 UPDATE 한 번으로 갱신 (커넥션은 이 문장 동안만 사용)
+                if (!moved.isEmpty()) {
+                    result.setUpdated(result.getUpdated() + boardMapper.updateAttachmentPaths(moved));
+                }
+            }
+
+            // 3. 옮기지 못한 파일이 없으면 완료 표시
+            if (result.getConflicts() == 0) {
+                StorageLayout.markMigrated(baseDir);
+                result.setCompleted(true);
+            }
+
+            result.setElapsedMillis(System.currentTimeMillis() - started);
+            log.info("첨부파일 저장 구조 이전 " + (result.isCompleted() ? "완료" : "미완료") + ": 검사 "
+                    + result.getScanned() + "건, 이동 " + result.getMoved() + "개, 경로 갱신 " + result.getUpdated()
+                    + "건, 파일 없음 " + result.getMissing() + "건, 충돌 " + result.getConflicts() + "개, "
+                    + result.getElapsedMillis() + "ms");
+            return result;
+        });
+    }
+
+    /**
+     * 파일을 새 위치로 이동
+     * - 새 위치에 이미 파일이 있으면 덮어쓰지 않음 (원자적 이동은 운영체제에 따라 덮어쓰거나 실패)
+     *   → 내용이 같으면 기존 파일만 삭제, 다르면 건너뜀
+     * @return 이동 후 새 위치에 파일이 있으면 true (이전 실행에서 이미 이동된 경우 포함)
+     */
+    private boolean move(Path source, Path target, StorageMigrateDTO result) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            if (Files.exists(target)) {
+                return deduplicate(source, target, result);
+            }
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            hotFileCache.invalidate(source.toFile());
+            result.setMoved(result.getMoved() + 1);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return deduplicate(source, target, result);     // 확인 후 이동 전에 새 위치에 파일이 생김
+        } catch (NoSuchFileException e) {
+            if (Files.exists(target)) {
+                return true;    // 파일 이동 후 경로 갱신 전에 중단된 이전 실행
+            }
+            result.setMissing(result.getMissing() + 1);
+            log.warn("첨부파일이 없습니다: " + source);
+            return false;
+        }
+    }
+
+    // 새 위치에 이미 있는 파일과 내용이 같으면 기존 위치의 파일 삭제
+    private boolean deduplicate(Path source, Path target, StorageMigrateDTO result) throws IOException {
+        if (Files.size(source) != Files.size(target)
+                || !BlobStore.digestOf(source).equals(BlobStore.digestOf(target))) {
+            result.setConflicts(result.getConflicts() + 1);
+            log.warn("새 위치에 내용이 다른 파일이 있어 이동하지 않습니다: " + source + " → " + target);
+            return false;
+        }
+        Files.delete(source);
+        hotFileCache.invalidate(source.toFile());
+        result.setMoved(result.getMoved() + 1);
+        return true;
+    }
+}
@@ -0,0 +1,35 @@
+package org.scoula.board.service;
+
+import org.scoula.common.pagination.PageRequest;
+
+public interface BoardCountService {
+    /**
+     * 전체 게시글 수 (메모리에 유지되는 정확한 값)
+     * @return 전체 게시글 수
+     */
+    int getTotalCount();
+
+    /**
+     * 검색 조건을 포함한 게시글 수 (정규화된 검색 조건별로 TTL 동안 캐시)
+     * @param pageRequest 검색 조건
+     * @return 검색된 게시글 수
+     */
+    int getTotalCountWithSearch(PageRequest pageRequest);
+
+    /**
+     * 검색 조건을 포함한 근사 게시글 수
+     * - 최대 PageRequest.APPROX_COUNT_LIMIT + 1 건까지만 세므로 결과가 많아도 비용이 제한됨
+     * @param pageRequest 검색 조건
+     * @return 게시글 수 (APPROX_COUNT_LIMIT 초과 시 APPROX_COUNT_LIMIT + 1)
+     */
+    int getApproximateCountWithSearch(PageRequest pageRequest);
+
+    // 게시글 등록 반영 (커밋 후 전체 건수 +1, 검색 건수 캐시 초기화)
+    void onCreated();
+
+    // 게시글 수정 반영 (검색 건수 캐시 초기화)
+    void onUpdated();
+
+    // 게시글 삭제 반영 (커밋 후 전체 건수 -1, 검색 건수 캐시 초기화)
+    void onDeleted();
+}
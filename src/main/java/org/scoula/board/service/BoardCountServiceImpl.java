@@ -0,0 +1,147 @@
+package org.scoula.board.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.scoula.board.mapper.BoardMapper;
+import org.scoula.common.pagination.PageRequest;
+import org.scoula.common.util.Transactions;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class BoardCountServiceImpl implements BoardCountService {
+
+    private final BoardMapper boardMapper;
+
+    // 검색 건수 캐시 유지 시간 (30초)
+    private final static long SEARCH_COUNT_TTL = 30 * 1000L;
+
+    // 전체 건수 재동기화 주기 (10분) - 외부에서 직접 변경된 데이터 보정용
+    private final static long TOTAL_COUNT_RESYNC = 10 * 60 * 1000L;
+
+    // 검색 건수 캐시 최대 항목 수
+    private final static int MAX_SEARCH_ENTRIES = 1000;
+
+    // 전체 게시글 수 (-1: 아직 로드되지 않음)
+    private final AtomicInteger totalCount = new AtomicInteger(-1);
+    private volatile long totalLoadedAt;
+
+    // 정규화된 검색 조건 → 건수
+    private final Map<String, CountEntry> searchCounts = new ConcurrentHashMap<>();
+
+    // 검색 건수 캐시 항목
+    private static class CountEntry {
+        final int count;
+        final boolean exact;        // false: 상한까지만 센 근사값
+        final long expireAt;
+
+        CountEntry(int count, boolean exact) {
+            this.count = count;
+            this.exact = exact;
+            this.expireAt = System.currentTimeMillis() + SEARCH_COUNT_TTL;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expireAt;
+        }
+    }
+
+    // 전체 게시글 수
+    @Override
+    public int getTotalCount() {
+        int count = totalCount.get();
+        if (count < 0 || System.currentTimeMillis() - totalLoadedAt > TOTAL_COUNT_RESYNC) {
+            count = boardMapper.getTotalCount();
+            totalCount.set(count);
+            totalLoadedAt = System.currentTimeMillis();
+            log.info("전체 게시글 수 로드: " + count);
+        }
+        return count;
+    }
+
+    // 검색 조건을 포함한 게시글 수
+    @Override
+    public int getTotalCountWithSearch(PageRequest pageRequest) {
+        String key = normalize(pageRequest);
+        CountEntry entry = searchCounts.get(key);
+        if (entry != null && entry.exact && !entry.isExpired()) {
+            return entry.count;
+        }
+
+        int count = boardMapper.getTotalCountWithSearch(pageRequest);
+        put(key, new CountEntry(count, true));
+        return count;
+    }
+
+    // 검색 조건을 포함한 근사 게시글 수
+    @Override
+    public int getApproximateCountWithSearch(PageRequest pageRequest) {
+        String key = normalize(pageRequest);
+        CountEntry entry = searchCounts.get(key);
+        if (entry != null && !entry.isExpired()) {
+            return Math.min(entry.count, PageRequest.APPROX_COUNT_LIMIT + 1);
+        }
+
+        // 상한 + 1 건까지만 세어 상한 초과 여부만 판단
+        int count = boardMapper.getTotalCountWithSearchLimit(pageRequest);
+        put(key, new CountEntry(count, count <= PageRequest.APPROX_COUNT_LIMIT));
+        return count;
+    }
+
+    @Override
+    public void onCreated() {
+        Transactions.afterCommit(() -> {
+            totalCount.updateAndGet(count -> count < 0 ? count : count + 1);
+            searchCounts.clear();
+        });
+    }
+
+    @Override
+    public void onUpdated() {
+        Transactions.afterCommit(searchCounts::clear);
+    }
+
+    @Override
+    public void onDeleted() {
+        Transactions.afterCommit(() -> {
+            totalCount.updateAndGet(count -> count <= 0 ? count : count - 1);
+            searchCounts.clear();
+        });
+    }
+
+    // 캐시 저장 (최대 항목 수 초과 시 만료 항목 정리, 그래도 넘치면 전체 초기화)
+    private void put(String key, CountEntry entry) {
+        if (searchCounts.size() >= MAX_SEARCH_ENTRIES) {
+            searchCounts.values().removeIf(CountEntry::isExpired);
+            if (searchCounts.size() >= MAX_SEARCH_ENTRIES) {
+                searchCounts.clear();
+            }
+        }
+        searchCounts.put(key, entry);
+    }
+
+    /**
+     * 검색 조건 정규화
+     * - 검색 타입은 SQL에서 사용하는 T/C/W 문자만 정렬하여 사용 (TC와 CT는 같은 조건)
+     * - 키워드는 소문자로 변환 (DB 비교가 대소문자를 구분하지 않음)
+     * - 필터(작성자, 등록일 범위, 첨부파일 유무)는 그대로 포함
+     */
+    private String normalize(PageRequest pageRequest) {
+        String type = pageRequest.getType() == null ? "" : pageRequest.getType();
+        StringBuilder types = new StringBuilder();
+        for (char c : new char[]{'C', 'T', 'W'}) {
+            if (type.indexOf(c) >= 0) types.append(c);
+        }
+
+        String keyword = pageRequest.getKeyword() == null ? "" : pageRequest.getKeyword().toLowerCase(Locale.ROOT);
+
+        return types + "|" + keyword + "|" + pageRequest.getWriter() + "|" + pageRequest.getFrom()
+                + "|" + pageRequest.getTo() + "|" + pageRequest.getHasAttachment();
+    }
+}
@@ -0,0 +1,154 @@
+package org.scoula.board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.log4j.Log4j2;
+import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.dto.BoardDTO;
+import org.scoula.board.dto.CacheStatsDTO;
+import org.scoula.common.concurrent.SingleFlight;
+import org.scoula.common.util.Transactions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 상세(BoardDTO) 읽기 캐시
+ * - Caffeine의 W-TinyLFU 정책으로 자주 조회되는 게시글을 우선 보존
+ * - 항목 수가 아닌 추정 바이트 크기로 전체 용량 제한
+ * - 수정/삭제/첨부파일 변경 시 커밋 후 무효화, 무효화가 누락되어도 expireAfterWrite 후에는 다시 로드
+ * - 캐시에는 복사본을 보관하고 조회할 때마다 복사본을 반환 → 호출자가 DTO를 변경해도 캐시는 그대로
+ * - 캐시 미스 시 같은 게시글에 대한 동시 DB 조회는 하나로 병합(single-flight)
+ */
+@Log4j2
+@Component
+public class BoardDetailCache {
+
+    private final Cache<Long, BoardDTO> cache;
+
+    // 캐시 미스 시 동시 DB 조회 병합
+    private final SingleFlight<Long, BoardDTO> singleFlight = new SingleFlight<>();
+
+    // 게시글별 무효화 버전 (키 해시로 나눈 고정 크기 배열 → 게시글 수와 관계없이 메모리 일정)
+    //  - 로드 도중 같은 게시글(같은 칸)이 무효화되면 (변경 전일 수 있는) 로드 결과를 캐시에 넣지 않음
+    //  - 다른 게시글의 무효화는 대부분 다른 칸이므로 진행 중인 로드에 영향 없음
+    private static final int VERSION_SLOTS = 1024;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_SLOTS);
+
+    public BoardDetailCache(
+            @Value("${board.cache.max-bytes:67108864}") long maxBytes,         // 기본 64MB
+            @Value("${board.cache.ttl-millis:600000}") long ttlMillis) {      // 저장 후 유지 시간 (기본 10분)
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long no, BoardDTO board) -> weigh(board))
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+        log.info("게시글 상세 캐시 생성: 최대 " + maxBytes + " bytes, 유지 " + ttlMillis + "ms");
+    }
+
+    /**
+     * 캐시 조회 (없으면 loader로 로드 후 저장)
+     * - 같은 키에 대한 동시 로드는 하나로 합쳐짐 (DB 조회는 한 번만 실행)
+     * - 로드 중에는 캐시 잠금을 잡지 않으므로 느린 조회가 다른 게시글 조회를 막지 않음
+     * @param no 게시글 번호
+     * @param loader 캐시 미스 시 DB 조회 함수 (null 반환 시 저장하지 않음)
+     * @return 게시글 DTO 복사본 (없으면 null)
+     */
+    public BoardDTO get(Long no, Function<Long, BoardDTO> loader) {
+        BoardDTO board = cache.getIfPresent(no);
+        if (board != null) {
+            return copyOf(board);
+        }
+
+        // 병합된 요청들이 같은 결과를 공유하므로 저장은 복사본, 반환도 요청마다 복사본
+        BoardDTO loaded = singleFlight.load(no, key -> {
+            long loadVersion = versions.get(slotOf(key));
+            BoardDTO result = loader.apply(key);
+            if (result != null) {
+                // 버전 확인과 저장을 키 단위 원자적 연산으로 실행 (invalidate의 compute와 직렬화)
+                BoardDTO snapshot = copyOf(result);
+                cache.asMap().compute(key, (k, current) ->
+                        versions.get(slotOf(k)) == loadVersion ? snapshot : current);
+            }
+            return result;
+        });
+        return loaded == null ? null : copyOf(loaded);
+    }
+
+    // 캐시된 게시글 조회 (로드하지 않고 통계에도 반영하지 않음, 없으면 null)
+    public BoardDTO peek(Long no) {
+        BoardDTO board = cache.policy().getIfPresentQuietly(no);
+        return board == null ? null : copyOf(board);
+    }
+
+    // 게시글 캐시 무효화 (트랜잭션 중이면 커밋 후)
+    public void invalidate(Long no) {
+        Transactions.afterCommit(() -> {
+            singleFlight.forget(no);   // 이후 요청은 진행 중인 (변경 전) 로드를 공유하지 않음
+            // 버전 증가와 제거를 같은 키의 compute 안에서 실행 → 로드 결과 저장과 겹치지 않음
+            cache.asMap().compute(no, (k, current) -> {
+                versions.incrementAndGet(slotOf(k));
+                return null;
+            });
+        });
+    }
+
+    // 캐시 통계 (hit/miss/eviction)
+    public CacheStatsDTO getStats() {
+        CacheStatsDTO stats = CacheStatsDTO.of(cache.stats(), cache.estimatedSize(),
+                cache.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L));
+        stats.setLoadCount(singleFlight.getLoadCount());
+        stats.setCoalescedCount(singleFlight.getSharedCount());
+        return stats;
+    }
+
+    // 무효화 버전 칸 번호
+    private static int slotOf(Long no) {
+        return Math.floorMod(Long.hashCode(no), VERSION_SLOTS);
+    }
+
+    // 게시글 DTO 복사 (첨부파일 목록과 날짜까지 새 객체, 문자열은 불변이므로 공유)
+    private static BoardDTO copyOf(BoardDTO board) {
+        return BoardDTO.builder()
+                .no(board.getNo())
+                .title(board.getTitle())
+                .content(board.getContent())
+                .writer(board.getWriter())
+                .regDate(copyOf(board.getRegDate()))
+                .updateDate(copyOf(board.getUpdateDate()))
+                .attaches(board.getAttaches() == null ? null : board.getAttaches().stream()
+                        .map(attach -> attach.toBuilder()
+                                .regDate(copyOf(attach.getRegDate()))
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private static Date copyOf(Date date) {
+        return date == null ? null : new Date(date.getTime());
+    }
+
+    /**
+     * 게시글 DTO의 메모리 크기 추정 (바이트)
+     * - 문자열은 문자당 2바이트 + 객체 헤더, 첨부파일은 항목별 고정 크기 + 문자열 크기로 계산
+     */
+    private static int weigh(BoardDTO board) {
+        long size = 96 + sizeOf(board.getTitle()) + sizeOf(board.getContent()) + sizeOf(board.getWriter());
+        if (board.getAttaches() != null) {
+            for (BoardAttachmentVO attach : board.getAttaches()) {
+                size += 96 + sizeOf(attach.getFilename()) + sizeOf(attach.getPath()) + sizeOf(attach.getContentType());
+            }
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    private static long sizeOf(String value) {
+        return value == null ? 0 : 40 + 2L * value.length();
+    }
+}
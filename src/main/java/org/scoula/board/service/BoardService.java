@@ -2,9 +2,13 @@ package org.scoula.board.service;
 
 import org.scoula.board.domain.BoardAttachmentVO;
 import org.scoula.board.dto.BoardDTO;
+import org.scoula.board.dto.BoardSummaryDTO;
+import org.scoula.board.export.BoardExportFormat;
 import org.scoula.common.pagination.Page;
 import org.scoula.common.pagination.PageRequest;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface BoardService {
@@ -14,6 +18,16 @@ public interface BoardService {
      */
     public List<BoardDTO> getList();
 
+    /**
+     * 전체 게시글 내보내기 (스트리밍)
+     * - DB 커서로 한 건씩 읽어 바로 출력 → 게시글 수와 관계없이 일정한 메모리 사용
+     * @param format 내보내기 형식 (NDJSON, CSV)
+     * @param out 출력 스트림 (응답 스트림)
+     * @return 내보낸 게시글 수
+     * @throws IOException 출력 실패 시 (클라이언트 연결 종료 포함)
+     */
+    public long export(BoardExportFormat format, OutputStream out) throws IOException;
+
     /**
      * 특정 게시글 조회
      * @param no 게시글 번호
@@ -21,20 +35,29 @@ public interface BoardService {
      */
     public BoardDTO get(Long no);
 
+    /**
+     * 게시글 상세 ETag 조회 (본문 조회 없이 버전 정보로 계산)
+     * @param no 게시글 번호
+     * @return 강한 ETag (없는 게시글이면 NoSuchElementException)
+     */
+    public String getETag(Long no);
+
     /* *** CUD 메서드 - 처리된 객체를 반환하도록 변경 *** */
     /**
      * 게시글 등록
      * @param board 등록할 게시글 DTO
+     * @param username 요청 사용자 (uploadIds는 이 사용자의 업로드만 첨부 가능)
      * @return 삽입 처리된 객체를 반환
      */
-    public BoardDTO create(BoardDTO board);    // 생성된 객체 반환
+    public BoardDTO create(BoardDTO board, String username);    // 생성된 객체 반환
 
     /**
      * 게시글 수정
      * @param board 수정할 게시글 DTO
+     * @param username 요청 사용자 (uploadIds는 이 사용자의 업로드만 첨부 가능)
      * @return 수정 처리된 객체를 반환
      */
-    public BoardDTO update(BoardDTO board);
+    public BoardDTO update(BoardDTO board, String username);
 
     /**
      * 게시글 삭제
@@ -47,12 +70,25 @@ public interface BoardService {
 
     // 첨부파일 관련 메서드 추가
     public BoardAttachmentVO getAttachment(Long no);
+
+    /**
+     * 게시글의 첨부파일 목록 조회 (전체 다운로드용, 조회 한 번)
+     * @param bno 게시글 번호
+     * @return 첨부파일 목록 (없으면 NoSuchElementException)
+     */
+    public List<BoardAttachmentVO> getAttachmentList(Long bno);
     public boolean deleteAttachment(Long no);
 
 
-    // 페이징된 게시글 목록 조회
-    Page<BoardDTO> getPage(PageRequest pageRequest);
+    // 페이징된 게시글 목록 조회 (목록 항목은 요약 정보)
+    Page<BoardSummaryDTO> getPage(PageRequest pageRequest);
 
     // 검색 조건을 포함한 페이징된 게시글 목록 조회
-    Page<BoardDTO> getPageWithSearch(PageRequest pageRequest);
+    Page<BoardSummaryDTO> getPageWithSearch(PageRequest pageRequest);
+
+    // 커서(keyset) 기반 게시글 목록 조회 (검색 조건 포함, 전체 건수 미계산)
+    Page<BoardSummaryDTO> getCursorPage(PageRequest pageRequest);
+
+    // 목록 ETag 조회 (목록 조회 없이 목록 버전 + 요청 조건으로 계산)
+    String getListETag(PageRequest pageRequest);
 }
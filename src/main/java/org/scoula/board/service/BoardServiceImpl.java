@@ -2,21 +2,44 @@ package org.scoula.board.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.ibatis.cursor.Cursor;
 import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.domain.BoardSummaryVO;
 import org.scoula.board.domain.BoardVO;
+import org.scoula.board.domain.BoardVersionVO;
 import org.scoula.board.dto.BoardDTO;
+import org.scoula.board.dto.BoardSummaryDTO;
+import org.scoula.board.export.BoardExportFormat;
+import org.scoula.board.export.BoardExportWriter;
 import org.scoula.board.mapper.BoardMapper;
+import org.scoula.common.cache.HotFileCache;
+import org.scoula.common.concurrent.FileIoExecutor;
+import org.scoula.common.concurrent.PageQueryExecutor;
+import org.scoula.common.image.ImageVariants;
 import org.scoula.common.pagination.Page;
+import org.scoula.common.pagination.PageCursor;
 import org.scoula.common.pagination.PageRequest;
-import org.scoula.common.util.UploadFiles;
+import org.scoula.common.util.BlobStore;
+import org.scoula.common.util.ETags;
+import org.scoula.common.util.Transactions;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Log4j2                      // 로깅
@@ -25,9 +48,27 @@ import java.util.stream.Collectors;
 public class BoardServiceImpl implements BoardService {
 
     private final BoardMapper boardMapper;  // Mapper 의존성 주입
-
-    // 파일 저장될 디렉토리 경로
-    private final static String BASE_DIR = "c:/upload/board";
+    private final BoardCountService countService;  // 게시글 수 캐시
+    private final BoardDetailCache detailCache;    // 게시글 상세 캐시
+    private final PageQueryExecutor pageQueryExecutor;  // 목록/건수 쿼리 동시 실행
+    private final UploadSessionService uploadSessionService;  // 분할 업로드 세션
+    private final FileIoExecutor fileIoExecutor;   // 첨부파일 동시 저장
+    private final ImageVariants imageVariants;     // 이미지 첨부파일 썸네일
+    private final HotFileCache hotFileCache;       // 자주 요청되는 첨부파일 캐시 (삭제 시 제거)
+
+    // 파일 저장될 디렉토리 경로 (AttachmentCollector, UploadSessionServiceImpl과 같은 설정)
+    @Value("${board.upload.dir:c:/upload/board}")
+    private String baseDir;
+
+    // 참조가 없어진 파일이라도 방금 재사용된 파일은 삭제하지 않는 보호 시간 (기본 5분)
+    //  - 동시에 같은 내용을 올린 업로드가 아직 커밋 전인 경우만 보호 → 건너뛴 파일은 AttachmentCollector가 삭제
+    @Value("${board.upload.release-grace:300000}")
+    private long releaseGraceMillis;
+
+    // 텍스트/CSV/JSON 등 압축 효과가 있는 첨부파일을 gzip으로 저장 (다운로드 시 그대로 전송)
+    //  - 기본 비활성화: 켜면 새 업로드의 저장 형식이 바뀌고, 압축 저장 파일은 sendfile 대신 협상/압축 해제 경로로 전송
+    @Value("${board.upload.compress:false}")
+    private boolean compressAttachments;
 
     // 목록 조회 서비스
     @Override
@@ -39,18 +80,69 @@ public class BoardServiceImpl implements BoardService {
                 .toList();                       // Stream<BoardDTO> → List<BoardDTO>
     }
 
+    // 전체 게시글 내보내기 서비스
+    //  - Cursor는 SqlSession이 열려 있는 동안만 읽을 수 있으므로 트랜잭션 안에서 끝까지 기록
+    //  - 출력 실패(클라이언트 연결 종료) 시 IOException으로 즉시 중단하고 커서를 닫음
+    //    (MySQL 드라이버는 스트리밍 결과를 닫을 때 남은 행을 읽어 버리지만 메모리에 쌓지는 않음)
+    @Transactional(readOnly = true)
+    @Override
+    public long export(BoardExportFormat format, OutputStream out) throws IOException {
+        log.info("export......" + format);
+
+        long count = 0;
+        try (Cursor<BoardVO> cursor = boardMapper.getListCursor();
+             BoardExportWriter writer = format.open(out)) {
+            for (BoardVO board : cursor) {
+                writer.write(board);
+                count++;
+            }
+        }
+        return count;
+    }
+
     // 단일 조회 서비스
     @Override
     public BoardDTO get(Long no) {
         log.info("get......" + no);
 
-        BoardVO vo = boardMapper.get(no);                // DB에서 VO 조회
-        BoardDTO dto = BoardDTO.of(vo);                 // VO → DTO 변환
+        BoardDTO dto = detailCache.get(no, this::load);  // 캐시 조회 (미스 시 DB 조회 후 저장)
 
         return Optional.ofNullable(dto)                 // null 안전성 처리
                 .orElseThrow(NoSuchElementException::new);  // 없으면 예외 발생
     }
 
+    // DB에서 게시글 + 첨부파일 조회 (캐시 미사용)
+    private BoardDTO load(Long no) {
+        BoardVO vo = boardMapper.get(no);                // DB에서 VO 조회
+        return BoardDTO.of(vo);                          // VO → DTO 변환
+    }
+
+    // 게시글 상세 ETag 조회
+    @Override
+    public String getETag(Long no) {
+        // 1. 캐시에 있으면 DB 조회 없이 계산, 없으면 버전 쿼리 (본문/첨부파일 컬럼 미조회)
+        BoardDTO cached = detailCache.peek(no);
+        BoardVersionVO version = cached != null ? versionOf(cached) : boardMapper.getVersion(no);
+
+        return Optional.ofNullable(version)
+                .map(BoardVersionVO::toETag)
+                .orElseThrow(NoSuchElementException::new);
+    }
+
+    // 게시글 DTO의 버전 정보 (getVersion 쿼리 결과와 같은 값이 되도록 계산)
+    private static BoardVersionVO versionOf(BoardDTO board) {
+        List<BoardAttachmentVO> attaches = board.getAttaches() == null ? List.of() : board.getAttaches();
+        return BoardVersionVO.builder()
+                .no(board.getNo())
+                .updateDate(board.getUpdateDate())
+                .attachCount(attaches.size())
+                .lastAttachNo(attaches.stream()
+                        .map(BoardAttachmentVO::getNo)
+                        .max(Long::compare)
+                        .orElse(null))
+                .build();
+    }
+
 
     /* *** CUD 메서드 - 처리된 객체를 반환하도록 변경 *** */
 
@@ -58,29 +150,35 @@ public class BoardServiceImpl implements BoardService {
     // 게시글 등록 서비스
     @Transactional   // 여러 DB 작업을 하나의 트랜잭션으로 처리
     @Override
-    public BoardDTO create(BoardDTO board) {
+    public BoardDTO create(BoardDTO board, String username) {
         log.info("create......" + board);
 
         // 1. 게시글 등록
         BoardVO vo = board.toVo();         // DTO → VO 변환
         boardMapper.create(vo);            // DB에 저장
+        countService.onCreated();          // 커밋 후 게시글 수 반영
 
         // 2. 첨부파일 처리
         List<MultipartFile> files = board.getFiles();
         if (files != null && !files.isEmpty()) {
             upload(vo.getNo(), files);  // 게시글 번호가 필요하므로 게시글 등록 후 처리
         }
+        attachUploads(vo.getNo(), board.getUploadIds(), username);  // 분할 업로드로 완료된 파일 연결
 
         // 생성된 게시글의 전체 정보를 반환
-        return get(vo.getNo());
+        // (커밋 전이므로 캐시에 넣지 않고 DB에서 직접 조회 - 롤백 시 캐시 오염 방지)
+        return Optional.ofNullable(load(vo.getNo()))
+                .orElseThrow(NoSuchElementException::new);
     }
 
     // 게시글 수정 서비스
     @Override
-    public BoardDTO update(BoardDTO board) {
+    public BoardDTO update(BoardDTO board, String username) {
         log.info("update......" + board);
 
         boardMapper.update(board.toVo());  // 게시글 수정 수행
+        countService.onUpdated();          // 검색 건수 캐시 초기화
+        detailCache.invalidate(board.getNo());  // 상세 캐시 무효화
 
         /* ----- 추가 ----- */
         // 파일 업로드처리
@@ -88,6 +186,7 @@ public class BoardServiceImpl implements BoardService {
         if(files!=null&&!files.isEmpty()){
             upload(board.getNo(), files);
         }
+        attachUploads(board.getNo(), board.getUploadIds(), username);
 
         // 수정된 게시글 정보를 반환
         return get(board.getNo());
@@ -102,8 +201,13 @@ public class BoardServiceImpl implements BoardService {
         // 삭제 전에 게시글 정보를 미리 조회
         BoardDTO board = get(no);
 
-        // 실제 삭제 수행
-        boardMapper.delete(no);
+        // 실제 삭제 수행 (첨부파일 행은 ON DELETE CASCADE로 함께 삭제)
+        if (boardMapper.delete(no) == 1) {
+            boardMapper.countDeleted();    // 목록 버전 변경 (목록 ETag)
+            countService.onDeleted();      // 게시글 수 반영
+            releaseBlobs(board.getAttaches());  // 참조가 없어진 파일 삭제
+        }
+        detailCache.invalidate(no);        // 상세 캐시 무효화
 
         // 삭제된 게시글 정보를 반환
         return board;
@@ -119,71 +223,257 @@ public class BoardServiceImpl implements BoardService {
         return boardMapper.getAttachment(no);
     }
 
+    // 게시글의 첨부파일 목록 조회
+    @Override
+    public List<BoardAttachmentVO> getAttachmentList(Long bno) {
+        List<BoardAttachmentVO> attaches = boardMapper.getAttachmentList(bno);
+        if (attaches.isEmpty()) {
+            throw new NoSuchElementException("첨부파일이 없습니다: " + bno);
+        }
+        return attaches;
+    }
+
     // 첨부파일 삭제
     @Override
     public boolean deleteAttachment(Long no) {
-        return boardMapper.deleteAttachment(no) == 1;
+        BoardAttachmentVO attach = boardMapper.getAttachment(no);
+        if (attach == null) {
+            return false;
+        }
+
+        boolean deleted = boardMapper.deleteAttachment(no) == 1;
+        detailCache.invalidate(attach.getBno());  // 첨부파일 목록이 바뀌었으므로 상세 캐시 무효화
+        if (deleted) {
+            boardMapper.touch(attach.getBno());   // 목록의 첨부파일 수가 바뀌었으므로 목록 버전 갱신
+            releaseBlobs(List.of(attach));        // 다른 첨부파일이 참조하지 않으면 파일 삭제
+        }
+        return deleted;
+    }
+
+    /**
+     * 첨부파일 행 삭제 후 참조가 없어진 파일 삭제 (커밋 후 실행)
+     * - 같은 내용의 파일은 여러 첨부파일이 공유하므로 digest 참조 수가 0일 때만 삭제
+     * - digest가 없는 기존 첨부파일은 대상에서 제외
+     */
+    private void releaseBlobs(List<BoardAttachmentVO> attaches) {
+        if (attaches == null || attaches.isEmpty()) {
+            return;
+        }
+        Transactions.afterCommit(() -> attaches.stream()
+                .map(BoardAttachmentVO::getDigest)
+                .filter(Objects::nonNull)
+                .distinct()
+                .filter(digest -> boardMapper.countAttachmentsByDigest(digest) == 0)
+                .forEach(digest -> {
+                    try {
+                        if (BlobStore.deleteIfIdle(baseDir, digest, releaseGraceMillis)) {
+                            attaches.stream()
+                                    .filter(attach -> digest.equals(attach.getDigest()))
+                                    .forEach(attach -> hotFileCache.invalidate(new File(attach.getPath())));
+                            log.info("참조가 없는 첨부파일 삭제: " + digest);
+                        } else {
+                            log.debug("최근 재사용된 첨부파일 삭제 보류 (AttachmentCollector 정기 정리 대상): " + digest);
+                        }
+                    } catch (IOException e) {
+                        log.warn("첨부파일 삭제 실패, AttachmentCollector 정기 정리에서 다시 확인: " + digest, e);
+                    }
+                }));
     }
 
 
     /**
      * 파일 업로드 처리 (private 메서드)
+     * - 파일 저장은 I/O 실행기에서 동시에, 첨부파일 행은 multi-row INSERT 한 번으로 등록
+     * - 저장 실패, INSERT 실패, 트랜잭션 롤백 시 이번에 새로 저장한 파일 삭제
      * @param bno 게시글 번호
      * @param files 업로드할 파일 목록
      */
     private void upload(Long bno, List<MultipartFile> files) {
-        for (MultipartFile part : files) {
-            // 빈 파일은 건너뛰기
-            if (part.isEmpty()) continue;
+        // 빈 파일은 건너뛰기
+        List<MultipartFile> parts = files.stream()
+                .filter(part -> !part.isEmpty())
+                .toList();
+        if (parts.isEmpty()) {
+            return;
+        }
+
+        // 1. 파일을 서버에 동시에 저장 (같은 내용의 파일이 이미 있으면 재사용)
+        List<Future<BlobStore.Blob>> results = fileIoExecutor.invokeAll(parts.stream()
+                .map(part -> (Callable<BlobStore.Blob>) () -> BlobStore.put(baseDir, part, compressAttachments))
+                .toList());
 
+        List<BlobStore.Blob> blobs = new ArrayList<>(parts.size());
+        Throwable failure = null;
+        for (Future<BlobStore.Blob> result : results) {
             try {
-                // 파일을 서버에 저장
-                String uploadPath = UploadFiles.upload(BASE_DIR, part);
+                blobs.add(result.get());
+            } catch (ExecutionException e) {
+                failure = e.getCause();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            discardBlobs(blobs);
+            // @Transactional이 감지할 수 있도록 RuntimeException으로 변환
+            throw new RuntimeException(failure);
+        }
+        Transactions.afterRollback(() -> discardBlobs(blobs));
+
+        // 2. 첨부파일 정보를 DB에 한 번에 저장 (digest로 파일 참조)
+        List<BoardAttachmentVO> attaches = new ArrayList<>(parts.size());
+        for (int i = 0; i < parts.size(); i++) {
+            attaches.add(BoardAttachmentVO.of(parts.get(i), bno, blobs.get(i)));
+        }
+        try {
+            boardMapper.createAttachments(attaches);
+        } catch (RuntimeException e) {
+            discardBlobs(blobs);    // 트랜잭션 밖에서 호출된 경우(게시글 수정)에도 정리
+            throw e;
+        }
+        prepareImageVariants(attaches);
 
-                // 첨부파일 정보를 DB에 저장
-                BoardAttachmentVO attach = BoardAttachmentVO.of(part, bno, uploadPath);
-                boardMapper.createAttachment(attach);
+        // 첨부파일 목록이 바뀌었으므로 목록 버전 갱신, 상세 캐시 무효화
+        boardMapper.touch(bno);
+        detailCache.invalidate(bno);
+    }
+
+    // 이미지 첨부파일의 썸네일을 커밋 후 백그라운드에서 미리 생성 (목록 화면 첫 요청 지연 방지)
+    private void prepareImageVariants(List<BoardAttachmentVO> attaches) {
+        List<BoardAttachmentVO> images = attaches.stream()
+                .filter(BoardAttachmentVO::isImage)
+                .toList();
+        if (!images.isEmpty()) {
+            Transactions.afterCommit(() -> images.forEach(image ->
+                    imageVariants.generateAsync(new File(image.getPath()), image.getDigest())));
+        }
+    }
 
+    // 이번 요청에서 새로 저장한 파일 삭제 (다른 첨부파일과 공유 중인 재사용 파일은 유지)
+    private void discardBlobs(List<BlobStore.Blob> blobs) {
+        for (BlobStore.Blob blob : blobs) {
+            try {
+                if (BlobStore.discard(blob)) {
+                    log.info("저장 취소된 첨부파일 삭제: " + blob.getDigest());
+                }
             } catch (IOException e) {
-                // @Transactional이 감지할 수 있도록 RuntimeException으로 변환
-                throw new RuntimeException(e);
+                log.warn("첨부파일 삭제 실패: " + blob.getPath(), e);
             }
         }
     }
 
 
+    /**
+     * 분할 업로드로 완료된 파일을 첨부파일로 연결 (private 메서드)
+     * - 파일은 업로드 완료 시 이미 저장소에 있으므로 첨부파일 행만 추가
+     * - 커밋 후 업로드 세션 정리 (롤백되면 세션이 남아 같은 ID로 다시 첨부 가능)
+     * @param bno 게시글 번호
+     * @param uploadIds 완료된 업로드 세션 ID 목록
+     * @param username 요청 사용자 (다른 사용자의 업로드 ID면 IllegalArgumentException)
+     */
+    private void attachUploads(Long bno, List<String> uploadIds, String username) {
+        if (uploadIds == null || uploadIds.isEmpty()) {
+            return;
+        }
+        List<BoardAttachmentVO> attaches = uploadIds.stream()
+                .map(id -> uploadSessionService.toAttachment(id, bno, username))
+                .toList();
+        boardMapper.createAttachments(attaches);
+        prepareImageVariants(attaches);
+        Transactions.afterCommit(() -> uploadIds.forEach(uploadSessionService::release));
+
+        // 첨부파일 목록이 바뀌었으므로 목록 버전 갱신, 상세 캐시 무효화
+        boardMapper.touch(bno);
+        detailCache.invalidate(bno);
+    }
 
 
     // 페이징된 게시글 목록 조회
     @Override
-    public Page<BoardDTO> getPage(PageRequest pageRequest) {
-        // 1. 페이징된 게시글 목록 조회
-        List<BoardVO> boards = boardMapper.getPage(pageRequest);
+    public Page<BoardSummaryDTO> getPage(PageRequest pageRequest) {
+        // 1. 페이징된 게시글 목록 조회 (요약 컬럼만)
+        List<BoardSummaryVO> boards = boardMapper.getPage(pageRequest);
 
-        // 2. 전체 게시글 수 조회
-        int totalCount = boardMapper.getTotalCount();
+        // 2. 전체 게시글 수 조회 (메모리에 유지되는 값 사용, COUNT 쿼리 생략)
+        int totalCount = countService.getTotalCount();
 
         // 3. VO를 DTO로 변환하고 Page 객체 생성
         return Page.of(pageRequest, totalCount,
                 boards.stream()
-                        .map(BoardDTO::of)  // VO → DTO 변환
+                        .map(BoardSummaryDTO::of)  // VO → DTO 변환
                         .toList());
     }
 
     // 검색 조건을 포함한 페이징된 게시글 목록 조회
     @Override
-    public Page<BoardDTO> getPageWithSearch(PageRequest pageRequest) {
-        // 1. 검색 조건을 포함한 페이징된 게시글 목록 조회
-        List<BoardVO> boards = boardMapper.getPageWithSearch(pageRequest);
+    public Page<BoardSummaryDTO> getPageWithSearch(PageRequest pageRequest) {
+        // 1. 검색 조건을 포함한 페이징된 게시글 목록 조회 (요약 컬럼만)
+        Supplier<List<BoardSummaryDTO>> pageQuery = () -> boardMapper.getPageWithSearch(pageRequest).stream()
+                .map(BoardSummaryDTO::of)  // VO → DTO 변환
+                .collect(Collectors.toList());
+
+        // 2. 검색 조건을 포함한 전체 게시글 수 조회 (캐시 사용, 목록 쿼리와 동시에 실행)
+        //  - 근사 건수 요청이면 상한까지만 세고 "10,000+" 형태로 반환
+        if (pageRequest.isApprox()) {
+            return pageQueryExecutor.execute(pageQuery,
+                    () -> countService.getApproximateCountWithSearch(pageRequest),
+                    (cappedCount, list) -> Page.ofApproximate(pageRequest, cappedCount, list));
+        }
 
-        // 2. 검색 조건을 포함한 전체 게시글 수 조회
-        int totalCount = boardMapper.getTotalCountWithSearch(pageRequest);
+        // 3. Page 객체 생성
+        return pageQueryExecutor.execute(pageQuery,
+                () -> countService.getTotalCountWithSearch(pageRequest),
+                (totalCount, list) -> Page.of(pageRequest, totalCount, list));
+    }
 
-        // 3. VO를 DTO로 변환하고 Page 객체 생성
-        return Page.of(pageRequest, totalCount,
-                boards.stream()
-                        .map(BoardDTO::of)  // VO → DTO 변환
-                        .collect(Collectors.toList()));
+    // 커서(keyset) 기반 게시글 목록 조회
+    @Override
+    public Page<BoardSummaryDTO> getCursorPage(PageRequest pageRequest) {
+        // 0. 커서 해석/검증 (잘못된 커서는 IllegalArgumentException → 400, 매퍼에는 해석된 번호만 전달)
+        pageRequest.applyCursor(PageCursor.decode(pageRequest.getCursor()));
+
+        // 1. 커서 이후 목록을 1건 더 조회 (다음 페이지 존재 여부 확인용)
+        List<BoardSummaryDTO> boards = new ArrayList<>(boardMapper.getPageByCursor(pageRequest).stream()
+                .map(BoardSummaryDTO::of)
+                .toList());
+
+        boolean hasMore = boards.size() > pageRequest.getAmount();
+        if (hasMore) {
+            boards.remove(boards.size() - 1);
+        }
+
+        // 2. 이전 페이지 조회는 오름차순으로 가져왔으므로 최신순으로 되돌림
+        boolean backward = pageRequest.isBackward();
+        if (backward) {
+            Collections.reverse(boards);
+        }
+
+        // 3. 다음/이전 커서 계산
+        //  - 다음(더 오래된 글): 정방향에서 남은 글이 있거나, 역방향으로 왔을 때
+        //  - 이전(더 최신 글): 정방향에서 커서로 들어왔거나, 역방향에서 남은 글이 있을 때
+        PageCursor next = null;
+        PageCursor prev = null;
+        if (!boards.isEmpty()) {
+            Long firstNo = boards.get(0).getNo();
+            Long lastNo = boards.get(boards.size() - 1).getNo();
+            if (backward || hasMore) {
+                next = PageCursor.next(lastNo);
+            }
+            if (backward ? hasMore : pageRequest.getCursorNo() != null) {
+                prev = PageCursor.prev(firstNo);
+            }
+        }
+
+        return Page.ofCursor(pageRequest, boards, next, prev);
+    }
+
+    // 목록 ETag 조회
+    //  - 목록 버전(등록/수정/삭제/첨부파일 변경 감지) + 요청 조건(페이지, 검색어, 커서 등)
+    //  - DB 값만 사용 → 서버마다 다른 메모리 값(게시글 수 캐시)이 섞이지 않아 모든 서버가 같은 ETag 계산
+    @Override
+    public String getListETag(PageRequest pageRequest) {
+        return ETags.strong(boardMapper.getListVersion(), pageRequest);
     }
 
 }
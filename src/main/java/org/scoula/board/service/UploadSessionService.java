@@ -0,0 +1,45 @@
+package org.scoula.board.service;
+
+import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.dto.UploadSessionDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 첨부파일 분할(chunked) 업로드 서비스
+ * - 세션 생성 → 구간별 전송(순서 무관, 병렬/재전송 가능) → 받은 구간 조회 → 완료
+ * - 완료된 업로드는 게시글 등록/수정 시 첨부파일로 연결
+ * - 세션은 만든 사용자(username)만 사용할 수 있음 (다른 사용자의 세션은 없는 세션으로 처리)
+ */
+public interface UploadSessionService {
+
+    // 업로드 세션 생성 (사용자별 세션 수/전체 크기 한도 확인)
+    UploadSessionDTO create(UploadSessionDTO request, String username) throws IOException;
+
+    // 구간 데이터 기록 (offset 위치에 length 바이트)
+    UploadSessionDTO write(String id, String username, long offset, long length, InputStream in) throws IOException;
+
+    // multipart 요청 본문을 스트리밍으로 읽어 파일 파트를 바로 저장 (완료된 세션으로 반환)
+    List<UploadSessionDTO> receive(String contentType, InputStream body, String username) throws IOException;
+
+    // 세션 상태 조회 (받은 구간 목록)
+    UploadSessionDTO get(String id, String username);
+
+    // 업로드 완료 (모든 구간 수신 확인 후 저장소로 이동)
+    UploadSessionDTO complete(String id, String username) throws IOException;
+
+    // 업로드 취소
+    void cancel(String id, String username) throws IOException;
+
+    // 완료된 업로드로 첨부파일 정보 생성 (게시글 첨부용)
+    BoardAttachmentVO toAttachment(String id, Long bno, String username);
+
+    // 첨부가 끝난 세션 정리 (저장된 파일은 유지)
+    void release(String id);
+
+    // 완료되었지만 아직 첨부되지 않은 업로드의 digest (고아 파일 정리에서 제외)
+    Set<String> getPendingDigests();
+}
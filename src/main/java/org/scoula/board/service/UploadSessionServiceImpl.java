@@ -0,0 +1,440 @@
+package org.scoula.board.service;
+
+import lombok.extern.log4j.Log4j2;
+import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.dto.UploadSessionDTO;
+import org.scoula.common.util.BlobStore;
+import org.scoula.common.util.MultipartReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 첨부파일 분할 업로드 서비스
+ * - 세션 생성 시 빈 파일을 만들고, 각 구간은 해당 위치에 바로 기록 (합치기 단계 없음, 미리 할당하지 않음)
+ * - 받은 구간은 병합된 구간 목록으로 관리 → 재전송/중복 구간이 와도 상태가 정확함
+ * - 세션은 만든 사용자에게 묶임, 사용자별 열린 세션 수와 전체 크기에 한도 적용 (디스크 고갈 방지)
+ * - 세션 정보는 메모리에 유지 (서버 재시작 시 진행 중인 업로드는 처음부터 다시 전송)
+ * - 완료 후 첨부되지 않은 파일은 세션 만료 후 AttachmentCollector가 삭제 (그 전까지는 getPendingDigests로 보호)
+ */
+@Log4j2
+@Service
+public class UploadSessionServiceImpl implements UploadSessionService {
+
+    private static final String UPLOAD_DIR = ".uploads";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_STREAM_FILES = 20;     // 스트리밍 업로드 요청 하나의 최대 파일 수
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    // 마지막 전송 이후 이 시간이 지난 세션은 정리 (24시간)
+    private static final long SESSION_TTL = 24 * 60 * 60 * 1000L;
+
+    private final String baseDir;
+    private final long maxSize;
+    private final long maxChunkSize;
+    private final int maxSessionsPerUser;
+    private final long maxBytesPerUser;
+
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    public UploadSessionServiceImpl(
+            @Value("${board.upload.dir:c:/upload/board}") String baseDir,                // 첨부파일 저장 디렉토리와 같아야 함
+            @Value("${board.upload.max-size:2147483648}") long maxSize,                  // 파일 하나의 최대 크기 (2GB)
+            @Value("${board.upload.max-chunk-size:33554432}") long maxChunkSize,         // 구간 하나의 최대 크기 (32MB)
+            @Value("${board.upload.max-sessions-per-user:20}") int maxSessionsPerUser,   // 사용자별 열린 세션 수
+            @Value("${board.upload.max-bytes-per-user:4294967296}") long maxBytesPerUser) { // 사용자별 세션 전체 크기 (4GB)
+        this.baseDir = baseDir;
+        this.maxSize = maxSize;
+        this.maxChunkSize = maxChunkSize;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+        this.maxBytesPerUser = maxBytesPerUser;
+    }
+
+    // 업로드 세션
+    private static class UploadSession {
+        final String id;
+        final String owner;                // 세션을 만든 사용자
+        final String filename;
+        final String contentType;
+        final long size;
+        final String expectedDigest;
+        final Path file;                   // 분할 전송 중인 파일 (스트리밍 업로드는 null)
+
+        // 받은 구간 (시작 → 끝(미포함), 겹치거나 맞닿은 구간은 병합)
+        final TreeMap<Long, Long> received = new TreeMap<>();
+
+        // 구간 기록은 동시에(read lock), 완료/취소는 단독으로(write lock) 실행
+        final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        volatile BlobStore.Blob blob;      // 완료 시 저장 결과
+        volatile boolean closed;           // 취소/정리됨
+        volatile long touchedAt = System.currentTimeMillis();
+
+        UploadSession(String id, String owner, UploadSessionDTO request, Path file) {
+            this.id = id;
+            this.owner = owner;
+            this.filename = request.getFilename();
+            this.contentType = request.getContentType();
+            this.size = request.getSize();
+            this.expectedDigest = request.getDigest();
+            this.file = file;
+        }
+
+        synchronized void markReceived(long start, long end) {
+            Map.Entry<Long, Long> before = received.floorEntry(start);
+            if (before != null && before.getValue() >= start) {
+                start = before.getKey();
+                end = Math.max(end, before.getValue());
+            }
+            Map.Entry<Long, Long> next = received.ceilingEntry(start);
+            while (next != null && next.getKey() <= end) {
+                end = Math.max(end, next.getValue());
+                received.remove(next.getKey());
+                next = received.ceilingEntry(start);
+            }
+            received.put(start, end);
+        }
+
+        synchronized long receivedBytes() {
+            return received.entrySet().stream()
+                    .mapToLong(range -> range.getValue() - range.getKey())
+                    .sum();
+        }
+
+        synchronized boolean isFullyReceived() {
+            return size == 0 || (received.size() == 1 && received.firstKey() == 0 && received.firstEntry().getValue() == size);
+        }
+
+        synchronized UploadSessionDTO toDTO() {
+            List<String> ranges = new ArrayList<>();
+            received.forEach((start, end) -> ranges.add(start + "-" + (end - 1)));
+            return UploadSessionDTO.builder()
+                    .id(id)
+                    .filename(filename)
+                    .contentType(contentType)
+                    .size(size)
+                    .digest(blob != null ? blob.getDigest() : expectedDigest)
+                    .receivedBytes(receivedBytes())
+                    .received(ranges)
+                    .complete(blob != null)
+                    .build();
+        }
+    }
+
+    // 업로드 세션 생성
+    @Override
+    public UploadSessionDTO create(UploadSessionDTO request, String username) throws IOException {
+        if (request.getFilename() == null || request.getFilename().isBlank()) {
+            throw new IllegalArgumentException("파일명이 없습니다.");
+        }
+        if (request.getSize() < 0 || request.getSize() > maxSize) {
+            throw new IllegalArgumentException("파일 크기는 0 ~ " + maxSize + " byte 이어야 합니다.");
+        }
+        if (request.getDigest() != null && !request.getDigest().matches("[0-9a-fA-F]{64}")) {
+            throw new IllegalArgumentException("SHA-256 값 형식이 올바르지 않습니다.");
+        }
+        pruneExpired();
+
+        // 빈 파일만 생성 (구간을 기록하는 만큼만 커짐)
+        String id = UUID.randomUUID().toString().replace("-", "");
+        Path file = Files.createDirectories(Paths.get(baseDir, UPLOAD_DIR)).resolve(id + ".part");
+        UploadSession session = new UploadSession(id, username, request, file);
+        register(session);
+        try {
+            Files.createFile(file);
+        } catch (IOException e) {
+            sessions.remove(id);
+            throw e;
+        }
+        log.info("분할 업로드 시작: " + id + " (" + username + ", " + session.filename + ", " + session.size + " byte)");
+        return session.toDTO();
+    }
+
+    // 사용자별 한도 확인 후 세션 등록 (확인과 등록 사이에 같은 사용자의 다른 세션이 끼어들지 않도록 동기화)
+    private synchronized void register(UploadSession session) {
+        if (session.owner == null) {
+            throw new IllegalArgumentException("업로드 사용자가 없습니다.");
+        }
+        int count = 0;
+        long bytes = session.size;
+        for (UploadSession open : sessions.values()) {
+            if (session.owner.equals(open.owner)) {
+                count++;
+                bytes += open.size;
+            }
+        }
+        if (count >= maxSessionsPerUser) {
+            throw new IllegalArgumentException("열린 업로드는 " + maxSessionsPerUser + "개까지 가능합니다.");
+        }
+        if (bytes > maxBytesPerUser) {
+            throw new IllegalArgumentException("업로드 중인 파일 크기의 합은 " + maxBytesPerUser + " byte를 넘을 수 없습니다.");
+        }
+        sessions.put(session.id, session);
+    }
+
+    // 사용자가 더 올릴 수 있는 크기 (스트리밍 업로드 한도)
+    private synchronized long remainingBytes(String username) {
+        long bytes = 0;
+        for (UploadSession open : sessions.values()) {
+            if (open.owner.equals(username)) {
+                bytes += open.size;
+            }
+        }
+        return Math.max(0, maxBytesPerUser - bytes);
+    }
+
+    // 구간 데이터 기록
+    //  - 요청 본문을 읽으며 해당 위치에 바로 기록 (다른 구간과 동시에 기록 가능)
+    //  - 본문이 중간에 끊기면 받은 구간으로 표시하지 않으므로 같은 구간을 다시 보내면 됨
+    @Override
+    public UploadSessionDTO write(String id, String username, long offset, long length, InputStream in) throws IOException {
+        UploadSession session = find(id, username);
+        if (offset < 0 || length <= 0 || length > maxChunkSize || offset > session.size - length) {   // 합이 넘치지 않게 비교
+            throw new IllegalArgumentException("잘못된 구간입니다: offset=" + offset + ", length=" + length
+                    + " (파일 크기 " + session.size + ", 최대 구간 크기 " + maxChunkSize + ")");
+        }
+
+        session.lock.readLock().lock();
+        try {
+            if (session.closed || session.blob != null) {
+                throw new IllegalArgumentException("이미 완료되었거나 취소된 업로드입니다: " + id);
+            }
+            try (FileChannel channel = FileChannel.open(session.file, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[(int) Math.min(BUFFER_SIZE, length)];
+                long position = offset;
+                long remaining = length;
+                while (remaining > 0) {
+                    int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (read == -1) {
+                        throw new IOException("구간 데이터가 끝까지 전송되지 않았습니다: "
+                                + (length - remaining) + "/" + length + " byte");
+                    }
+                    ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                    while (chunk.hasRemaining()) {
+                        position += channel.write(chunk, position);
+                    }
+                    remaining -= read;
+                }
+            }
+            session.markReceived(offset, offset + length);
+            session.touchedAt = System.currentTimeMillis();
+        } finally {
+            session.lock.readLock().unlock();
+        }
+        return session.toDTO();
+    }
+
+    // multipart 스트리밍 업로드
+    //  - 컨테이너의 multipart 처리(메모리 버퍼 + 임시 파일 + transferTo 복사)를 거치지 않고
+    //    요청 본문을 읽으며 저장소에 바로 기록 → 요청당 메모리 사용량 고정, 디스크 쓰기 1회
+    //  - 크기, SHA-256은 기록하며 계산하고, MIME 타입은 파일 앞부분으로 판별 (판별 불가 시 파트 헤더, 파일명 순)
+    @Override
+    public List<UploadSessionDTO> receive(String contentType, InputStream body, String username) throws IOException {
+        MultipartReader reader = new MultipartReader(body, MultipartReader.boundaryOf(contentType));
+        pruneExpired();
+
+        List<UploadSessionDTO> uploads = new ArrayList<>();
+        for (MultipartReader.Part part = reader.next(); part != null; part = reader.next()) {
+            // 일반 폼 필드와 파일을 선택하지 않은 입력은 건너뜀
+            if (!part.isFile() || part.getFilename().isBlank()) continue;
+            if (uploads.size() >= MAX_STREAM_FILES) {
+                throw new IllegalArgumentException("파일은 한 번에 " + MAX_STREAM_FILES + "개까지 업로드할 수 있습니다.");
+            }
+
+            long limit = Math.min(maxSize, remainingBytes(username));
+            InputStream in = new BufferedInputStream(new LimitedInputStream(part.getInputStream(), limit));
+            String type = detectContentType(in, part);
+            BlobStore.Blob blob = BlobStore.put(baseDir, in);
+
+            String id = UUID.randomUUID().toString().replace("-", "");
+            UploadSession session = new UploadSession(id, username, UploadSessionDTO.builder()
+                    .filename(part.getFilename())
+                    .contentType(type)
+                    .size(blob.getSize())
+                    .build(), null);
+            if (blob.getSize() > 0) {
+                session.markReceived(0, blob.getSize());
+            }
+            session.blob = blob;
+            register(session);     // 한도를 넘으면 저장된 파일은 참조 없이 남아 AttachmentCollector가 삭제
+            uploads.add(session.toDTO());
+            log.info("스트리밍 업로드 저장: " + id + " (" + part.getFilename() + ", " + blob.getSize() + " byte) → " + blob.getDigest());
+        }
+        return uploads;
+    }
+
+    // MIME 타입 판별 (스트림 앞부분만 확인 후 되돌림)
+    private static String detectContentType(InputStream in, MultipartReader.Part part) throws IOException {
+        String sniffed = URLConnection.guessContentTypeFromStream(in);
+        if (sniffed != null) {
+            return sniffed;
+        }
+        if (part.getContentType() != null && !part.getContentType().equalsIgnoreCase(DEFAULT_CONTENT_TYPE)) {
+            return part.getContentType();
+        }
+        String byName = URLConnection.guessContentTypeFromName(part.getFilename());
+        return byName != null ? byName : DEFAULT_CONTENT_TYPE;
+    }
+
+    // 최대 크기(파일 크기 한도, 사용자 남은 한도 중 작은 값)를 넘으면 읽기 중단 (BlobStore가 임시 파일 삭제)
+    private static class LimitedInputStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) check(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) check(n);
+            return n;
+        }
+
+        private void check(int n) {
+            count += n;
+            if (count > limit) {
+                throw new IllegalArgumentException("파일 크기는 " + limit + " byte를 넘을 수 없습니다.");
+            }
+        }
+    }
+
+    // 세션 상태 조회
+    @Override
+    public UploadSessionDTO get(String id, String username) {
+        return find(id, username).toDTO();
+    }
+
+    // 업로드 완료
+    //  - 모든 구간을 받았는지 확인 후 내용 digest 계산, 저장소로 이동 (같은 내용이 있으면 재사용)
+    //  - 이미 완료된 세션이면 같은 결과 반환 (완료 요청 재전송 허용)
+    @Override
+    public UploadSessionDTO complete(String id, String username) throws IOException {
+        UploadSession session = find(id, username);
+        session.lock.writeLock().lock();
+        try {
+            if (session.closed) {
+                throw new NoSuchElementException("업로드 세션이 없습니다: " + id);
+            }
+            if (session.blob == null) {
+                if (!session.isFullyReceived()) {
+                    throw new IllegalArgumentException("아직 받지 못한 구간이 있습니다: "
+                            + session.receivedBytes() + "/" + session.size + " byte");
+                }
+                session.blob = BlobStore.put(baseDir, session.file, session.expectedDigest);
+                session.touchedAt = System.currentTimeMillis();
+                log.info("분할 업로드 완료: " + id + " → " + session.blob.getDigest());
+            }
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+        return session.toDTO();
+    }
+
+    // 업로드 취소 (받은 데이터 삭제)
+    @Override
+    public void cancel(String id, String username) throws IOException {
+        UploadSession session = find(id, username);
+        close(session);
+    }
+
+    // 완료된 업로드로 첨부파일 정보 생성
+    @Override
+    public BoardAttachmentVO toAttachment(String id, Long bno, String username) {
+        UploadSession session = sessions.get(id);
+        if (session == null || !session.owner.equals(username) || session.blob == null) {
+            throw new IllegalArgumentException("완료되지 않은 업로드입니다: " + id);
+        }
+        session.touchedAt = System.currentTimeMillis();
+        return BoardAttachmentVO.builder()
+                .bno(bno)
+                .filename(session.filename)
+                .path(session.blob.getPath())
+                .digest(session.blob.getDigest())
+                .encoding(session.blob.getEncoding())   // 같은 내용이 압축 저장되어 있으면 그 파일을 재사용
+                .contentType(session.contentType)
+                .size(session.blob.getSize())
+                .build();
+    }
+
+    // 첨부가 끝난 세션 정리
+    @Override
+    public void release(String id) {
+        sessions.remove(id);
+    }
+
+    // 완료되었지만 아직 첨부되지 않은 업로드의 digest
+    @Override
+    public Set<String> getPendingDigests() {
+        Set<String> digests = new HashSet<>();
+        for (UploadSession session : sessions.values()) {
+            BlobStore.Blob blob = session.blob;
+            if (blob != null) {
+                digests.add(blob.getDigest());
+            }
+        }
+        return digests;
+    }
+
+    // 사용자의 세션 조회 (다른 사용자의 세션은 없는 세션과 같게 처리 → 세션 ID 존재 여부를 노출하지 않음)
+    private UploadSession find(String id, String username) {
+        UploadSession session = sessions.get(id);
+        if (session == null || !session.owner.equals(username)) {
+            throw new NoSuchElementException("업로드 세션이 없습니다: " + id);
+        }
+        return session;
+    }
+
+    // 세션 종료 및 미완료 데이터 삭제 (완료된 파일은 다른 첨부파일과 공유될 수 있으므로 유지)
+    private void close(UploadSession session) throws IOException {
+        session.lock.writeLock().lock();
+        try {
+            session.closed = true;
+            sessions.remove(session.id, session);
+            if (session.file != null) {
+                Files.deleteIfExists(session.file);
+            }
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    // 오래된 세션 정리
+    private void pruneExpired() {
+        long now = System.currentTimeMillis();
+        for (UploadSession session : sessions.values()) {
+            if (now - session.touchedAt > SESSION_TTL) {
+                try {
+                    close(session);
+                    log.info("만료된 분할 업로드 정리: " + session.id);
+                } catch (IOException e) {
+                    log.warn("분할 업로드 파일 삭제 실패: " + session.file, e);
+                }
+            }
+        }
+    }
+}
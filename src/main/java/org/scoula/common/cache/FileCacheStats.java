@@ -0,0 +1,21 @@
+package org.scoula.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FileCacheStats {
+    private long hitCount;      // 캐시에서 전송한 요청 수
+    private long missCount;     // 파일을 새로 읽은 요청 수
+    private long bypassCount;   // 캐시를 거치지 않은 요청 수 (Range 요청, 큰 파일)
+    private double hitRate;     // 적중률 (hit / (hit + miss))
+    private long servedBytes;   // 캐시에서 전송한 바이트
+    private long entryCount;    // 현재 캐시된 파일 수 (추정)
+    private long cachedBytes;   // 현재 보관 중인 바이트 합계 (다이렉트 메모리)
+    private long maxBytes;      // 적용된 보관 크기 상한 (다이렉트 메모리 한도에 맞춰 조정된 값)
+}
@@ -0,0 +1,224 @@
+package org.scoula.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sun.management.HotSpotDiagnosticMXBean;
+import lombok.extern.log4j.Log4j2;
+import org.scoula.common.util.DownloadEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 자주 요청되는 파일의 메모리 캐시
+ * - 여행지 이미지, 썸네일, 인기 첨부파일처럼 같은 파일을 반복 전송할 때 파일을 열지 않고 메모리 버퍼에서 바로 전송
+ * - 파일 내용을 다이렉트(off-heap) 버퍼로 복사하여 보관 → 캐시 용량이 GC 대상 힙을 차지하지 않음
+ *   메모리 매핑은 사용하지 않음 → 캐시된 파일도 덮어쓰기/삭제/이동 가능 (매핑하면 Windows에서는 잠기고, 다른 OS에서는 잘린 파일 접근 시 오류)
+ * - 다이렉트 메모리 한도(-XX:MaxDirectMemorySize, 미설정 시 최대 힙 크기)를 넘지 않도록 시작 시 상한 조정
+ *   → 운영 서버는 -XX:MaxDirectMemorySize를 file.cache.max-bytes + 64MB 이상으로 설정
+ * - MIME 타입, 크기, 수정 시각을 함께 보관 → 적중 시 Files.probeContentType/stat 호출 없음
+ * - 전체 크기(보관 바이트) 상한, Caffeine(W-TinyLFU)으로 자주 요청되는 파일 우선 보존
+ * - 파일 변경 감지: 항목마다 revalidateMillis 간격으로만 크기/수정 시각 확인 → 바뀌었으면 다시 읽음
+ *   파일을 바꾸거나 지우는 코드는 invalidate()로 즉시 제거 (확인 간격 동안 이전 내용 전송 방지)
+ * - Range 요청과 maxFileSize보다 큰 파일은 캐시를 거치지 않고 DownloadEngine 파일 전송(sendfile) 사용
+ */
+@Log4j2
+@Component
+public class HotFileCache {
+
+    // 캐시 항목 (파일 내용 + 메타데이터)
+    private static class Entry {
+        final ByteBuffer buffer;
+        final String contentType;
+        final long length;
+        final long lastModified;
+        volatile long checkedAt;    // 마지막으로 파일 변경 여부를 확인한 시각
+
+        Entry(ByteBuffer buffer, String contentType, long length, long lastModified, long checkedAt) {
+            this.buffer = buffer;
+            this.contentType = contentType;
+            this.length = length;
+            this.lastModified = lastModified;
+            this.checkedAt = checkedAt;
+        }
+    }
+
+    // 다이렉트 메모리 중 캐시 외 용도(NIO 채널의 임시 버퍼, 소켓 버퍼 등)로 남겨 둘 크기
+    private static final long DIRECT_RESERVE = 64L * 1024 * 1024;
+
+    private final Cache<String, Entry> cache;
+    private final long maxFileSize;
+    private final long revalidateMillis;
+
+    private final LongAdder hitCount = new LongAdder();       // 캐시에서 전송한 요청 수
+    private final LongAdder missCount = new LongAdder();      // 파일을 새로 읽은 요청 수
+    private final LongAdder bypassCount = new LongAdder();    // 캐시를 거치지 않은 요청 수 (Range, 큰 파일)
+    private final LongAdder servedBytes = new LongAdder();    // 캐시에서 전송한 바이트
+
+    public HotFileCache(
+            @Value("${file.cache.max-bytes:268435456}") long maxBytes,             // 보관 크기 합계 상한 (256MB, 다이렉트 메모리)
+            @Value("${file.cache.max-file-size:8388608}") long maxFileSize,        // 캐시할 파일 하나의 최대 크기 (8MB)
+            @Value("${file.cache.revalidate-millis:1000}") long revalidateMillis) { // 파일 변경 확인 간격 (1초)
+        long directLimit = maxDirectMemory();
+        long allowed = Math.max(directLimit / 2, directLimit - DIRECT_RESERVE);
+        if (maxBytes > allowed) {
+            log.warn("파일 캐시 상한(" + maxBytes + ")이 다이렉트 메모리 한도(" + directLimit + ")를 넘어 " + allowed
+                    + " byte로 조정합니다. -XX:MaxDirectMemorySize를 " + (maxBytes + DIRECT_RESERVE)
+                    + " 이상으로 설정하세요.");
+            maxBytes = allowed;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String path, Entry entry) -> (int) Math.max(1, entry.length))
+                .build();
+        this.maxFileSize = maxFileSize;
+        this.revalidateMillis = revalidateMillis;
+    }
+
+    /**
+     * 파일 전송 (캐시 적중 시 메모리 버퍼에서 전송)
+     * - Content-Type 등 다른 헤더는 호출 전에 설정
+     * @param etag 파일 내용이 바뀌지 않는 한 같은 값 (따옴표 제외), 없으면 null
+     */
+    public void send(HttpServletRequest request, HttpServletResponse response, File file, String etag)
+            throws IOException {
+        Entry entry = request.getHeader(HttpHeaders.RANGE) == null ? lookup(file) : null;
+        if (entry == null) {
+            bypassCount.increment();
+            DownloadEngine.send(request, response, file, etag);
+            return;
+        }
+        DownloadEngine.send(request, response, entry.buffer, entry.lastModified, etag);
+        servedBytes.add(response.getStatus() == HttpServletResponse.SC_NOT_MODIFIED ? 0 : entry.length);
+    }
+
+    /**
+     * 이미지 파일 전송 (캐시에 보관한 MIME 타입으로 Content-Type 설정)
+     * @param etag 이미지 버전 (같은 값이면 If-None-Match 시 304), 없으면 null
+     */
+    public void sendImage(HttpServletRequest request, HttpServletResponse response, File file, String etag) {
+        try {
+            Entry entry = request.getHeader(HttpHeaders.RANGE) == null ? lookup(file) : null;
+            if (entry == null) {
+                bypassCount.increment();
+                response.setContentType(Files.probeContentType(file.toPath()));
+                DownloadEngine.send(request, response, file, etag);
+                return;
+            }
+            response.setContentType(entry.contentType);
+            DownloadEngine.send(request, response, entry.buffer, entry.lastModified, etag);
+            servedBytes.add(response.getStatus() == HttpServletResponse.SC_NOT_MODIFIED ? 0 : entry.length);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 캐시 항목 제거 (파일을 덮어쓰거나 삭제/이동한 뒤 호출)
+     * @param file 바뀐 파일
+     */
+    public void invalidate(File file) {
+        cache.invalidate(keyOf(file));
+    }
+
+    // 캐시 통계 (적중률, 캐시에서 전송한 바이트)
+    public FileCacheStats getStats() {
+        long hits = hitCount.sum();
+        long misses = missCount.sum();
+        return FileCacheStats.builder()
+                .hitCount(hits)
+                .missCount(misses)
+                .bypassCount(bypassCount.sum())
+                .hitRate(hits + misses == 0 ? 0 : (double) hits / (hits + misses))
+                .servedBytes(servedBytes.sum())
+                .entryCount(cache.estimatedSize())
+                .cachedBytes(cache.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L))
+                .maxBytes(cache.policy().eviction().map(e -> e.getMaximum()).orElse(0L))
+                .build();
+    }
+
+    /**
+     * 캐시 항목 조회 (없거나 파일이 바뀌었으면 새로 읽음)
+     * @return 캐시 항목, 캐시 대상이 아니면(없는 파일, 큰 파일) null
+     */
+    private Entry lookup(File file) throws IOException {
+        String key = keyOf(file);
+        long now = System.currentTimeMillis();
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null) {
+            if (now - entry.checkedAt < revalidateMillis) {
+                hitCount.increment();
+                return entry;           // 확인 간격 안: 파일 시스템 호출 없음
+            }
+            if (file.lastModified() == entry.lastModified && file.length() == entry.length) {
+                entry.checkedAt = now;
+                hitCount.increment();
+                return entry;
+            }
+            cache.invalidate(key);     // 파일이 바뀜 → 다시 읽음
+        }
+
+        long length = file.length();
+        long lastModified = file.lastModified();
+        if (!file.isFile() || length > maxFileSize) {
+            return null;
+        }
+        ByteBuffer content;
+        try {
+            content = read(file, (int) length);
+        } catch (NoSuchFileException e) {
+            return null;    // 확인 후 삭제됨 → 파일 전송에서 처리
+        } catch (OutOfMemoryError e) {
+            log.warn("다이렉트 메모리 부족, 캐시하지 않고 전송: " + file + " (" + e.getMessage() + ")");
+            return null;
+        }
+        entry = new Entry(content, Files.probeContentType(file.toPath()), content.remaining(), lastModified, now);
+        cache.put(key, entry);
+        missCount.increment();
+        return entry;
+    }
+
+    /**
+     * 파일 내용을 다이렉트 버퍼로 복사 (채널은 읽은 뒤 바로 닫음 → 파일 잠금/매핑 없음)
+     * - 읽는 도중 파일이 줄어들면 읽은 만큼만 사용 (수정 시각은 읽기 전 값 → 다음 확인 때 다시 읽음)
+     * @return 읽기 전용 버퍼 (position 0 ~ 읽은 크기)
+     */
+    private static ByteBuffer read(File file, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // 끝까지 읽기
+            }
+        }
+        buffer.flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    // 다이렉트 메모리 한도 (-XX:MaxDirectMemorySize, 미설정이면 JVM 기본값인 최대 힙 크기)
+    static long maxDirectMemory() {
+        try {
+            HotSpotDiagnosticMXBean hotspot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            long value = Long.parseLong(hotspot.getVMOption("MaxDirectMemorySize").getValue());
+            return value > 0 ? value : Runtime.getRuntime().maxMemory();
+        } catch (RuntimeException e) {
+            return Runtime.getRuntime().maxMemory();   // HotSpot 외 JVM
+        }
+    }
+
+    // 캐시 키 (같은 파일을 가리키는 다른 표기의 경로도 같은 키)
+    private static String keyOf(File file) {
+        return file.toPath().toAbsolutePath().normalize().toString();
+    }
+}
@@ -0,0 +1,97 @@
+package org.scoula.common.concurrent;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 파일 입출력 전용 실행기
+ * - 첨부파일 저장처럼 디스크 I/O가 긴 작업을 제한된 수의 스레드에서 동시에 실행
+ * - 대기열이 가득 차면 요청 스레드에서 직접 실행 (거절 없이 속도만 조절)
+ * - 작업은 DB 커넥션을 사용하지 않아야 함 (트랜잭션은 요청 스레드에만 묶여 있음)
+ */
+@Log4j2
+@Component
+public class FileIoExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+
+    public FileIoExecutor(
+            @Value("${upload.io-threads:4}") int threads,
+            @Value("${upload.io-queue-size:64}") int queueSize) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "file-io-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());   // 포화 시 요청 스레드에서 실행
+        this.executor.allowCoreThreadTimeOut(true);
+        log.info("파일 I/O 실행기 생성: threads=" + threads + ", queue=" + queueSize);
+    }
+
+    /**
+     * 작업들을 동시에 실행하고 모두 끝날 때까지 대기
+     * - 일부 작업이 실패해도 나머지 작업은 끝까지 실행 (성공한 결과를 정리할 수 있도록)
+     * - 작업이 하나면 요청 스레드에서 바로 실행
+     * @param tasks 실행할 작업 목록
+     * @return 작업 순서대로의 결과 (완료된 Future)
+     */
+    public <T> List<Future<T>> invokeAll(List<Callable<T>> tasks) {
+        if (tasks.size() == 1) {
+            FutureTask<T> task = new FutureTask<>(tasks.get(0));
+            task.run();
+            return List.of(task);
+        }
+
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(task));
+        }
+        boolean interrupted = false;
+        for (Future<T> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (ExecutionException e) {
+                    break;                  // 결과는 호출한 쪽에서 Future로 확인
+                } catch (InterruptedException e) {
+                    interrupted = true;     // 이미 기록 중인 파일을 정리할 수 있도록 끝까지 대기
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return futures;
+    }
+
+    /**
+     * 백그라운드 작업 제출 (결과를 기다리지 않음)
+     * - 대기열이 가득 차면 실행하지 않고 false 반환 (요청 스레드를 붙잡지 않도록)
+     * - 썸네일 미리 생성처럼 나중에 다시 할 수 있는 작업에 사용
+     * @param task 실행할 작업
+     * @return 제출 여부
+     */
+    public boolean tryExecute(Runnable task) {
+        if (executor.getQueue().remainingCapacity() == 0) {
+            return false;
+        }
+        executor.execute(task);
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();   // 진행 중인 파일 기록은 끝까지 실행
+    }
+}
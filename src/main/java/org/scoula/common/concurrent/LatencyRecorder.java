@@ -0,0 +1,56 @@
+package org.scoula.common.concurrent;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 응답 시간 기록기 (최근 N건 기준 백분위수)
+ * - 고정 크기 링 버퍼에 최근 측정값만 보관 → 메모리 일정, 기록 시 잠금 없음
+ * - 백분위수는 조회 시점에 버퍼를 복사/정렬하여 계산 (운영 API 조회용)
+ */
+public class LatencyRecorder {
+
+    private final AtomicLongArray samples;                 // 최근 측정값 (나노초)
+    private final AtomicLong count = new AtomicLong();     // 누적 기록 수
+
+    public LatencyRecorder(int capacity) {
+        this.samples = new AtomicLongArray(capacity);
+    }
+
+    // 측정값 기록 (나노초)
+    public void record(long nanos) {
+        long index = count.getAndIncrement();
+        samples.set((int) (index % samples.length()), nanos);
+    }
+
+    // 최근 측정값 기준 통계
+    public LatencyStats snapshot() {
+        int size = (int) Math.min(count.get(), samples.length());
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+
+        return LatencyStats.builder()
+                .count(count.get())
+                .p50Ms(toMillis(percentile(sorted, 0.50)))
+                .p99Ms(toMillis(percentile(sorted, 0.99)))
+                .maxMs(toMillis(size == 0 ? 0 : sorted[size - 1]))
+                .build();
+    }
+
+    // nearest-rank 방식 백분위수
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(rank - 1, 0)];
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;   // 소수점 둘째 자리까지
+    }
+}
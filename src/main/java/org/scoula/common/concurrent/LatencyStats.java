@@ -0,0 +1,17 @@
+package org.scoula.common.concurrent;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LatencyStats {
+    private long count;     // 누적 측정 수
+    private double p50Ms;   // 최근 측정값의 중앙값 (ms)
+    private double p99Ms;   // 최근 측정값의 99 백분위수 (ms)
+    private double maxMs;   // 최근 측정값의 최댓값 (ms)
+}
@@ -0,0 +1,151 @@
+package org.scoula.common.concurrent;
+
+import lombok.extern.log4j.Log4j2;
+import org.scoula.common.pagination.Page;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 페이지 목록 쿼리 + 건수 쿼리 동시 실행기
+ * - 건수 쿼리는 전용 스레드 풀에서, 목록 쿼리는 요청 스레드에서 동시에 실행 (각자 별도 커넥션 사용)
+ *   → 응답 시간이 두 쿼리의 합이 아닌 긴 쪽의 시간이 됨
+ * - 스레드 풀이 가득 차면 큐에 쌓지 않고 요청 스레드에서 순차 실행 (커넥션 풀 고갈 방지)
+ * - 트랜잭션 안에서 호출되면 같은 스냅샷을 보도록 순차 실행
+ * - 실행 방식별 응답 시간(p50/p99)을 기록하여 운영 API로 비교
+ */
+@Log4j2
+@Component
+public class PageQueryExecutor implements DisposableBean {
+
+    // 실행 방식별 응답 시간 기록
+    public static final String PARALLEL = "parallel";       // 동시 실행
+    public static final String SEQUENTIAL = "sequential";   // 순차 실행 (설정 또는 트랜잭션 중)
+    public static final String FALLBACK = "fallback";       // 스레드 풀 포화로 순차 실행
+
+    private static final int SAMPLE_SIZE = 1024;            // 백분위수 계산에 사용할 최근 측정 수
+
+    private final boolean parallel;
+    private final long countTimeoutMillis;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, LatencyRecorder> latencies = new LinkedHashMap<>();
+
+    public PageQueryExecutor(
+            @Value("${pagination.parallel:true}") boolean parallel,
+            @Value("${pagination.count-threads:4}") int countThreads,                 // 커넥션 풀(10)보다 작게
+            @Value("${pagination.count-timeout-ms:10000}") long countTimeoutMillis) {
+        this.parallel = parallel;
+        this.countTimeoutMillis = countTimeoutMillis;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(countThreads, countThreads, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),                    // 대기열 없음 → 포화 시 즉시 거절
+                runnable -> {
+                    Thread thread = new Thread(runnable, "page-count-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+
+        for (String mode : List.of(PARALLEL, SEQUENTIAL, FALLBACK)) {
+            latencies.put(mode, new LatencyRecorder(SAMPLE_SIZE));
+        }
+        log.info("페이지 쿼리 실행기 생성: parallel=" + parallel + ", threads=" + countThreads
+                + ", timeout=" + countTimeoutMillis + "ms");
+    }
+
+    /**
+     * 목록 쿼리와 건수 쿼리를 실행하여 Page 생성
+     * @param pageQuery 목록 쿼리 (요청 스레드에서 실행)
+     * @param countQuery 건수 쿼리 (가능하면 별도 스레드에서 동시에 실행)
+     * @param assembler (건수, 목록)으로 Page 생성
+     * @return 생성된 Page
+     */
+    public <T> Page<T> execute(Supplier<List<T>> pageQuery, IntSupplier countQuery,
+                               BiFunction<Integer, List<T>, Page<T>> assembler) {
+        long start = System.nanoTime();
+
+        // 1. 순차 실행 (설정으로 비활성화되었거나 트랜잭션 중)
+        if (!parallel || TransactionSynchronizationManager.isActualTransactionActive()) {
+            Page<T> page = sequential(pageQuery, countQuery, assembler);
+            latencies.get(SEQUENTIAL).record(System.nanoTime() - start);
+            return page;
+        }
+
+        // 2. 건수 쿼리를 스레드 풀에 제출 (포화 시 순차 실행)
+        Future<Integer> count;
+        try {
+            count = executor.submit(countQuery::getAsInt);
+        } catch (RejectedExecutionException e) {
+            Page<T> page = sequential(pageQuery, countQuery, assembler);
+            latencies.get(FALLBACK).record(System.nanoTime() - start);
+            return page;
+        }
+
+        // 3. 목록 쿼리는 요청 스레드에서 동시에 실행
+        List<T> list;
+        try {
+            list = pageQuery.get();
+        } catch (RuntimeException | Error e) {
+            count.cancel(true);
+            throw e;
+        }
+
+        Page<T> page = assembler.apply(await(count), list);
+        latencies.get(PARALLEL).record(System.nanoTime() - start);
+        return page;
+    }
+
+    // 실행 방식별 응답 시간 통계 (parallel / sequential / fallback)
+    public Map<String, LatencyStats> getStats() {
+        Map<String, LatencyStats> stats = new LinkedHashMap<>();
+        latencies.forEach((mode, recorder) -> stats.put(mode, recorder.snapshot()));
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> Page<T> sequential(Supplier<List<T>> pageQuery, IntSupplier countQuery,
+                                   BiFunction<Integer, List<T>, Page<T>> assembler) {
+        List<T> list = pageQuery.get();
+        return assembler.apply(countQuery.getAsInt(), list);
+    }
+
+    // 건수 쿼리 결과 대기 (시간 초과 시 취소, 예외는 원래 타입으로 전달)
+    private int await(Future<Integer> count) {
+        try {
+            return count.get(countTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            count.cancel(true);
+            log.warn("건수 조회 시간 초과: " + countTimeoutMillis + "ms");
+            throw new IllegalStateException("건수 조회 시간 초과 (" + countTimeoutMillis + "ms)", e);
+        } catch (InterruptedException e) {
+            count.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("건수 조회 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.scoula.common.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 동일 키 동시 로드 병합(single-flight)
+ * - 같은 키를 동시에 요청하면 첫 번째 요청(leader)만 loader를 실행하고
+ *   나머지 요청은 그 결과를 함께 받음 → 같은 쿼리가 커넥션 풀을 동시에 점유하지 않음
+ * - 결과를 보관하지 않으므로 캐시가 아님 (로드가 끝나면 즉시 제거)
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder loadCount = new LongAdder();     // 실제 loader 실행 수
+    private final LongAdder sharedCount = new LongAdder();   // 다른 요청의 결과를 공유받은 수
+
+    /**
+     * 키에 대한 값 로드 (진행 중인 로드가 있으면 그 결과를 기다림)
+     * @param key 로드할 키
+     * @param loader 실제 로드 함수 (null 반환 허용)
+     * @return 로드된 값
+     */
+    public V load(K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+
+        // 1. 이미 진행 중인 로드가 있으면 결과 공유
+        if (running != null) {
+            sharedCount.increment();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw unwrap(e);
+            }
+        }
+
+        // 2. leader로서 직접 로드
+        loadCount.increment();
+        try {
+            V value = loader.apply(key);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 진행 중인 로드에서 키 분리
+     * - 데이터 변경 직후 호출하면 이후 요청은 변경 전 로드 결과를 공유하지 않고 새로 로드함
+     * @param key 분리할 키
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    // 실제 loader 실행 수
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    // 병합되어 DB 조회를 생략한 요청 수
+    public long getSharedCount() {
+        return sharedCount.sum();
+    }
+
+    // leader에서 발생한 예외를 원래 타입으로 전달 (예: NoSuchElementException → 404)
+    private static RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return e;
+    }
+}
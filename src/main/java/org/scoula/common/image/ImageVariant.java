@@ -0,0 +1,39 @@
+package org.scoula.common.image;
+
+import java.util.Arrays;
+
+/**
+ * 이미지 변형(variant) 크기
+ * - THUMB: 목록 화면 썸네일 (가로/세로 중 긴 쪽 200px)
+ * - MEDIUM: 상세 화면 본문 이미지 (긴 쪽 800px)
+ */
+public enum ImageVariant {
+    THUMB(200),
+    MEDIUM(800);
+
+    private final int maxSize;          // 긴 쪽 최대 픽셀
+
+    ImageVariant(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 요청 파라미터로 크기 조회 (대소문자 무시)
+     * @param value 크기 이름 (thumb, medium), 없으면 원본
+     * @return 이미지 변형 크기, 원본 요청이면 null
+     * @throws IllegalArgumentException 지원하지 않는 크기
+     */
+    public static ImageVariant of(String value) {
+        if (value == null || value.isBlank() || value.equalsIgnoreCase("original")) {
+            return null;
+        }
+        return Arrays.stream(values())
+                .filter(variant -> variant.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 이미지 크기: " + value));
+    }
+}
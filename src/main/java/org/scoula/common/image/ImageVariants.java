@@ -0,0 +1,359 @@
+package org.scoula.common.image;
+
+import lombok.extern.log4j.Log4j2;
+import org.scoula.common.cache.HotFileCache;
+import org.scoula.common.concurrent.FileIoExecutor;
+import org.scoula.common.concurrent.SingleFlight;
+import org.scoula.common.util.StorageLayout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import javax.imageio.*;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 이미지 변형(썸네일 등) 생성 및 디스크 캐시
+ * - 캐시 경로: {캐시 디렉토리}/{크기}/{원본 키}.{jpg|png}
+ *   원본 키는 내용이 바뀌면 달라지는 값(첨부파일 digest 등)이므로 캐시 무효화가 필요 없음
+ *   저장 형식은 원본 파일명이 아닌 이미지 내용(ImageReader 형식)으로 결정 → 확장자 없는 digest 파일도 PNG/GIF는 PNG 유지
+ * - 디렉토리 전체 크기 상한: 주기적으로 오래 전에 생성된 변형부터 삭제 (삭제된 변형은 다음 요청 시 다시 생성)
+ * - 첫 요청 시 생성(같은 변형의 동시 요청은 한 번만 생성), 이후에는 디스크 파일을 그대로 전송
+ * - 업로드 직후 백그라운드에서 미리 생성 가능 (generateAsync)
+ */
+@Log4j2
+@Component
+public class ImageVariants {
+    private static final String TEMP_DIR = ".tmp";
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final String[] FORMATS = {"jpg", "png"};
+    private static final double TRIM_TARGET = 0.9;     // 상한을 넘으면 상한의 90%까지 삭제
+
+    private final Path cacheDir;
+    private final long maxBytes;
+    private final FileIoExecutor fileIoExecutor;
+    private final HotFileCache hotFileCache;    // 자주 요청되는 이미지는 메모리 캐시에서 전송
+
+    // 같은 변형을 동시에 요청하면 한 번만 생성
+    private final SingleFlight<String, File> generating = new SingleFlight<>();
+
+    private final LongAdder hitCount = new LongAdder();        // 캐시 파일 전송 수
+    private final LongAdder generateCount = new LongAdder();   // 변형 생성 수
+
+    public ImageVariants(
+            @Value("${image.variant.dir:c:/upload/variants}") String cacheDir,
+            @Value("${image.variant.max-bytes:1073741824}") long maxBytes,     // 캐시 디렉토리 크기 상한 (1GB)
+            FileIoExecutor fileIoExecutor,
+            HotFileCache hotFileCache) {
+        this.cacheDir = Paths.get(cacheDir);
+        this.maxBytes = maxBytes;
+        this.fileIoExecutor = fileIoExecutor;
+        this.hotFileCache = hotFileCache;
+    }
+
+    /**
+     * 요청 크기의 이미지 파일 (캐시에 없으면 생성)
+     * - 원본 요청, 이미지가 아닌 파일, 이미 요청 크기보다 작은 이미지는 원본 파일 반환
+     * @param source 원본 파일
+     * @param sourceKey 원본 키 (내용이 바뀌면 달라지는 값 - digest 또는 keyOf())
+     * @param variant 요청 크기 (null이면 원본)
+     * @return 전송할 파일
+     */
+    public File get(File source, String sourceKey, ImageVariant variant) {
+        if (variant == null) {
+            return source;
+        }
+        Path cached = find(sourceKey, variant);
+        if (cached != null) {
+            hitCount.increment();
+            return cached.toFile();
+        }
+        return generating.load(pathOf(sourceKey, variant, "").toString(), key -> {
+            try {
+                Path target = generate(source, sourceKey, variant);
+                return target != null ? target.toFile() : source;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * 요청 크기의 이미지 전송 (원본 키 + 크기를 ETag로 사용)
+     * @param source 원본 파일
+     * @param sourceKey 원본 키
+     * @param variant 요청 크기 (null이면 원본)
+     */
+    public void send(HttpServletRequest request, HttpServletResponse response,
+                     File source, String sourceKey, ImageVariant variant) {
+        hotFileCache.sendImage(request, response, get(source, sourceKey, variant), etagOf(sourceKey, variant));
+    }
+
+    /**
+     * 모든 크기의 변형을 백그라운드에서 미리 생성 (업로드 직후 호출)
+     * - 파일 I/O 실행기가 바쁘면 생략 (첫 요청 시 생성됨)
+     */
+    public void generateAsync(File source, String sourceKey) {
+        fileIoExecutor.tryExecute(() -> {
+            for (ImageVariant variant : ImageVariant.values()) {
+                try {
+                    get(source, sourceKey, variant);
+                } catch (RuntimeException e) {
+                    log.warn("이미지 변형 미리 생성 실패: " + source + " (" + variant + ")", e);
+                    return;
+                }
+            }
+        });
+    }
+
+    /**
+     * digest가 없는 원본(여행지 이미지, 아바타)의 키
+     * - 경로 + 크기 + 수정 시각으로 계산 → 파일을 읽지 않고 내용 변경 감지
+     */
+    public static String keyOf(File source) {
+        String version = source.getAbsolutePath() + ":" + source.length() + ":" + source.lastModified();
+        return DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 변형 이미지의 ETag 값 (원본 키 + 크기, 따옴표 제외 - DownloadEngine이 붙임)
+    public static String etagOf(String sourceKey, ImageVariant variant) {
+        return sourceKey + "-" + (variant == null ? "original" : variant.name().toLowerCase(Locale.ROOT));
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getGenerateCount() {
+        return generateCount.sum();
+    }
+
+    /**
+     * 캐시 디렉토리 크기 제한 (기본 매시 15분)
+     * - 전체 크기가 상한을 넘으면 생성(수정) 시각이 오래된 변형부터 상한의 90%가 될 때까지 삭제
+     */
+    @Scheduled(cron = "${image.variant.trim-cron:0 15 * * * *}")
+    public void scheduled() {
+        try {
+            trim();
+        } catch (IOException e) {
+            log.warn("이미지 변형 캐시 정리 실패: " + cacheDir, e);
+        }
+    }
+
+    /**
+     * 캐시 디렉토리 크기 제한
+     * @return 삭제한 변형 수
+     */
+    public int trim() throws IOException {
+        if (!Files.isDirectory(cacheDir)) {
+            return 0;
+        }
+        record Cached(Path path, long size, long modified) {
+        }
+        List<Cached> files = new ArrayList<>();
+        long total = 0;
+        try (Stream<Path> walk = Files.walk(cacheDir)) {
+            for (Path path : (Iterable<Path>) walk::iterator) {
+                if (path.startsWith(cacheDir.resolve(TEMP_DIR))) {
+                    continue;    // 생성 중인 임시 파일
+                }
+                try {
+                    BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                    if (attrs.isRegularFile()) {
+                        files.add(new Cached(path, attrs.size(), attrs.lastModifiedTime().toMillis()));
+                        total += attrs.size();
+                    }
+                } catch (NoSuchFileException e) {
+                    // 목록 조회 후 삭제됨
+                }
+            }
+        }
+        if (total <= maxBytes) {
+            return 0;
+        }
+
+        files.sort(Comparator.comparingLong(Cached::modified));
+        long target = (long) (maxBytes * TRIM_TARGET);
+        int deleted = 0;
+        for (Cached file : files) {
+            if (total <= target) {
+                break;
+            }
+            if (Files.deleteIfExists(file.path())) {
+                hotFileCache.invalidate(file.path().toFile());
+                total -= file.size();
+                deleted++;
+            }
+        }
+        log.info("이미지 변형 캐시 정리: " + deleted + "개 삭제, 남은 크기 " + total + " byte (상한 " + maxBytes + ")");
+        return deleted;
+    }
+
+    // 변형 경로 ({캐시 디렉토리}/{크기}/ab/cd/{원본 키}.{형식})
+    private Path pathOf(String sourceKey, ImageVariant variant, String format) {
+        return StorageLayout.resolve(cacheDir.resolve(variant.name().toLowerCase(Locale.ROOT)),
+                format.isEmpty() ? sourceKey : sourceKey + "." + format);
+    }
+
+    // 이미 생성된 변형 (형식은 원본 내용으로 정해지므로 가능한 형식을 모두 확인)
+    private Path find(String sourceKey, ImageVariant variant) {
+        for (String format : FORMATS) {
+            Path path = pathOf(sourceKey, variant, format);
+            if (Files.exists(path)) {
+                return path;
+            }
+        }
+        return null;
+    }
+
+    // 투명도가 있을 수 있는 형식(PNG, GIF)은 PNG, 나머지는 JPEG으로 저장 (ImageReader 형식 이름 기준)
+    private static String formatOf(String readerFormat) {
+        String name = readerFormat.toLowerCase(Locale.ROOT);
+        return name.equals("png") || name.equals("gif") ? "png" : "jpg";
+    }
+
+    /**
+     * 변형 생성 (임시 파일에 쓴 뒤 원자적 이동)
+     * @return 생성된 변형 경로 (이미지가 아니거나 이미 작으면 null)
+     */
+    private Path generate(File source, String sourceKey, ImageVariant variant) throws IOException {
+        Path cached = find(sourceKey, variant);
+        if (cached != null) {
+            return cached;    // 기다리는 동안 다른 요청이 생성함
+        }
+
+        long start = System.nanoTime();
+        Decoded decoded = read(source, variant.getMaxSize());
+        if (decoded == null) {
+            return null;
+        }
+        String format = formatOf(decoded.format());
+        Path target = pathOf(sourceKey, variant, format);
+
+        // 축소 크기는 건너뛰며 읽기 전 원본 크기 기준으로 계산
+        int longest = Math.max(decoded.width(), decoded.height());
+        int width = Math.max(1, Math.round((float) decoded.width() * variant.getMaxSize() / longest));
+        int height = Math.max(1, Math.round((float) decoded.height() * variant.getMaxSize() / longest));
+        BufferedImage scaled = scale(decoded.image(), width, height, format.equals("png"));
+        Path tempDir = Files.createDirectories(cacheDir.resolve(TEMP_DIR));
+        Path temp = Files.createTempFile(tempDir, "variant-", ".part");
+        try {
+            write(scaled, format, temp.toFile());
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            hotFileCache.invalidate(target.toFile());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        generateCount.increment();
+        log.info("이미지 변형 생성: " + source.getName() + " → " + variant + " " + scaled.getWidth() + "x" + scaled.getHeight()
+                + " (" + (System.nanoTime() - start) / 1_000_000 + "ms)");
+        return target;
+    }
+
+    /**
+     * 원본 이미지 읽기
+     * - 크기(헤더)만 먼저 읽어 요청 크기 이하이면 디코딩하지 않음
+     * - 요청 크기의 2배 이상 큰 이미지는 건너뛰며 읽어(subsampling) 디코딩 메모리 절약
+     * @return 축소가 필요한 이미지와 원본 크기/형식, 이미지가 아니거나 이미 작으면 null
+     */
+    private static Decoded read(File source, int maxSize) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source)) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int longest = Math.max(width, height);
+                if (longest <= maxSize) {
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, longest / (maxSize * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return new Decoded(reader.read(0, param), width, height, reader.getFormatName());
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 디코딩된 이미지 + 원본 크기 (건너뛰며 읽으면 이미지가 원본보다 작음) + 원본 형식 (png, gif, JPEG 등)
+    private record Decoded(BufferedImage image, int width, int height, String format) {
+    }
+
+    // 목표 크기로 축소 (절반씩 줄여 계단 현상 방지)
+    private static BufferedImage scale(BufferedImage image, int targetWidth, int targetHeight, boolean alpha) {
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height,
+                    alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                if (!alpha) {
+                    g.setColor(Color.WHITE);          // JPEG은 투명도가 없으므로 흰 배경
+                    g.fillRect(0, 0, width, height);
+                }
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static void write(BufferedImage image, String format, File file) throws IOException {
+        if (format.equals("png")) {
+            ImageIO.write(image, "png", file);
+            return;
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(file)) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.AccessLevel;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 
 @Data
@@ -19,11 +20,36 @@ public class Page<T> {
 
     private List<T> list;       // 페이징된 데이터 목록
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)  // 커서 모드에서만 직렬화
+    private String nextCursor;  // 다음 페이지(더 오래된 글) 커서
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String prevCursor;  // 이전 페이지(더 최신 글) 커서
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)  // 근사 건수 요청 시에만 직렬화
+    private Boolean approximate; // true: totalCount는 하한값 (예: "10,000+")
+
     // 정적 팩토리 메서드 - 페이지 객체 생성
-    public static <T> Page of(PageRequest pageRequest, int totalCount, List<T> list) {
+    public static <T> Page<T> of(PageRequest pageRequest, int totalCount, List<T> list) {
         // 전체 페이지 수 계산 (올림 처리)
         int totalPage = (int)Math.ceil((double)totalCount / pageRequest.getAmount());
-        return new Page(totalCount, totalPage, pageRequest, list);
+        return new Page<>(totalCount, totalPage, pageRequest, list, null, null, null);
+    }
+
+    // 정적 팩토리 메서드 - 근사 건수 페이지 객체 생성 (상한을 넘으면 상한값 + approximate 표시)
+    public static <T> Page<T> ofApproximate(PageRequest pageRequest, int cappedCount, List<T> list) {
+        boolean over = cappedCount > PageRequest.APPROX_COUNT_LIMIT;
+        Page<T> page = of(pageRequest, over ? PageRequest.APPROX_COUNT_LIMIT : cappedCount, list);
+        page.setApproximate(over);
+        return page;
+    }
+
+    // 정적 팩토리 메서드 - 커서 페이지 객체 생성 (전체 건수는 계산하지 않음)
+    public static <T> Page<T> ofCursor(PageRequest pageRequest, List<T> list,
+                                       PageCursor next, PageCursor prev) {
+        return new Page<>(0, 0, pageRequest, list,
+                next == null ? null : next.encode(),
+                prev == null ? null : prev.encode(), null);
     }
 
     // 현재 페이지 번호 반환
@@ -0,0 +1,62 @@
+package org.scoula.common.pagination;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이지네이션 위치 정보
+ * - 마지막으로 본 게시글 번호와 이동 방향을 담아 불투명(opaque) 문자열로 인코딩
+ * - 클라이언트는 응답의 nextCursor / prevCursor 값을 그대로 다시 전달하기만 하면 됨
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PageCursor {
+    private static final String NEXT = "n";   // 더 오래된 글 방향 (no 감소)
+    private static final String PREV = "p";   // 더 최신 글 방향 (no 증가)
+
+    private final long no;              // 기준 게시글 번호 (이 번호는 결과에서 제외)
+    private final boolean backward;     // true: 이전 페이지(최신 방향) 조회
+
+    // 다음 페이지(더 오래된 글) 커서 생성
+    public static PageCursor next(long no) {
+        return new PageCursor(no, false);
+    }
+
+    // 이전 페이지(더 최신 글) 커서 생성
+    public static PageCursor prev(long no) {
+        return new PageCursor(no, true);
+    }
+
+    /**
+     * 커서 문자열 해석
+     * @param cursor 인코딩된 커서 문자열
+     * @return 해석된 커서 (빈 문자열이면 null → 첫 페이지)
+     * @throws IllegalArgumentException 잘못된 형식의 커서
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 2);
+            long no = Long.parseLong(parts[1]);
+            if (NEXT.equals(parts[0])) return next(no);
+            if (PREV.equals(parts[0])) return prev(no);
+        } catch (RuntimeException e) {
+            // 아래에서 공통 예외로 변환
+        }
+        throw new IllegalArgumentException("잘못된 커서 값입니다: " + cursor);
+    }
+
+    // 커서를 URL에 안전한 불투명 문자열로 인코딩
+    public String encode() {
+        String raw = (backward ? PREV : NEXT) + ":" + no;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
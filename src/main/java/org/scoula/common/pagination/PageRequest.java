@@ -1,13 +1,38 @@
 package org.scoula.common.pagination;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
 
 @Data
 public class PageRequest {
+    // 근사 건수 모드에서 정확히 세는 최대 건수 (초과 시 "10,000+"로 표시)
+    public static final int APPROX_COUNT_LIMIT = 10000;
+
     private int page;   // 요청 페이지 번호 (1부터 시작)
     private int amount; // 한 페이지당 데이터 건수
     private String type;      // 검색 타입 (title, content, writer, titleContent 등)
     private String keyword;   // 검색 키워드
+    private String cursor;    // 커서 페이지네이션 위치 (null: offset 모드, 빈 문자열: 커서 모드 첫 페이지)
+    private boolean approx;   // 근사 건수 요청 여부 (true: APPROX_COUNT_LIMIT 까지만 계산)
+
+    // 해석된 커서 위치 (서비스에서 applyCursor로 설정, setter가 없으므로 요청 파라미터로 바인딩되지 않음)
+    @Setter(AccessLevel.NONE)
+    private Long cursorNo;    // 커서 기준 게시글 번호 (첫 페이지면 null)
+    @Setter(AccessLevel.NONE)
+    private boolean backward; // 이전 페이지(최신 방향) 조회 여부
+
+    // 필터 조건 (검색 키워드와 AND 결합, 인덱스 사용)
+    private String writer;            // 작성자 정확히 일치 (예: 내 글 보기)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;           // 등록일 시작 (포함, yyyy-MM-dd)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;             // 등록일 끝 (포함, yyyy-MM-dd)
+    private Boolean hasAttachment;    // 첨부파일 유무 (null: 조건 없음)
+    private String district;          // 여행지 권역 정확히 일치 (null/빈 문자열: 조건 없음)
 
     // 기본 생성자: 첫 페이지, 10개씩 표시
     public PageRequest() {
@@ -31,9 +56,48 @@ public class PageRequest {
         return (page - 1) * amount;
     }
 
-    // 검색 조건 확인 메서드
+    // 검색 조건 확인 메서드 (키워드 또는 필터)
     public boolean hasSearchCondition() {
-        return keyword != null && !keyword.trim().isEmpty();
+        return (keyword != null && !keyword.trim().isEmpty()) || hasFilter();
+    }
+
+    // 필터 조건 확인 메서드
+    public boolean hasFilter() {
+        return (writer != null && !writer.isEmpty()) || from != null || to != null || hasAttachment != null;
+    }
+
+    // 등록일 끝 조건 (reg_date < 다음날 0시 → 끝 날짜 하루 전체 포함, 인덱스 범위 검색 유지)
+    public LocalDate getToExclusive() {
+        return to == null ? null : to.plusDays(1);
+    }
+
+    // FULLTEXT BOOLEAN MODE 검색어 - 연산자 해석을 막기 위해 큰따옴표 구문(phrase)으로 감쌈
+    public String getFulltextKeyword() {
+        return keyword == null ? null : "\"" + keyword.trim().replace("\"", " ") + "\"";
+    }
+
+    // 근사 건수 조회 시 LIMIT 값 (상한 초과 여부 판단을 위해 1건 더)
+    public int getCountLimit() {
+        return APPROX_COUNT_LIMIT + 1;
+    }
+
+    // 커서(keyset) 페이지네이션 요청 여부
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+
+    /**
+     * 해석된 커서 위치 설정 (매퍼 호출 전 서비스에서 PageCursor.decode로 검증한 값)
+     * @param pageCursor 해석된 커서 (첫 페이지면 null)
+     */
+    public void applyCursor(PageCursor pageCursor) {
+        this.cursorNo = pageCursor == null ? null : pageCursor.getNo();
+        this.backward = pageCursor != null && pageCursor.isBackward();
+    }
+
+    // 커서 모드 조회 건수 - 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+    public int getCursorFetchSize() {
+        return amount + 1;
     }
 
     // 제목 검색 여부
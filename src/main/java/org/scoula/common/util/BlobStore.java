@@ -0,0 +1,283 @@
+package org.scoula.common.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 내용 주소 기반(content-addressed) 파일 저장소
+ * - 파일 내용의 SHA-256 값(digest)을 파일명으로 사용 → 같은 내용은 한 번만 저장
+ * - digest 앞 4자로 하위 디렉토리 분산 (StorageLayout)
+ * - 임시 파일에 쓴 뒤 원자적 이동(atomic move)으로 저장 → 불완전한 파일이 노출되지 않음
+ * - 참조 수는 첨부파일 테이블의 digest 컬럼으로 계산 (삭제는 참조가 없을 때만)
+ */
+public class BlobStore {
+    private static final String ALGORITHM = "SHA-256";
+    private static final String TEMP_DIR = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // 저장 형식 (원본, gzip) - 같은 내용은 둘 중 하나로만 저장됨
+    private static final String[] ENCODINGS = {null, Compression.GZIP};
+
+    // 저장 결과
+    @Getter
+    @AllArgsConstructor
+    public static class Blob {
+        private final String digest;    // SHA-256 (16진수 64자)
+        private final String path;      // 저장 경로
+        private final long size;        // 파일 크기
+        private final boolean created;  // true: 새로 저장, false: 기존 파일 재사용
+        private final FileTime storedAt; // 새로 저장한 파일의 수정 시각 (재사용이면 null)
+        private final String encoding;  // 압축 저장 형식 (gzip, 원본 그대로면 null)
+    }
+
+    /**
+     * 업로드 파일 저장 (같은 내용이 이미 있으면 기존 파일 재사용)
+     * - 업로드 데이터를 한 번만 읽으며 임시 파일 기록과 digest 계산을 함께 수행
+     * @param baseDir 저장 디렉토리
+     * @param part 업로드된 파일 객체
+     * @return 저장 결과
+     * @throws IOException 파일 처리 중 오류 발생 시
+     */
+    public static Blob put(String baseDir, MultipartFile part) throws IOException {
+        return put(baseDir, part, false);
+    }
+
+    /**
+     * 업로드 파일 저장 (압축 저장 선택 가능)
+     * - compress가 true이고 압축 대상 형식이면 gzip으로 저장 ({digest}.gz)
+     * - 압축해도 크기가 충분히 줄지 않으면 원본으로 저장
+     * - digest와 size는 항상 원본 내용 기준
+     * - 같은 내용이 이미 있으면 임시 파일만 삭제하고 기존 파일 재사용
+     * @param compress 압축 저장 여부
+     */
+    public static Blob put(String baseDir, MultipartFile part, boolean compress) throws IOException {
+        String encoding = compress && Compression.isCompressible(part.getContentType()) ? Compression.GZIP : null;
+        try (InputStream in = part.getInputStream()) {
+            return store(baseDir, in, encoding);
+        }
+    }
+
+    /**
+     * 스트림 저장 (한 번 읽으면서 임시 파일 기록과 digest 계산을 함께 수행)
+     * @param baseDir 저장 디렉토리
+     * @param in 저장할 데이터
+     * @return 저장 결과
+     * @throws IOException 파일 처리 중 오류 발생 시
+     */
+    public static Blob put(String baseDir, InputStream in) throws IOException {
+        return store(baseDir, in, null);
+    }
+
+    /**
+     * 이미 디스크에 기록된 파일 저장 (분할 업로드 완료 파일 등)
+     * - 파일을 읽어 digest 계산 후 digest 이름으로 원자적 이동 → 데이터 복사 없음
+     * - 같은 내용이 이미 있으면 원본 파일을 삭제하고 기존 파일 재사용
+     * - 원본 파일은 baseDir과 같은 파일 시스템에 있어야 함
+     * @param baseDir 저장 디렉토리
+     * @param file 저장할 파일 (저장 후 원래 위치에서 사라짐)
+     * @param expectedDigest 클라이언트가 알려준 SHA-256 (null이면 검사하지 않음)
+     * @return 저장 결과
+     * @throws IOException 파일 처리 중 오류 발생 시
+     * @throws IllegalArgumentException 내용이 expectedDigest와 다른 경우
+     */
+    public static Blob put(String baseDir, Path file, String expectedDigest) throws IOException {
+        String digest = digestOf(file);
+        if (expectedDigest != null && !expectedDigest.equalsIgnoreCase(digest)) {
+            throw new IllegalArgumentException("파일 내용이 SHA-256 값과 일치하지 않습니다: " + digest);
+        }
+
+        long size = Files.size(file);
+        Blob existing = reuseAny(baseDir, digest, size);
+        if (existing != null) {
+            Files.deleteIfExists(file);
+            return existing;
+        }
+        Path target = pathOf(baseDir, digest);
+        Files.createDirectories(target.getParent());
+        FileTime storedAt = Files.getLastModifiedTime(file);   // 이동해도 수정 시각은 유지됨
+        try {
+            Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+            return created(digest, target, size, storedAt, null);
+        } catch (FileAlreadyExistsException e) {
+            // 같은 내용이 동시에 저장됨 → 먼저 저장된 파일 사용
+            Files.deleteIfExists(file);
+            return reuseAny(baseDir, digest, size);
+        }
+    }
+
+    // digest 값의 저장 경로
+    public static Path pathOf(String baseDir, String digest) {
+        return pathOf(baseDir, digest, null);
+    }
+
+    // digest 값의 압축 형식별 저장 경로 ({baseDir}/ab/cd/{digest}, gzip: {digest}.gz)
+    // 저장 구조 이전 완료 전에는 기존 위치({baseDir}/{digest})에 있는 파일도 사용
+    public static Path pathOf(String baseDir, String digest, String encoding) {
+        return StorageLayout.resolveStored(baseDir, digest + Compression.suffixOf(encoding));
+    }
+
+    /**
+     * 파일 내용의 SHA-256 값
+     * @param file 대상 파일
+     * @return digest (16진수 64자)
+     * @throws IOException 파일 처리 중 오류 발생 시
+     */
+    public static String digestOf(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return digest(in);
+        }
+    }
+
+    /**
+     * 참조가 없어진 파일 삭제
+     * - 최근 재사용된(수정 시각이 갱신된) 파일은 삭제하지 않음
+     *   → 참조 수 확인과 삭제 사이에 같은 내용이 다시 업로드되는 경우 보호
+     * @param baseDir 저장 디렉토리
+     * @param digest 삭제할 파일의 digest
+     * @param graceMillis 최근 사용 보호 시간
+     * @return 삭제 여부
+     */
+    public static boolean deleteIfIdle(String baseDir, String digest, long graceMillis) throws IOException {
+        boolean deleted = false;
+        for (String encoding : ENCODINGS) {
+            Path target = pathOf(baseDir, digest, encoding);
+            try {
+                FileTime modified = Files.getLastModifiedTime(target);
+                if (System.currentTimeMillis() - modified.toMillis() < graceMillis) {
+                    continue;
+                }
+                deleted |= Files.deleteIfExists(target);
+            } catch (NoSuchFileException e) {
+                // 해당 형식으로 저장된 파일 없음
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 새로 저장한 파일 되돌리기 (저장 후 DB 반영이 실패/롤백된 경우)
+     * - 재사용한 파일은 다른 첨부파일의 것이므로 삭제하지 않음
+     * - 저장 이후 다른 업로드가 같은 내용을 재사용했다면(수정 시각 변경) 삭제하지 않음
+     * @param blob 저장 결과
+     * @return 삭제 여부
+     */
+    public static boolean discard(Blob blob) throws IOException {
+        if (!blob.isCreated()) {
+            return false;
+        }
+        Path target = Paths.get(blob.getPath());
+        try {
+            if (!Files.getLastModifiedTime(target).equals(blob.getStoredAt())) {
+                return false;
+            }
+            return Files.deleteIfExists(target);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private static Blob created(String digest, Path target, long size, FileTime storedAt, String encoding) {
+        return new Blob(digest, target.toString(), size, true, storedAt, encoding);
+    }
+
+    // 같은 내용이 어떤 형식으로든 저장되어 있으면 재사용
+    private static Blob reuseAny(String baseDir, String digest, long size) throws IOException {
+        for (String encoding : ENCODINGS) {
+            Path target = pathOf(baseDir, digest, encoding);
+            if (reuse(target)) {
+                return new Blob(digest, target.toString(), size, false, null, encoding);
+            }
+        }
+        return null;
+    }
+
+    // 기존 파일 재사용 (수정 시각을 갱신하여 삭제 대상에서 보호)
+    private static boolean reuse(Path target) throws IOException {
+        try {
+            Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 임시 파일에 기록하며 digest 계산 후 digest 이름으로 원자적 이동
+     * - encoding이 있으면 압축하며 기록하고, 압축 효과가 적으면 원본으로 다시 풀어 저장
+     */
+    private static Blob store(String baseDir, InputStream in, String encoding) throws IOException {
+        Path tempDir = Files.createDirectories(Paths.get(baseDir, TEMP_DIR));
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+        Path raw = null;
+        try {
+            MessageDigest md = newDigest();
+            long size;
+            try (DigestInputStream din = new DigestInputStream(in, md);
+                 OutputStream out = Compression.encode(encoding, Files.newOutputStream(temp))) {
+                size = din.transferTo(out);
+            }
+            String digest = HexFormat.of().formatHex(md.digest());
+
+            Blob existing = reuseAny(baseDir, digest, size);
+            if (existing != null) {
+                return existing;
+            }
+
+            // 압축 효과가 적으면(이미 압축된 PDF 등) 원본으로 저장 → 다운로드 시 압축 해제 비용 없음
+            Path source = temp;
+            if (encoding != null && Files.size(temp) > size * (1 - Compression.MIN_SAVING)) {
+                raw = Files.createTempFile(tempDir, "upload-", ".part");
+                try (InputStream decoded = Compression.decode(encoding, Files.newInputStream(temp))) {
+                    Files.copy(decoded, raw, StandardCopyOption.REPLACE_EXISTING);
+                }
+                source = raw;
+                encoding = null;
+            }
+
+            Path target = pathOf(baseDir, digest, encoding);
+            Files.createDirectories(target.getParent());
+            FileTime storedAt = Files.getLastModifiedTime(source);   // 이동해도 수정 시각은 유지됨
+            try {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 같은 내용이 동시에 저장됨 → 먼저 저장된 파일 사용
+                return reuseAny(baseDir, digest, size);
+            }
+            return created(digest, target, size, storedAt, encoding);
+        } finally {
+            Files.deleteIfExists(temp);
+            if (raw != null) {
+                Files.deleteIfExists(raw);
+            }
+        }
+    }
+
+    private static String digest(InputStream in) throws IOException {
+        MessageDigest md = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            md.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(md.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);   // 모든 JVM이 SHA-256을 지원
+        }
+    }
+}
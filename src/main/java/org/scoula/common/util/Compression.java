@@ -0,0 +1,97 @@
+package org.scoula.common.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 첨부파일 압축 저장 지원
+ * - 압축 효과가 있는 형식(텍스트, CSV, JSON, XML, PDF 등)만 gzip으로 저장
+ * - 저장된 압축 형식(encoding)은 HTTP Content-Encoding 값과 같음 → 클라이언트가 지원하면 그대로 전송
+ */
+public class Compression {
+    public static final String GZIP = "gzip";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // 압축해도 이만큼 줄지 않으면 원본으로 저장 (이미 압축된 PDF 등)
+    public static final double MIN_SAVING = 0.1;
+
+    // text/* 외에 압축 대상 MIME 타입 (이미지/동영상/zip 등은 이미 압축되어 있음)
+    private static final Set<String> COMPRESSIBLE_TYPES = Set.of(
+            "application/json",
+            "application/x-ndjson",
+            "application/xml",
+            "application/javascript",
+            "application/pdf",
+            "application/rtf",
+            "application/x-sh",
+            "application/sql");
+
+    /**
+     * 압축 저장 대상 여부
+     * @param contentType MIME 타입 (파라미터 포함 가능, 예: text/plain; charset=UTF-8)
+     */
+    public static boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.split(";")[0].trim().toLowerCase(Locale.ROOT);
+        return type.startsWith("text/") || COMPRESSIBLE_TYPES.contains(type) || type.endsWith("+json")
+                || (type.endsWith("+xml") && !type.equals("image/svg+xml"));   // SVG는 이미지로 표시하므로 원본 유지
+    }
+
+    // 저장 파일명 접미사 (압축하지 않으면 빈 문자열)
+    public static String suffixOf(String encoding) {
+        return GZIP.equals(encoding) ? ".gz" : "";
+    }
+
+    // 압축 스트림 (encoding이 null이면 그대로)
+    public static OutputStream encode(String encoding, OutputStream out) throws IOException {
+        return GZIP.equals(encoding) ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+    }
+
+    // 압축 해제 스트림 (encoding이 null이면 그대로)
+    public static InputStream decode(String encoding, InputStream in) throws IOException {
+        return GZIP.equals(encoding) ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+    }
+
+    /**
+     * Accept-Encoding 헤더가 해당 압축 형식을 허용하는지 확인
+     * - "gzip", "gzip;q=0.5", "*" 허용 / "gzip;q=0" 거부
+     * @param acceptEncoding 요청의 Accept-Encoding 헤더 (없으면 null)
+     * @param encoding 확인할 압축 형식
+     */
+    public static boolean accepts(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean allowed = true;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().toLowerCase(Locale.ROOT);
+                if (param.startsWith("q=")) {
+                    try {
+                        allowed = Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        allowed = false;
+                    }
+                }
+            }
+            if (coding.equals(encoding)) {
+                return allowed;
+            }
+            if (coding.equals("*")) {
+                wildcard = allowed;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+}
@@ -0,0 +1,315 @@
+package org.scoula.common.util;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class DownloadEngine {
+    // Tomcat sendfile 요청 속성 (NIO 커넥터에서 FileChannel.transferTo로 소켓에 직접 전송)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // sendfile 사용 최소 크기 (Tomcat DefaultServlet 기본값과 동일, 작은 파일은 직접 쓰는 편이 빠름)
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    // 직접 전송용 복사 버퍼 크기 (요청마다 힙 버퍼 하나)
+    //  - 서블릿 응답은 OutputStream이므로 byte[]로 써야 함 → 다이렉트 버퍼를 써도 힙 복사가 한 번 더 생길 뿐
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // 한 요청에서 허용하는 최대 구간 수 (과도한 multipart 응답 방지)
+    private static final int MAX_RANGES = 16;
+
+    /**
+     * 파일 전송 (Range 요청 지원)
+     * - Range 없음 / If-Range 불일치 / 잘못된 Range: 200 + 파일 전체
+     * - 구간 1개: 206 + Content-Range (sendfile 사용 가능)
+     * - 구간 여러 개: 206 + multipart/byteranges
+     * - 파일 범위를 벗어난 구간: 416 + Content-Range (전체 크기만 표시)
+     * @param request HTTP 요청 객체 (Range/If-Range 헤더, sendfile 지원 여부 확인)
+     * @param response HTTP 응답 객체 (Content-Type 등 다른 헤더는 호출 전에 설정)
+     * @param file 전송할 파일
+     * @throws IOException 전송 실패 시 (클라이언트 연결 종료 포함)
+     */
+    public static void send(HttpServletRequest request, HttpServletResponse response, File file)
+            throws IOException {
+        send(request, response, file, null);
+    }
+
+    /**
+     * 파일 전송 (Range 요청 + ETag 지원)
+     * - ETag가 있으면 If-None-Match 일치 시 304, If-Range에 ETag 사용 가능
+     * @param etag 파일 내용이 바뀌지 않는 한 같은 값 (예: 내용 digest, 따옴표 제외), 없으면 null
+     */
+    public static void send(HttpServletRequest request, HttpServletResponse response, File file, String etag)
+            throws IOException {
+        long fileLength = length(file);
+        long lastModified = file.lastModified();
+        String quotedETag = etag == null ? null : "\"" + etag + "\"";
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        if (notModified(request, response, quotedETag)) {
+            return;
+        }
+
+        // 1. Range 해석 (없거나 If-Range가 현재 파일과 다르면 전체 전송)
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !matchesIfRange(request, lastModified, quotedETag)) {
+            send(request, response, file, 0, fileLength);
+            return;
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            send(request, response, file, 0, fileLength);   // 해석할 수 없는 Range는 무시
+            return;
+        }
+
+        // 2. 파일 범위 안의 구간만 선택 (하나도 없으면 416)
+        List<long[]> regions = new ArrayList<>();
+        long total = 0;
+        for (HttpRange range : ranges) {
+            long start = range.getRangeStart(fileLength);
+            long end = range.getRangeEnd(fileLength);   // 파일 끝을 넘으면 마지막 바이트로 맞춰짐
+            if (start >= fileLength || end < start) {
+                continue;                                // 파일 크기를 벗어난 구간은 제외
+            }
+            regions.add(new long[]{start, end - start + 1});
+            total += end - start + 1;
+        }
+        if (regions.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileLength);
+            return;
+        }
+        if (regions.size() > MAX_RANGES || total > fileLength) {
+            send(request, response, file, 0, fileLength);   // 겹치거나 지나치게 잘게 나눈 요청은 전체 전송
+            return;
+        }
+
+        // 3. 206 Partial Content
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        if (regions.size() == 1) {
+            long[] region = regions.get(0);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(region, fileLength));
+            send(request, response, file, region[0], region[1]);
+        } else {
+            sendMultipart(response, file, regions, fileLength);
+        }
+    }
+
+    /**
+     * 압축 저장된 파일 전송 (Content-Encoding 협상)
+     * - 클라이언트가 저장 형식을 허용하면(Accept-Encoding) 저장된 바이트를 그대로 전송 + Content-Encoding
+     *   → 압축/해제 비용 없음, Range는 압축된 바이트 기준 (ETag도 원본과 구분)
+     * - 허용하지 않으면 읽으면서 압축 해제하여 전송 (Content-Length는 원본 크기, Range 미지원)
+     * - 캐시가 응답을 구분하도록 항상 Vary: Accept-Encoding
+     * @param etag 원본 내용 기준 ETag (따옴표 제외), 없으면 null
+     * @param encoding 저장 형식 (gzip), null이면 일반 파일 전송
+     * @param decodedLength 원본 크기 (모르면 -1)
+     */
+    public static void send(HttpServletRequest request, HttpServletResponse response, File file, String etag,
+                            String encoding, long decodedLength) throws IOException {
+        if (encoding == null) {
+            send(request, response, file, etag);
+            return;
+        }
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (Compression.accepts(request.getHeader(HttpHeaders.ACCEPT_ENCODING), encoding)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+            send(request, response, file, etag == null ? null : etag + "-" + encoding);
+            return;
+        }
+
+        length(file);   // 없는 파일이면 404
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "none");
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, file.lastModified());
+        if (notModified(request, response, etag == null ? null : "\"" + etag + "\"")) {
+            return;
+        }
+        if (decodedLength >= 0) {
+            response.setContentLengthLong(decodedLength);
+        }
+        try (InputStream in = Compression.decode(encoding, new FileInputStream(file))) {
+            OutputStream out = response.getOutputStream();
+            in.transferTo(out);
+            out.flush();
+        }
+    }
+
+    /**
+     * 메모리(캐시된 파일 등)에 있는 내용 전체 전송 (Range 미처리 - Range 요청은 파일 전송 사용)
+     * - 파일 전송과 같은 헤더(Accept-Ranges, Last-Modified, ETag)와 If-None-Match 304 처리
+     * - 파일을 열거나 상태를 조회하지 않음
+     * @param content 전송할 내용 (position ~ limit, 원본 버퍼의 위치는 바뀌지 않음)
+     * @param lastModified 내용의 수정 시각
+     * @param etag 내용이 바뀌지 않는 한 같은 값 (따옴표 제외), 없으면 null
+     */
+    public static void send(HttpServletRequest request, HttpServletResponse response, ByteBuffer content,
+                            long lastModified, String etag) throws IOException {
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        if (notModified(request, response, etag == null ? null : "\"" + etag + "\"")) {
+            return;
+        }
+        ByteBuffer buffer = content.duplicate();   // 여러 요청이 같은 버퍼를 동시에 전송
+        response.setContentLengthLong(buffer.remaining());
+
+        OutputStream out = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(out);
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+        out.flush();
+    }
+
+    // ETag 설정 후 클라이언트가 같은 내용을 가지고 있으면(If-None-Match) 본문 없이 304
+    private static boolean notModified(HttpServletRequest request, HttpServletResponse response, String quotedETag) {
+        if (quotedETag == null) {
+            return false;
+        }
+        response.setHeader(HttpHeaders.ETAG, quotedETag);
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.trim().equals("*") || ifNoneMatch.contains(quotedETag))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return true;
+        }
+        return false;
+    }
+
+    // If-Range 검사 - ETag가 같거나(강한 비교) 날짜가 파일 수정 시각(초 단위)과 같을 때만 부분 전송
+    private static boolean matchesIfRange(HttpServletRequest request, long lastModified, String quotedETag) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(quotedETag);   // 약한 ETag(W/)는 항상 불일치
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // 여러 구간을 multipart/byteranges로 전송 (전체 길이를 미리 계산해 Content-Length 설정)
+    private static void sendMultipart(HttpServletResponse response, File file, List<long[]> regions,
+                                      long fileLength) throws IOException {
+        String contentType = response.getContentType() == null
+                ? MediaType.APPLICATION_OCTET_STREAM_VALUE : response.getContentType();
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+
+        List<byte[]> partHeaders = new ArrayList<>();
+        long contentLength = 0;
+        for (long[] region : regions) {
+            byte[] header = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": " + contentRange(region, fileLength) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.ISO_8859_1);
+            partHeaders.add(header);
+            contentLength += header.length + region[1];
+        }
+        byte[] end = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.ISO_8859_1);
+        contentLength += end.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            OutputStream out = response.getOutputStream();
+            for (int i = 0; i < regions.size(); i++) {
+                out.write(partHeaders.get(i));
+                copy(channel, regions.get(i)[0], regions.get(i)[1], out);
+            }
+            out.write(end);
+            out.flush();
+        }
+    }
+
+    // Content-Range 헤더 값 (bytes 시작-끝/전체)
+    private static String contentRange(long[] region, long fileLength) {
+        return "bytes " + region[0] + "-" + (region[0] + region[1] - 1) + "/" + fileLength;
+    }
+
+    /**
+     * 파일의 일부 구간 전송 (Content-Length 포함)
+     * - 컨테이너가 sendfile을 지원하면 요청 속성만 설정하고 반환 → 응답 후 컨테이너가 커널에서 직접 전송
+     * - 지원하지 않으면 힙 버퍼로 파일 채널에서 응답 스트림으로 복사
+     * @param start 시작 위치 (바이트)
+     * @param length 전송 길이 (바이트)
+     */
+    public static void send(HttpServletRequest request, HttpServletResponse response, File file,
+                            long start, long length) throws IOException {
+        response.setContentLengthLong(length);   // 2GB 이상 파일도 정확한 길이
+
+        if (length >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.getCanonicalPath());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            OutputStream out = response.getOutputStream();
+            copy(channel, start, length, out);
+            out.flush();
+        }
+    }
+
+    /**
+     * 파일 채널의 구간을 출력 스트림으로 복사 (파일 위치 이동 없이 위치 지정 읽기)
+     * @param channel 읽을 파일 채널
+     * @param start 시작 위치
+     * @param length 복사 길이
+     * @param out 출력 스트림
+     */
+    public static void copy(FileChannel channel, long start, long length, OutputStream out) throws IOException {
+        byte[] bytes = new byte[(int) Math.min(BUFFER_SIZE, Math.max(1, length))];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long position = start;
+        long end = start + length;
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(bytes.length, end - position));
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("파일이 예상보다 짧습니다: " + position + "/" + end);
+            }
+            position += read;
+            out.write(bytes, 0, read);
+        }
+    }
+
+    // 파일 크기 (없는 파일이면 NoSuchElementException → 404)
+    public static long length(File file) {
+        if (!file.isFile()) {
+            throw new NoSuchElementException("파일이 없습니다: " + file.getName());
+        }
+        return file.length();
+    }
+}
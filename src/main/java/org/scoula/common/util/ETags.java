@@ -0,0 +1,23 @@
+package org.scoula.common.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+public class ETags {
+    /**
+     * 버전 구성 값으로 강한(strong) ETag 생성
+     * - 값들을 ':'로 이어 붙인 문자열의 MD5를 큰따옴표로 감싸 반환 (예: "9b2c...")
+     * - 같은 값이면 항상 같은 ETag → If-None-Match 비교에 사용
+     * @param parts 버전 구성 값 (수정일시, 첨부파일 수 등, null 허용)
+     * @return 따옴표를 포함한 ETag 문자열
+     */
+    public static String strong(Object... parts) {
+        StringJoiner joiner = new StringJoiner(":");
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(joiner.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,282 @@
+package org.scoula.common.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * multipart/form-data 스트리밍 파서
+ * - 요청 본문을 고정 크기 버퍼 하나로 읽으며 파트를 차례로 반환 (본문 전체를 메모리/임시 파일에 두지 않음)
+ * - 각 파트의 데이터는 다음 파트로 넘어가기 전에 getInputStream()으로 읽어야 함 (읽지 않은 데이터는 건너뜀)
+ * - 사용법: for (Part part = reader.next(); part != null; part = reader.next()) { ... }
+ */
+public class MultipartReader {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_HEADER_SIZE = 8 * 1024;
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] HEADER_END = {'\r', '\n', '\r', '\n'};
+
+    private final InputStream in;
+    private final byte[] delimiter;         // CRLF + "--" + boundary
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int head;                       // 읽을 위치
+    private int tail;                       // 채워진 끝 위치
+    private boolean eof;                    // 요청 본문 끝
+    private boolean finished;               // 마지막 경계(--boundary--) 확인
+
+    private PartInputStream current;
+
+    // 파트 정보
+    @Getter
+    @AllArgsConstructor
+    public static class Part {
+        private final String name;          // 폼 필드 이름
+        private final String filename;      // 파일명 (파일이 아닌 필드는 null)
+        private final String contentType;   // 파트의 Content-Type (없으면 null)
+        private final InputStream inputStream;
+
+        public boolean isFile() {
+            return filename != null;
+        }
+    }
+
+    /**
+     * @param in 요청 본문
+     * @param boundary Content-Type 헤더의 boundary 값
+     */
+    public MultipartReader(InputStream in, String boundary) {
+        if (boundary == null || boundary.isEmpty() || boundary.length() > 70) {
+            throw new IllegalArgumentException("multipart boundary가 올바르지 않습니다.");
+        }
+        this.in = in;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.US_ASCII);
+
+        // 첫 경계는 CRLF 없이 시작하므로 앞에 CRLF가 있는 것처럼 처리 → 모든 경계를 같은 방식으로 검색
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        tail = 2;
+    }
+
+    /**
+     * Content-Type 헤더에서 boundary 추출
+     * @param contentType 요청 Content-Type (예: multipart/form-data; boundary=----abc)
+     * @return boundary 값
+     * @throws IllegalArgumentException multipart/form-data 요청이 아닌 경우
+     */
+    public static String boundaryOf(String contentType) {
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/form-data")) {
+            throw new IllegalArgumentException("multipart/form-data 요청이 아닙니다.");
+        }
+        String boundary = parameter(contentType, "boundary");
+        if (boundary == null) {
+            throw new IllegalArgumentException("multipart boundary가 없습니다.");
+        }
+        return boundary;
+    }
+
+    /**
+     * 다음 파트
+     * @return 다음 파트, 더 이상 없으면 null
+     * @throws IOException 본문 읽기 실패 또는 형식 오류 시
+     */
+    public Part next() throws IOException {
+        // 1. 이전 파트(첫 호출 시에는 preamble)의 남은 데이터를 건너뛰고 경계까지 이동
+        if (current == null) {
+            current = new PartInputStream();
+        }
+        current.skipToEnd();
+        if (finished) {
+            return null;
+        }
+
+        // 2. 경계 뒤 "--"면 마지막, CRLF면 헤더 시작
+        fill(2);
+        if (tail - head < 2) {
+            throw new IOException("multipart 본문이 중간에 끝났습니다.");
+        }
+        if (buffer[head] == '-' && buffer[head + 1] == '-') {
+            finished = true;
+            return null;
+        }
+        if (buffer[head] != '\r' || buffer[head + 1] != '\n') {
+            throw new IOException("multipart 경계 형식이 올바르지 않습니다.");
+        }
+        head += 2;
+
+        // 3. 파트 헤더 읽기
+        String headers = readHeaders();
+        String name = null;
+        String filename = null;
+        String contentType = null;
+        for (String line : headers.split("\r\n")) {
+            int colon = line.indexOf(':');
+            if (colon < 0) continue;
+            String key = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+            if (key.equals("content-disposition")) {
+                name = parameter(value, "name");
+                filename = parameter(value, "filename");
+            } else if (key.equals("content-type")) {
+                contentType = value;
+            }
+        }
+
+        current = new PartInputStream();
+        return new Part(name, baseName(filename), contentType, current);
+    }
+
+    // 헤더 끝(빈 줄)까지 읽어 문자열로 반환
+    private String readHeaders() throws IOException {
+        // 헤더 없이 바로 빈 줄이 오는 경우
+        fill(CRLF.length);
+        if (tail - head >= CRLF.length && buffer[head] == '\r' && buffer[head + 1] == '\n') {
+            head += CRLF.length;
+            return "";
+        }
+        while (true) {
+            int end = indexOf(HEADER_END, head, tail);
+            if (end >= 0) {
+                String headers = new String(buffer, head, end - head, StandardCharsets.UTF_8);
+                head = end + HEADER_END.length;
+                return headers;
+            }
+            if (tail - head >= MAX_HEADER_SIZE) {
+                throw new IOException("multipart 파트 헤더가 너무 깁니다.");
+            }
+            if (eof) {
+                throw new IOException("multipart 본문이 중간에 끝났습니다.");
+            }
+            fill(tail - head + 1);
+        }
+    }
+
+    // 버퍼에 최소 n 바이트가 있도록 읽기 (본문이 끝나면 그보다 적을 수 있음)
+    private void fill(int n) throws IOException {
+        if (tail - head >= n || eof) {
+            return;
+        }
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            head = 0;
+        }
+        while (tail < n && !eof) {
+            int read = in.read(buffer, tail, buffer.length - tail);
+            if (read == -1) {
+                eof = true;
+            } else {
+                tail += read;
+            }
+        }
+    }
+
+    private int indexOf(byte[] pattern, int from, int to) {
+        outer:
+        for (int i = from; i <= to - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (buffer[i + j] != pattern[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    // 현재 파트 데이터 (다음 경계 직전까지)
+    private class PartInputStream extends InputStream {
+        private boolean done;
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (done) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            int available = available();
+            if (available == 0) {
+                return -1;
+            }
+            int n = Math.min(len, available);
+            System.arraycopy(buffer, head, b, off, n);
+            head += n;
+            return n;
+        }
+
+        // 경계와 겹치지 않음이 확인된(바로 반환할 수 있는) 바이트 수, 경계에 도달하면 0
+        @Override
+        public int available() throws IOException {
+            if (done) {
+                return 0;
+            }
+            fill(delimiter.length);
+            int found = indexOf(delimiter, head, tail);
+            if (found == head) {
+                head += delimiter.length;
+                done = true;
+                return 0;
+            }
+            if (found > head) {
+                return found - head;
+            }
+            if (eof) {
+                throw new IOException("multipart 본문이 중간에 끝났습니다.");
+            }
+            // 버퍼 끝부분은 경계의 앞부분일 수 있으므로 남겨 둠
+            int safe = tail - head - (delimiter.length - 1);
+            if (safe > 0) {
+                return safe;
+            }
+            fill(tail - head + 1);
+            return available();
+        }
+
+        void skipToEnd() throws IOException {
+            while (available() > 0) {
+                head += available();
+            }
+        }
+    }
+
+    // 헤더 값에서 파라미터 추출 (예: form-data; name="files"; filename="a;b.txt")
+    //  - 따옴표 안의 ';'는 구분자로 보지 않음
+    private static String parameter(String header, String name) {
+        int start = 0;
+        boolean quoted = false;
+        for (int i = 0; i <= header.length(); i++) {
+            char c = i < header.length() ? header.charAt(i) : ';';
+            if (c == '"' && (i == 0 || header.charAt(i - 1) != '\\')) {
+                quoted = !quoted;
+            } else if (c == ';' && (!quoted || i == header.length())) {
+                String token = header.substring(start, i);
+                start = i + 1;
+                int eq = token.indexOf('=');
+                if (eq < 0 || !token.substring(0, eq).trim().equalsIgnoreCase(name)) continue;
+                String value = token.substring(eq + 1).trim();
+                if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                    value = value.substring(1, value.length() - 1).replace("\\\"", "\"");
+                }
+                return value;
+            }
+        }
+        return null;
+    }
+
+    // 일부 브라우저가 보내는 전체 경로에서 파일명만 추출
+    private static String baseName(String filename) {
+        if (filename == null) {
+            return null;
+        }
+        return filename.substring(Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\')) + 1);
+    }
+}
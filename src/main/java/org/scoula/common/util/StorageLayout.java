@@ -0,0 +1,159 @@
+package org.scoula.common.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 업로드 디렉토리 저장 구조
+ * - 파일을 한 디렉토리에 모두 두지 않고 2단계 해시 하위 디렉토리에 분산 ({base}/ab/cd/{name})
+ *   → 디렉토리 하나의 항목 수를 최대 수천 개 수준으로 유지 (256 x 256 = 65,536개 디렉토리)
+ * - 이름이 16진수로 시작하면(digest, newId) 앞 4자를, 그 외(기존 파일명)는 이름의 SHA-256 앞 4자를 사용
+ * - 같은 이름은 항상 같은 위치 → 별도 색인 없이 이름만으로 경로 계산
+ * - 저장 구조 이전(AttachmentMigrator)이 끝나면 저장 디렉토리에 완료 표시 파일({base}/.layout)을 기록
+ *   → 그 전까지는 기존 단일 디렉토리({base}/{name})의 파일도 찾음
+ */
+public class StorageLayout {
+    private static final int SHARD_CHARS = 2;   // 단계별 디렉토리 이름 길이 (16진수 2자 = 256개)
+    private static final int SHARD_LEVELS = 2;  // 하위 디렉토리 단계 수
+    private static final String MARKER = ".layout"; // 저장 구조 이전 완료 표시 파일
+
+    // 이전 완료가 확인된 저장 디렉토리 (완료 후에는 되돌아가지 않으므로 파일 확인 생략)
+    private static final Set<Path> MIGRATED = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 충돌 없는 파일 ID 생성 (128비트 난수, 16진수 32자)
+     * - 스레드별 난수 생성기 사용 → 잠금 없이 동시에 생성 가능
+     * - 시각을 사용하지 않으므로 같은 밀리초에 같은 이름으로 업로드해도 충돌하지 않음
+     */
+    public static String newId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return String.format("%016x%016x", random.nextLong(), random.nextLong());
+    }
+
+    /**
+     * 파일 저장 경로 ({baseDir}/ab/cd/{name})
+     * @param baseDir 저장 디렉토리
+     * @param name 파일명
+     */
+    public static Path resolve(String baseDir, String name) {
+        return resolve(Paths.get(baseDir), name);
+    }
+
+    public static Path resolve(Path baseDir, String name) {
+        String shard = shardOf(name);
+        Path dir = baseDir;
+        for (int level = 0; level < SHARD_LEVELS; level++) {
+            dir = dir.resolve(shard.substring(level * SHARD_CHARS, (level + 1) * SHARD_CHARS));
+        }
+        return dir.resolve(name);
+    }
+
+    /**
+     * 저장된 파일의 경로 (저장 구조 이전 완료 전에는 기존 단일 디렉토리 위치도 확인)
+     * - 이전이 끝났거나 새 구조에 파일이 있으면 새 구조의 경로
+     * - 기존 위치({baseDir}/{name})에만 파일이 있으면 기존 경로
+     * - 어디에도 없으면 새 구조의 경로 (새로 저장할 위치)
+     * @param baseDir 저장 디렉토리
+     * @param name 파일명
+     */
+    public static Path resolveStored(String baseDir, String name) {
+        Path laidOut = resolve(baseDir, name);
+        if (isMigrated(baseDir) || Files.exists(laidOut)) {
+            return laidOut;
+        }
+        Path flat = Paths.get(baseDir, name);
+        return Files.exists(flat) ? flat : laidOut;
+    }
+
+    /**
+     * 저장 구조 이전 완료 여부 (완료 표시 파일 존재 여부)
+     * @param baseDir 저장 디렉토리
+     */
+    public static boolean isMigrated(String baseDir) {
+        Path base = Paths.get(baseDir).toAbsolutePath().normalize();
+        if (MIGRATED.contains(base)) {
+            return true;
+        }
+        if (Files.exists(base.resolve(MARKER))) {
+            MIGRATED.add(base);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 저장 구조 이전 완료 표시 (이후 기존 단일 디렉토리 위치는 확인하지 않음)
+     * @param baseDir 저장 디렉토리
+     * @throws IOException 표시 파일 기록 중 오류 발생 시
+     */
+    public static void markMigrated(String baseDir) throws IOException {
+        Path base = Paths.get(baseDir).toAbsolutePath().normalize();
+        Files.createDirectories(base);
+        if (!Files.exists(base.resolve(MARKER))) {
+            Files.createFile(base.resolve(MARKER));
+        }
+        MIGRATED.add(base);
+    }
+
+    /**
+     * 저장 구조를 따르는 경로인지 확인 (이전의 단일 디렉토리 경로이면 false → 이전 대상)
+     * @param baseDir 저장 디렉토리
+     * @param path 저장된 파일 경로
+     */
+    public static boolean isLaidOut(String baseDir, String path) {
+        Path file = Paths.get(path);
+        return file.equals(resolve(baseDir, file.getFileName().toString()));
+    }
+
+    /**
+     * 저장된 파일 찾기 (저장 구조 이전 중 경로 갱신 전의 행도 처리)
+     * - 기록된 경로에 파일이 없으면 같은 디렉토리 기준 새 구조의 위치 확인
+     * @param path DB에 기록된 저장 경로
+     * @return 실제 파일 (어디에도 없으면 기록된 경로)
+     */
+    public static File locate(String path) {
+        File file = new File(path);
+        if (file.exists() || file.getParentFile() == null) {
+            return file;
+        }
+        File moved = resolve(file.getParentFile().toPath(), file.getName()).toFile();
+        return moved.exists() ? moved : file;
+    }
+
+    // 하위 디렉토리 결정에 사용할 16진수 문자열 (소문자)
+    private static String shardOf(String name) {
+        int length = SHARD_CHARS * SHARD_LEVELS;
+        if (isHex(name, length)) {
+            return name.substring(0, length);
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(name.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, (length + 1) / 2);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);   // 모든 JVM이 SHA-256을 지원
+        }
+    }
+
+    private static boolean isHex(String name, int length) {
+        if (name.length() < length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
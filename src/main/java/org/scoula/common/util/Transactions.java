@@ -0,0 +1,45 @@
+package org.scoula.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class Transactions {
+    /**
+     * 현재 트랜잭션이 커밋된 이후에 작업 실행
+     * - 트랜잭션이 없으면 즉시 실행
+     * - 롤백되면 실행하지 않음 (캐시/카운터가 DB와 어긋나지 않도록)
+     * @param task 커밋 후 실행할 작업
+     */
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백된 이후에 작업 실행
+     * - 트랜잭션이 없으면 아무것도 하지 않음 (되돌릴 DB 작업이 없음)
+     * - 트랜잭션 중 만든 파일 등 DB 밖의 결과를 정리할 때 사용
+     * @param task 롤백 후 실행할 작업
+     */
+    public static void afterRollback(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    task.run();
+                }
+            }
+        });
+    }
+}
@@ -3,16 +3,24 @@ package org.scoula.common.util;
 public class UploadFileName {
     /**
      * 고유한 파일명을 생성하는 메서드
+     * - 충돌 없는 ID(StorageLayout.newId)에 원본 확장자를 붙임 (원본 파일명은 DB에 저장)
+     * - 확장자가 없는 파일은 ID만 사용
      * @param filename 원본 파일명
-     * @return timestamp가 추가된 고유 파일명
+     * @return ID로 시작하는 고유 파일명 (예: 3f9a...e1.pdf)
      */
     public static String getUniqueName(String filename) {
-        // 파일명과 확장자를 분리
-        int ix = filename.lastIndexOf(".");
-        String name = filename.substring(0, ix);        // 파일명 부분 추출
-        String ext = filename.substring(ix + 1);        // 확장자 부분 추출
+        String id = StorageLayout.newId();
 
-        // 현재 시간을 밀리초로 변환하여 고유성 보장
-        return String.format("%s-%d.%s", name, System.currentTimeMillis(), ext);
+        // 확장자 추출 (경로 구분자 뒤의 마지막 '.' 기준, 파일명이 '.'으로 시작하거나 끝나면 확장자 없음)
+        String name = filename == null ? "" : filename.substring(Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\')) + 1);
+        int ix = name.lastIndexOf(".");
+        if (ix <= 0 || ix == name.length() - 1) {
+            return id;
+        }
+        String ext = name.substring(ix + 1);
+        if (!ext.matches("[A-Za-z0-9]{1,16}")) {
+            return id;   // 저장 경로에 쓸 수 없는 확장자는 사용하지 않음
+        }
+        return id + "." + ext;
     }
-}
\ No newline at end of file
+}
@@ -2,15 +2,13 @@ package org.scoula.common.util;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.net.URLEncoder;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.text.DecimalFormat;
 
 public class UploadFiles {
@@ -22,17 +20,17 @@ public class UploadFiles {
      * @throws IOException 파일 처리 중 오류 발생 시
      */
     public static String upload(String baseDir, MultipartFile part) throws IOException {
-        // 기본 디렉토리 존재 여부 확인 및 생성
-        File base = new File(baseDir);
-        if (!base.exists()) {
-            base.mkdirs();  // 중간 디렉토리까지 모두 생성
-        }
-
         // 원본 파일명 획득
         String fileName = part.getOriginalFilename();
 
-        // 고유한 파일명으로 대상 파일 생성
-        File dest = new File(baseDir, UploadFileName.getUniqueName(fileName));
+        // 고유한 파일명으로 대상 파일 생성 (해시 하위 디렉토리에 분산 저장)
+        File dest = StorageLayout.resolve(baseDir, UploadFileName.getUniqueName(fileName)).toFile();
+
+        // 하위 디렉토리 존재 여부 확인 및 생성
+        File dir = dest.getParentFile();
+        if (!dir.exists()) {
+            dir.mkdirs();  // 중간 디렉토리까지 모두 생성
+        }
 
         // 업로드된 파일을 지정된 경로로 이동
         part.transferTo(dest);
@@ -60,14 +58,48 @@ public class UploadFiles {
 
     /**
      * 파일 다운로드 처리
+     * @param request HTTP 요청 객체 (sendfile 지원 여부 확인)
      * @param response HTTP 응답 객체
      * @param file 다운로드할 파일
      * @param orgName 원본 파일명 (다운로드 시 표시될 이름)
      * @throws Exception
      */
-    public static void download(HttpServletResponse response, File file, String orgName)
+    public static void download(HttpServletRequest request, HttpServletResponse response, File file, String orgName)
             throws Exception {
+        download(request, response, file, orgName, null);
+    }
+
+    /**
+     * 파일 다운로드 처리 (ETag 포함)
+     * @param etag 파일 내용 digest (같은 내용이면 같은 ETag → If-None-Match 시 304), 없으면 null
+     */
+    public static void download(HttpServletRequest request, HttpServletResponse response, File file, String orgName,
+                                String etag) throws Exception {
+        download(request, response, file, orgName, etag, null, -1);
+    }
+
+    /**
+     * 파일 다운로드 처리 (압축 저장된 파일)
+     * @param encoding 저장 형식 (gzip), 원본 그대로 저장된 파일이면 null
+     * @param size 원본 크기 (압축 해제 전송 시 Content-Length), 모르면 -1
+     */
+    public static void download(HttpServletRequest request, HttpServletResponse response, File file, String orgName,
+                                String etag, String encoding, long size) throws Exception {
+        setDownloadHeaders(response, orgName);
+
+        // 파일을 응답으로 전송 (Content-Length는 long으로 설정 → 2GB 이상 파일 지원)
+        // - sendfile 지원 컨테이너: 커널에서 소켓으로 직접 전송 (힙 복사 없음)
+        // - 미지원: 힙 버퍼로 복사
+        // - Range 요청이면 206 부분 전송 (이어받기, 동영상/PDF 탐색)
+        // - 압축 저장된 파일은 클라이언트가 지원하면 그대로(Content-Encoding), 아니면 압축 해제하여 전송
+        DownloadEngine.send(request, response, file, etag, encoding, size);
+    }
 
+    /**
+     * 다운로드 응답 헤더 설정 (Content-Type: application/download, Content-disposition: 원본 파일명)
+     * @param orgName 원본 파일명
+     */
+    public static void setDownloadHeaders(HttpServletResponse response, String orgName) throws Exception {
         /* *** 응답 헤더 설정 *** */
 
         // application/download
@@ -76,12 +108,6 @@ public class UploadFiles {
         response.setContentType("application/download");
 
 
-        // Content-Length
-        // - 브라우저에게 전송될 데이터의 크기를 미리 알려주는 중요 응답 헤더
-        // - 다운로드 진행율 표시 가능, 연결 최적화(HTTP Keep-Alive), 브라우저 메모리 최적화
-        response.setContentLength((int) file.length());
-
-
         // 한글 파일명 인코딩 (UTF-8)
         String filename = URLEncoder.encode(orgName, "UTF-8");
 
@@ -93,30 +119,27 @@ public class UploadFiles {
         // - 지정된 "파일명"으로 다운로드 처리를 지시
         response.setHeader("Content-disposition",
                 "attachment;filename=\"" + filename + "\"");
-
-        // 파일 스트림을 응답으로 전송
-        try (OutputStream os = response.getOutputStream();
-             BufferedOutputStream bos = new BufferedOutputStream(os)) {
-
-            Files.copy(Paths.get(file.getPath()), bos);
-        }
     }
 
     // 이미지 다운로드 메서드
-    public static void downloadImage(HttpServletResponse response, File file) {
+    public static void downloadImage(HttpServletRequest request, HttpServletResponse response, File file) {
+        downloadImage(request, response, file, null);
+    }
+
+    /**
+     * 이미지 파일 전송 (ETag 포함)
+     * @param etag 이미지 버전 (같은 값이면 If-None-Match 시 304), 없으면 null
+     */
+    public static void downloadImage(HttpServletRequest request, HttpServletResponse response, File file, String etag) {
         try {
             Path path = Path.of(file.getPath());
             String mimeType = Files.probeContentType(path);        // MIME 타입 자동 감지
 
             response.setContentType(mimeType);                     // Content-Type 설정
-            response.setContentLength((int) file.length());        // Content-Length 설정
-
-            // 파일을 응답 스트림으로 복사
-            try (OutputStream os = response.getOutputStream();
-                 BufferedOutputStream bos = new BufferedOutputStream(os)) {
-                Files.copy(path, bos);
-            }
-        } catch (Exception e) {
+
+            // 파일을 응답으로 전송 (Content-Length 포함, Range 요청 지원)
+            DownloadEngine.send(request, response, file, etag);
+        } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
@@ -11,9 +11,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.*;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
+import java.util.Properties;
 
 /**
  * 🌱 Root Application Context 설정 클래스
@@ -32,9 +34,13 @@ import javax.sql.DataSource;
         "org.scoula.board.service",
         "org.scoula.member.service",  // 회원 서비스 스캔
         "org.scoula.travel.service",   // 여행지 서비스 스캔
+        "org.scoula.common.concurrent", // 페이지 쿼리 동시 실행기
+        "org.scoula.common.image",     // 이미지 변형(썸네일) 캐시
+        "org.scoula.common.cache",     // 자주 요청되는 파일 캐시
         "org.scoula.config"           // 설정 클래스들 스캔
 })
 @EnableTransactionManagement // @Transactional 활성화
+@EnableScheduling            // @Scheduled 활성화 (첨부파일 정리 등 백그라운드 작업)
 public class RootConfig {
 
     // 현재는 기본 설정만 있는 상태
@@ -58,6 +64,10 @@ public class RootConfig {
     @Value("${properties.name}")
     String propertiesName;
 
+    // 게시글 검색 방식 (like: LIKE 검색, fulltext: FULLTEXT ngram 검색) - 프로파일별 설정
+    @Value("${board.search.mode:like}")
+    String boardSearchMode;
+
 
     @Autowired
     ApplicationContext applicationContext;
@@ -113,6 +123,11 @@ public class RootConfig {
         // 데이터베이스 연결 설정
         sqlSessionFactory.setDataSource(dataSource);
 
+        // 매퍼 XML 설정 변수 (mybatis-config.xml의 기본값을 덮어씀)
+        Properties properties = new Properties();
+        properties.setProperty("boardSearchMode", boardSearchMode);
+        sqlSessionFactory.setConfigurationProperties(properties);
+
         return sqlSessionFactory.getObject();
     }
 
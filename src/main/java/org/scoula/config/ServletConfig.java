@@ -8,6 +8,8 @@ import org.springframework.web.servlet.config.annotation.*;
 import org.springframework.web.servlet.view.InternalResourceViewResolver;
 import org.springframework.web.servlet.view.JstlView;
 
+import javax.servlet.http.HttpServletRequest;
+
 /**
  * 🌐 Spring MVC Web Context 설정 클래스
  * - Spring MVC의 웹 계층(Presentation Layer)을 담당하는 컨텍스트 설정 클래스
@@ -78,10 +80,20 @@ public class ServletConfig implements WebMvcConfigurer {
 
 
 
+    // 컨테이너의 multipart 처리를 거치지 않고 요청 본문을 직접 읽는 스트리밍 업로드 경로 (BoardController.streamUpload)
+    public static final String STREAMING_UPLOAD_PATH = "/api/board/uploads/stream";
+
     @Bean
     public MultipartResolver multipartResolver() {
         StandardServletMultipartResolver resolver =
-                new StandardServletMultipartResolver();
+                new StandardServletMultipartResolver() {
+                    @Override
+                    public boolean isMultipart(HttpServletRequest request) {
+                        // 스트리밍 업로드는 본문을 미리 파싱하면(메모리 버퍼 + 임시 파일) 스트림을 읽을 수 없으므로 제외
+                        String path = request.getRequestURI().substring(request.getContextPath().length());
+                        return !STREAMING_UPLOAD_PATH.equals(path) && super.isMultipart(request);
+                    }
+                };
         return resolver;
     }
 }
@@ -0,0 +1,178 @@
+package org.scoula.controller;
+
+import io.swagger.annotations.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.board.dto.CacheStatsDTO;
+import org.scoula.board.dto.StorageCollectDTO;
+import org.scoula.board.dto.StorageMigrateDTO;
+import org.scoula.board.service.AttachmentCollector;
+import org.scoula.board.service.AttachmentMigrator;
+import org.scoula.board.service.BoardDetailCache;
+import org.scoula.common.cache.FileCacheStats;
+import org.scoula.common.cache.HotFileCache;
+import org.scoula.common.concurrent.LatencyStats;
+import org.scoula.common.concurrent.PageQueryExecutor;
+import org.scoula.travel.dto.TravelCatalogDTO;
+import org.scoula.travel.service.TravelCatalog;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin")
+@Api(
+        tags = "운영 관리",                     // 그룹 이름
+        description = "캐시/통계 등 운영 API",   // 상세 설명
+        value = "AdminController"             // 컨트롤러 식별자
+)
+public class AdminController {
+    private final BoardDetailCache boardDetailCache;
+    private final PageQueryExecutor pageQueryExecutor;
+    private final AttachmentCollector attachmentCollector;
+    private final AttachmentMigrator attachmentMigrator;
+    private final HotFileCache hotFileCache;
+    private final TravelCatalog travelCatalog;
+
+    /**
+     * 게시글 상세 캐시 통계 조회 API
+     * GET: http://localhost:8080/api/admin/cache/board
+     * @return ResponseEntity<CacheStatsDTO>
+     *         - 200 OK: hit/miss/eviction 통계 반환
+     *         - 403 Forbidden: 관리자 권한 없음
+     */
+    @ApiOperation(value = "게시글 캐시 통계", notes = "게시글 상세 캐시의 hit/miss/eviction 통계를 조회하는 API")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = CacheStatsDTO.class),
+            @ApiResponse(code = 403, message = "권한이 없습니다."),
+            @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
+    })
+    @GetMapping("/cache/board")
+    public ResponseEntity<CacheStatsDTO> getBoardCacheStats() {
+        return ResponseEntity.ok(boardDetailCache.getStats());
+    }
+
+    /**
+     * 파일 캐시(이미지/첨부파일) 통계 조회 API
+     * GET: http://localhost:8080/api/admin/cache/files
+     * @return ResponseEntity<FileCacheStats>
+     *         - 200 OK: 적중률, 캐시에서 전송한 바이트, 캐시된 파일 수/크기
+     *         - 403 Forbidden: 관리자 권한 없음
+     */
+    @ApiOperation(value = "파일 캐시 통계", notes = "자주 요청되는 이미지/첨부파일 캐시의 적중률과 캐시에서 전송한 바이트를 조회하는 API")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = FileCacheStats.class),
+            @ApiResponse(code = 403, message = "권한이 없습니다."),
+            @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
+    })
+    @GetMapping("/cache/files")
+    public ResponseEntity<FileCacheStats> getFileCacheStats() {
+        return ResponseEntity.ok(hotFileCache.getStats());
+    }
+
+    /**
+     * 페이지 쿼리 실행 방식별 응답 시간 조회 API
+     * GET: http://localhost:8080/api/admin/pagination/latency
+     * @return ResponseEntity<Map<String, LatencyStats>>
+     *         - 200 OK: parallel(동시 실행) / sequential(순차 실행) / fallback(포화로 순차 실행)별 p50/p99
+     *         - 403 Forbidden: 관리자 권한 없음
+     */
+    @ApiOperation(value = "페이지 쿼리 응답 시간", notes = "목록/건수 쿼리 실행 방식별 p50/p99 응답 시간을 조회하는 API")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다."),
+            @ApiResponse(code = 403, message = "권한이 없습니다."),
+            @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
+    })
+    @GetMapping("/pagination/latency")
+    public ResponseEntity<Map<String, LatencyStats>> getPaginationLatency() {
+        return ResponseEntity.ok(pageQueryExecutor.getStats());
+    }
+
+    /**
+     * 첨부파일 고아 파일 정리 결과 조회 API
+     * GET: http://localhost:8080/api/admin/storage/board
+     * @return ResponseEntity<StorageCollectDTO>
+     *         - 200 OK: 마지막 정리의 검사/삭제 파일 수, 회수한 용량
+     *         - 204 No Content: 아직 정리가 실행되지 않음
+     *         - 403 Forbidden: 관리자 권한 없음
+     */
+    @ApiOperation(value = "첨부파일 정리 결과", notes = "마지막 고아 첨부파일 정리에서 삭제한 파일 수와 회수한 용량을 조회하는 API")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = StorageCollectDTO.class),
+            @ApiResponse(code = 204, message = "아직 정리가 실행되지 않았습니다."),
+            @ApiResponse(code = 403, message = "권한이 없습니다."),
+            @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
+    })
+    @GetMapping("/storage/board")
+    public ResponseEntity<StorageCollectDTO> getBoardStorageCollect() {
+        StorageCollectDTO result = attachmentCollector.getLastResult();
+        return result == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(result);
+    }
+
+    /**
+     * 첨부파일 저장 구조 이전 API (단일 디렉토리 → 해시 하위 디렉토리)
+     * POST: http://localhost:8080/api/admin/storage/board/migrate
+     * @return ResponseEntity<StorageMigrateDTO>
+     *         - 200 OK: 이동한 파일 수, 경로를 갱신한 행 수
+     *         - 409 Conflict: 첨부파일 정리/이전 작업이 이미 실행 중
+     *         - 403 Forbidden: 관리자 권한 없음
+     */
+    @ApiOperation(value = "첨부파일 저장 구조 이전", notes = "기존 첨부파일을 해시 하위 디렉토리로 옮기고 경로를 갱신하는 API (다시 실행해도 안전)")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = StorageMigrateDTO.class),
+            @ApiResponse(code = 409, message = "다른 저장소 작업이 실행 중입니다."),
+            @ApiResponse(code = 403, message = "권한이 없습니다."),
+            @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
+    })
+    @PostMapping("/storage/board/migrate")
+    public ResponseEntity<StorageMigrateDTO> migrateBoardStorage() {
+        StorageMigrateDTO result = attachmentMigrator.migrate();
+        return result == null ? ResponseEntity.status(HttpStatus.CONFLICT).build() : ResponseEntity.ok(result);
+    }
+
+    /**
+     * 여행지 카탈로그 정보 조회 API
+     * GET: http://localhost:8080/api/admin/catalog/travel
+     * @return ResponseEntity<TravelCatalogDTO>
+     *         - 200 OK: 현재 스냅샷의 버전, 로드 시각, 여행지/이미지/권역 수
+     *         - 204 No Content: 아직 로드되지 않음 (DB 조회로 동작 중)
+     *         - 403 Forbidden: 관리자 권한 없음
+     */
+    @ApiOperation(value = "여행지 카탈로그 정보", notes = "메모리에 로드된 여행지 카탈로그 스냅샷의 버전과 항목 수를 조회하는 API")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = TravelCatalogDTO.class),
+            @ApiResponse(code = 204, message = "아직 로드되지 않았습니다."),
+            @ApiResponse(code = 403, message = "권한이 없습니다."),
+            @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
+    })
+    @GetMapping("/catalog/travel")
+    public ResponseEntity<TravelCatalogDTO> getTravelCatalog() {
+        TravelCatalogDTO stats = travelCatalog.getStats();
+        return stats == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(stats);
+    }
+
+    /**
+     * 여행지 카탈로그 다시 로드 API (DB를 직접 변경한 뒤 즉시 반영)
+     * POST: http://localhost:8080/api/admin/catalog/travel/reload
+     * @return ResponseEntity<TravelCatalogDTO>
+     *         - 200 OK: 새 스냅샷 정보
+     *         - 403 Forbidden: 관리자 권한 없음
+     */
+    @ApiOperation(value = "여행지 카탈로그 다시 로드", notes = "DB에서 여행지 데이터를 다시 읽어 카탈로그 스냅샷을 교체하는 API")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = TravelCatalogDTO.class),
+            @ApiResponse(code = 403, message = "권한이 없습니다."),
+            @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
+    })
+    @PostMapping("/catalog/travel/reload")
+    public ResponseEntity<TravelCatalogDTO> reloadTravelCatalog() {
+        return ResponseEntity.ok(travelCatalog.reload());
+    }
+}
@@ -3,7 +3,8 @@ package org.scoula.member.controller;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.scoula.common.util.UploadFiles;
+import org.scoula.common.image.ImageVariant;
+import org.scoula.common.image.ImageVariants;
 import org.scoula.member.dto.ChangePasswordDTO;
 import org.scoula.member.dto.MemberDTO;
 import org.scoula.member.dto.MemberJoinDTO;
@@ -12,6 +13,7 @@ import org.scoula.member.service.MemberService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.File;
 
@@ -26,6 +28,7 @@ import java.io.File;
 )
 public class MemberController {
     final MemberService service;
+    final ImageVariants imageVariants;   // 썸네일 캐시
 
     /**
      * ID 중복 체크 API
@@ -76,7 +79,10 @@ public class MemberController {
     /**
      * 아바타 이미지 요청 처리 API
      * GET: http://localhost:8080/api/member/{username}/avatar
+     * GET: http://localhost:8080/api/member/{username}/avatar?size=thumb (목록/댓글용 작은 이미지)
      * @param username 사용자 ID
+     * @param size 이미지 크기 (thumb, medium, 없으면 원본)
+     * @param request HTTP 요청 객체 (sendfile 지원 여부 확인)
      * @param response HTTP 응답 객체
      */
     @ApiOperation(value = "아바타 이미지 조회", notes = "사용자의 아바타 이미지를 조회하는 API (없을 경우 기본 이미지 반환)")
@@ -89,6 +95,9 @@ public class MemberController {
     public void getAvatar(
             @ApiParam(value = "사용자 ID", required = true, example = "testuser")
             @PathVariable String username, 
+            @ApiParam(value = "이미지 크기 (thumb, medium, 없으면 원본)", example = "thumb")
+            @RequestParam(required = false) String size,
+            HttpServletRequest request,
             HttpServletResponse response) {
         String avatarPath = "c:/upload/avatar/" + username + ".png";
         File file = new File(avatarPath);
@@ -98,7 +107,7 @@ public class MemberController {
             file = new File("C:/upload/avatar/unknown.png");
         }
 
-        UploadFiles.downloadImage(response, file);
+        imageVariants.send(request, response, file, ImageVariants.keyOf(file), ImageVariant.of(size));
     }
 
     /**
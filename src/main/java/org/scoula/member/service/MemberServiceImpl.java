@@ -2,6 +2,7 @@ package org.scoula.member.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.scoula.common.cache.HotFileCache;
 import org.scoula.member.dto.ChangePasswordDTO;
 import org.scoula.member.dto.MemberDTO;
 import org.scoula.member.dto.MemberJoinDTO;
@@ -26,6 +27,7 @@ import java.util.Optional;
 public class MemberServiceImpl implements MemberService {
     final PasswordEncoder passwordEncoder;  // 비밀번호 암호화
     final MemberMapper mapper;              // 데이터 접근
+    final HotFileCache hotFileCache;        // 아바타 이미지 캐시 (파일 교체 시 제거)
 
 
     // 아이디 중복 체크
@@ -50,6 +52,7 @@ public class MemberServiceImpl implements MemberService {
             File dest = new File("c:/upload/avatar", username + ".png");
             try {
                 avatar.transferTo(dest);  // 파일 저장
+                hotFileCache.invalidate(dest);  // 이전 아바타를 전송하지 않도록 캐시에서 제거
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
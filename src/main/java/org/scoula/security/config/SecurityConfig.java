@@ -144,10 +144,15 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .antMatchers(HttpMethod.PUT, "/api/member/**").authenticated() // 회원 정보 수정, 비밀번호 변경
 
                 // 게시판 관련 인증 요구 경로
+                .antMatchers(HttpMethod.GET, "/api/board/export").hasRole("ADMIN") // 전체 내보내기 (관리자 전용)
+                .antMatchers(HttpMethod.GET, "/api/board/uploads/**").authenticated() // 분할 업로드 상태
                 .antMatchers(HttpMethod.POST, "/api/board/**").authenticated() // 쓰기
                 .antMatchers(HttpMethod.PUT, "/api/board/**").authenticated()  // 수정
                 .antMatchers(HttpMethod.DELETE, "/api/board/**").authenticated() // 삭제
 
+                // 운영 관리 API (관리자 전용)
+                .antMatchers("/api/admin/**").hasRole("ADMIN")
+
                 .anyRequest().permitAll(); // 나머지 허용
     }
 
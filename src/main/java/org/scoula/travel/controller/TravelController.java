@@ -3,20 +3,25 @@ package org.scoula.travel.controller;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.scoula.common.image.ImageVariant;
+import org.scoula.common.image.ImageVariants;
 import org.scoula.common.pagination.Page;
 import org.scoula.common.pagination.PageRequest;
-import org.scoula.common.util.UploadFiles;
 import org.scoula.travel.dto.TravelDTO;
+import org.scoula.travel.dto.TravelDistrictDTO;
 import org.scoula.travel.dto.TravelImageDTO;
 import org.scoula.travel.service.TravelService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.File;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,17 +34,19 @@ import java.io.File;
 )
 public class TravelController {
     private final TravelService service;
+    private final ImageVariants imageVariants;   // 썸네일 캐시
 
     /**
      * 여행지 목록 조회 API (페이징 처리)
      * GET: http://localhost:8080/api/travel?page=1&amount=10
-     * @param pageRequest 페이징 요청 정보
+     * GET: http://localhost:8080/api/travel?page=1&amount=10&district=강릉권 (권역별 목록)
+     * @param pageRequest 페이징 요청 정보 (district: 권역 필터, 선택)
      * @return ResponseEntity<Page>
      *         - 200 OK: 여행지 목록 조회 성공, 페이징 처리된 여행지 리스트 반환
      *         - 400 Bad Request: 잘못된 페이징 파라미터
      *         - 500 Internal Server Error: 서버 내부 오류
      */
-    @ApiOperation(value = "여행지 목록 조회(Pagination)", notes = "페이징 처리된 여행지 목록을 조회하는 API")
+    @ApiOperation(value = "여행지 목록 조회(Pagination)", notes = "페이징 처리된 여행지 목록을 조회하는 API (district로 권역 필터)")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = Page.class),
             @ApiResponse(code = 400, message = "잘못된 요청입니다."),
@@ -52,6 +59,23 @@ public class TravelController {
         return ResponseEntity.ok(service.getPage(pageRequest));
     }
 
+    /**
+     * 권역 목록 조회 API (권역별 여행지 수 포함)
+     * GET: http://localhost:8080/api/travel/districts
+     * @return ResponseEntity<List<TravelDistrictDTO>>
+     *         - 200 OK: 권역 순 권역명과 여행지 수 목록
+     *         - 500 Internal Server Error: 서버 내부 오류
+     */
+    @ApiOperation(value = "권역 목록 조회", notes = "권역별 여행지 수를 조회하는 API (목록의 district 필터 값으로 사용)")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "성공적으로 요청이 처리되었습니다.", response = TravelDistrictDTO.class, responseContainer = "List"),
+            @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
+    })
+    @GetMapping("/districts")
+    public ResponseEntity<List<TravelDistrictDTO>> getDistricts() {
+        return ResponseEntity.ok(service.getDistricts());
+    }
+
     /**
      * 특정 여행지 상세 조회 API
      * GET: http://localhost:8080/api/travel/{no}
@@ -80,12 +104,18 @@ public class TravelController {
     /**
      * 여행지 이미지 파일 제공 API
      * GET: http://localhost:8080/api/travel/image/{no}
+     * GET: http://localhost:8080/api/travel/image/{no}?size=thumb (목록용 썸네일, medium: 상세용)
      * @param no 이미지 ID
+     * @param size 이미지 크기 (thumb, medium, 없으면 원본)
+     * @param request HTTP 요청 객체 (sendfile 지원 여부 확인)
      * @param response HTTP 응답 객체
      */
     @ApiOperation(value = "여행지 이미지 조회", notes = "여행지의 이미지 파일을 조회하는 API")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "이미지 조회 성공"),
+            @ApiResponse(code = 304, message = "변경되지 않았습니다."),
+            @ApiResponse(code = 206, message = "요청한 구간만 전송 (Range 요청)"),
+            @ApiResponse(code = 416, message = "요청한 구간이 파일 크기를 벗어났습니다."),
             @ApiResponse(code = 404, message = "이미지를 찾을 수 없습니다."),
             @ApiResponse(code = 500, message = "서버에서 오류가 발생했습니다.")
     })
@@ -93,10 +123,13 @@ public class TravelController {
     public void viewImage(
             @ApiParam(value = "이미지 ID", required = true, example = "1")
             @PathVariable Long no, 
+            @ApiParam(value = "이미지 크기 (thumb, medium, 없으면 원본)", example = "thumb")
+            @RequestParam(required = false) String size,
+            HttpServletRequest request,
             HttpServletResponse response) {
         TravelImageDTO image = service.getImage(no);
         File file = new File(image.getPath());
-        UploadFiles.downloadImage(response, file);
+        imageVariants.send(request, response, file, ImageVariants.keyOf(file), ImageVariant.of(size));
     }
 
 
@@ -0,0 +1,21 @@
+package org.scoula.travel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TravelCatalogDTO {
+    private String version;         // 데이터 변경 버전 (DB 기준)
+    private Date loadedAt;          // 스냅샷 생성 시각
+    private long loadMillis;        // 로드 소요 시간 (ms)
+    private int travelCount;        // 여행지 수
+    private int imageCount;         // 이미지 수
+    private int districtCount;      // 권역 수
+}
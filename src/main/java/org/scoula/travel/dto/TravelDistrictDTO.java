@@ -0,0 +1,15 @@
+package org.scoula.travel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TravelDistrictDTO {
+    private String district;    // 권역 (강릉권, 영월권 등)
+    private int count;          // 권역의 여행지 수
+}
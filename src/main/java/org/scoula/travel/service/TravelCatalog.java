@@ -0,0 +1,225 @@
+package org.scoula.travel.service;
+
+import lombok.extern.log4j.Log4j2;
+import org.scoula.common.pagination.Page;
+import org.scoula.common.pagination.PageRequest;
+import org.scoula.travel.domain.TravelImageVO;
+import org.scoula.travel.domain.TravelVO;
+import org.scoula.travel.dto.TravelCatalogDTO;
+import org.scoula.travel.dto.TravelDTO;
+import org.scoula.travel.dto.TravelDistrictDTO;
+import org.scoula.travel.dto.TravelImageDTO;
+import org.scoula.travel.mapper.TravelMapper;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 여행지 카탈로그 (메모리 스냅샷)
+ * - 여행지 데이터는 변경 API가 없는 참조 데이터 → 시작 시 전체를 한 번 읽어 불변 스냅샷으로 보관
+ * - 목록은 district, title 순으로 정렬된 배열, 번호/권역/이미지 번호 색인 → 조회 시 DB 접근 없음
+ * - 권역별 여행지 수는 권역 구간 크기 → 스냅샷이 바뀔 때(데이터 변경 시)만 새로 계산됨
+ * - 갱신: 관리자 API(reload) 또는 주기적 변경 버전 확인(poll) 시 새 스냅샷을 만든 뒤 참조만 교체
+ *   → 읽는 쪽은 잠금 없이 항상 완성된 스냅샷 하나만 봄
+ * - 로드 전이거나 로드에 실패하면 isLoaded() == false → 서비스는 DB 조회 사용
+ */
+@Log4j2
+@Component
+public class TravelCatalog implements InitializingBean {
+
+    // 불변 스냅샷 (생성 후 변경하지 않으며 밖으로 VO를 내보내지 않음 → 조회마다 DTO 생성)
+    private record Snapshot(String version, TravelVO[] travels, Map<Long, TravelVO> travelsByNo,
+                            Map<String, Range> districts, Map<Long, TravelImageVO> imagesByNo,
+                            Date loadedAt, long loadMillis) {
+    }
+
+    // 정렬된 배열에서 한 권역이 차지하는 구간 [from, to)
+    private record Range(int from, int to) {
+    }
+
+    private final TravelMapper travelMapper;
+    private final boolean poll;
+    private final ReentrantLock reloadLock = new ReentrantLock();   // 관리자 요청과 주기 확인의 동시 로드 방지
+
+    private volatile Snapshot snapshot;    // 현재 스냅샷 (null: 아직 로드되지 않음)
+
+    public TravelCatalog(
+            TravelMapper travelMapper,
+            @Value("${travel.catalog.poll:true}") boolean poll) {    // 변경 버전 주기 확인 여부
+        this.travelMapper = travelMapper;
+        this.poll = poll;
+    }
+
+    // 시작 시 로드 (DB를 사용할 수 없으면 DB 조회로 동작하고 다음 확인 주기에 다시 시도)
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("여행지 카탈로그 로드 실패, DB 조회 사용: " + e.getMessage());
+        }
+    }
+
+    // 변경 버전 주기 확인 (기본 1분), 버전이 달라졌거나 아직 로드되지 않았으면 다시 로드
+    @Scheduled(fixedDelayString = "${travel.catalog.poll-millis:60000}",
+            initialDelayString = "${travel.catalog.poll-millis:60000}")
+    public void scheduled() {
+        if (!poll) {
+            return;
+        }
+        try {
+            Snapshot current = snapshot;
+            if (current == null || !Objects.equals(current.version(), travelMapper.getChangeVersion())) {
+                reload();
+            }
+        } catch (RuntimeException e) {
+            log.warn("여행지 카탈로그 갱신 확인 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 스냅샷 다시 로드 (완성된 뒤 한 번에 교체)
+     * - 버전을 먼저 읽음 → 로드 중 데이터가 바뀌면 다음 확인에서 버전이 달라 다시 로드
+     * @return 새 스냅샷 정보
+     */
+    public TravelCatalogDTO reload() {
+        reloadLock.lock();
+        try {
+            long started = System.currentTimeMillis();
+            String version = travelMapper.getChangeVersion();
+            List<TravelVO> rows = travelMapper.getTravels();    // district, title 순
+
+            TravelVO[] travels = new TravelVO[rows.size()];
+            Map<Long, TravelVO> travelsByNo = new HashMap<>();
+            Map<String, Range> districts = new LinkedHashMap<>();
+            Map<Long, TravelImageVO> imagesByNo = new HashMap<>();
+            Map<String, String> districtNames = new HashMap<>();    // 같은 권역명은 한 인스턴스로 공유
+
+            int districtFrom = 0;
+            for (int i = 0; i < travels.length; i++) {
+                TravelVO travel = copyOf(rows.get(i), districtNames);
+                travels[i] = travel;
+                travelsByNo.put(travel.getNo(), travel);
+                travel.getImages().forEach(image -> imagesByNo.put(image.getNo(), image));
+
+                if (i > 0 && !Objects.equals(travels[i - 1].getDistrict(), travel.getDistrict())) {
+                    districts.put(travels[i - 1].getDistrict(), new Range(districtFrom, i));
+                    districtFrom = i;
+                }
+            }
+            if (travels.length > 0) {
+                districts.put(travels[travels.length - 1].getDistrict(), new Range(districtFrom, travels.length));
+            }
+
+            Snapshot loaded = new Snapshot(version, travels, Map.copyOf(travelsByNo),
+                    Collections.unmodifiableMap(districts), Map.copyOf(imagesByNo),
+                    new Date(), System.currentTimeMillis() - started);
+            snapshot = loaded;
+            log.info("여행지 카탈로그 로드: 여행지 " + travels.length + "개, 이미지 " + imagesByNo.size()
+                    + "개, 권역 " + districts.size() + "개, 버전 " + version + ", " + loaded.loadMillis() + "ms");
+            return statsOf(loaded);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    // 스냅샷 사용 가능 여부 (한 번 로드되면 이후 항상 true)
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    // 현재 스냅샷 정보 (로드 전이면 null)
+    public TravelCatalogDTO getStats() {
+        Snapshot current = snapshot;
+        return current == null ? null : statsOf(current);
+    }
+
+    // 페이징 처리된 목록 (district, title 순, 권역 조건이 있으면 해당 권역 구간 안에서 페이징)
+    public Page<TravelDTO> getPage(PageRequest pageRequest) {
+        Snapshot current = snapshot;
+        Range range = new Range(0, current.travels().length);
+        String district = pageRequest.getDistrict();
+        if (district != null && !district.isEmpty()) {
+            range = current.districts().getOrDefault(district, new Range(0, 0));
+        }
+
+        int total = range.to() - range.from();
+        int from = range.from() + Math.min(Math.max(0, pageRequest.getOffset()), total);
+        int to = Math.min(from + Math.max(0, pageRequest.getAmount()), range.to());
+        return Page.of(pageRequest, total, toDTOs(current.travels(), from, to));
+    }
+
+    // 권역별 여행지 수 (권역 순)
+    public List<TravelDistrictDTO> getDistricts() {
+        List<TravelDistrictDTO> list = new ArrayList<>();
+        snapshot.districts().forEach((district, range) ->
+                list.add(new TravelDistrictDTO(district, range.to() - range.from())));
+        return list;
+    }
+
+    // 전체 목록
+    public List<TravelDTO> getList() {
+        TravelVO[] travels = snapshot.travels();
+        return toDTOs(travels, 0, travels.length);
+    }
+
+    // 권역별 목록 (없는 권역이면 빈 목록)
+    public List<TravelDTO> getTravelsByDistrict(String district) {
+        Snapshot current = snapshot;
+        Range range = current.districts().get(district);
+        return range == null ? List.of() : toDTOs(current.travels(), range.from(), range.to());
+    }
+
+    // 여행지 상세 (없으면 null)
+    public TravelDTO get(Long no) {
+        TravelVO travel = snapshot.travelsByNo().get(no);
+        return travel == null ? null : TravelDTO.of(travel);
+    }
+
+    // 이미지 정보 (없으면 null)
+    public TravelImageDTO getImage(Long no) {
+        TravelImageVO image = snapshot.imagesByNo().get(no);
+        return image == null ? null : TravelImageDTO.of(image);
+    }
+
+    private static List<TravelDTO> toDTOs(TravelVO[] travels, int from, int to) {
+        List<TravelDTO> list = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            list.add(TravelDTO.of(travels[i]));
+        }
+        return list;
+    }
+
+    // 조회 결과 복사 (이미지는 번호 순 불변 목록)
+    private static TravelVO copyOf(TravelVO row, Map<String, String> districtNames) {
+        List<TravelImageVO> images = row.getImages() == null ? List.of() : row.getImages().stream()
+                .filter(image -> image.getNo() != null)
+                .sorted(Comparator.comparing(TravelImageVO::getNo))
+                .map(image -> new TravelImageVO(image.getNo(), image.getFilename(), image.getTravelNo()))
+                .toList();
+        return TravelVO.builder()
+                .no(row.getNo())
+                .district(row.getDistrict() == null ? null : districtNames.computeIfAbsent(row.getDistrict(), d -> d))
+                .title(row.getTitle())
+                .description(row.getDescription())
+                .address(row.getAddress())
+                .phone(row.getPhone())
+                .images(images)
+                .build();
+    }
+
+    private static TravelCatalogDTO statsOf(Snapshot snapshot) {
+        return TravelCatalogDTO.builder()
+                .version(snapshot.version())
+                .loadedAt(snapshot.loadedAt())
+                .loadMillis(snapshot.loadMillis())
+                .travelCount(snapshot.travels().length)
+                .imageCount(snapshot.imagesByNo().size())
+                .districtCount(snapshot.districts().size())
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package org.scoula.travel.service;
 import org.scoula.common.pagination.Page;
 import org.scoula.common.pagination.PageRequest;
 import org.scoula.travel.dto.TravelDTO;
+import org.scoula.travel.dto.TravelDistrictDTO;
 import org.scoula.travel.dto.TravelImageDTO;
 
 import java.util.List;
@@ -12,4 +13,6 @@ public interface TravelService {
     List<TravelDTO> getList();                         // 전체 목록
     TravelDTO get(Long no);                            // 특정 여행지 상세
     TravelImageDTO getImage(Long no);                  // 이미지 정보 조회
+    List<TravelDTO> getTravelsByDistrict(String district);  // 권역별 목록
+    List<TravelDistrictDTO> getDistricts();            // 권역별 여행지 수
 }
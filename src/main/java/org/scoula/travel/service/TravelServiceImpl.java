@@ -2,17 +2,23 @@ package org.scoula.travel.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.scoula.common.concurrent.PageQueryExecutor;
+import org.scoula.common.concurrent.SingleFlight;
 import org.scoula.common.pagination.Page;
 import org.scoula.common.pagination.PageRequest;
 import org.scoula.travel.domain.TravelImageVO;
 import org.scoula.travel.domain.TravelVO;
 import org.scoula.travel.dto.TravelDTO;
+import org.scoula.travel.dto.TravelDistrictDTO;
 import org.scoula.travel.dto.TravelImageDTO;
 import org.scoula.travel.mapper.TravelMapper;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 
 @Slf4j
@@ -21,38 +27,78 @@ import java.util.NoSuchElementException;
 public class TravelServiceImpl implements TravelService {
 
     private final TravelMapper travelMapper;
+    private final PageQueryExecutor pageQueryExecutor;  // 목록/건수 쿼리 동시 실행
+    private final TravelCatalog travelCatalog;          // 메모리 스냅샷 (로드 후에는 DB 조회 없음)
 
-    // 페이징 처리된 목록
+    // 같은 여행지 상세에 대한 동시 DB 조회 병합
+    private final SingleFlight<Long, TravelVO> travelFlight = new SingleFlight<>();
+
+    // 페이징 처리된 목록 (권역 조건 선택)
     @Override
     public Page<TravelDTO> getPage(PageRequest pageRequest) {
-        // 1. 기본 여행지 정보 조회 (페이징 적용)
-        List<TravelDTO> travels = travelMapper.getPage(pageRequest)
-                .stream().map(TravelDTO::of).toList();
-
-        // 2. 각 여행지별 이미지 정보 별도 조회
-        travels.forEach(travel -> {
-            List<TravelImageDTO> images = travelMapper.getImages(travel.getNo())
-                    .stream().map(TravelImageDTO::of).toList();
-            travel.setImages(images);
-        });
-
-        // 3. 전체 개수 조회 및 Page 객체 생성
-        int totalCount = travelMapper.getTotalCount();
-        return Page.of(pageRequest, totalCount, travels);
+        if (travelCatalog.isLoaded()) {
+            return travelCatalog.getPage(pageRequest);
+        }
+
+        // 전체 개수 조회는 목록 + 이미지 조회와 동시에 실행
+        return pageQueryExecutor.execute(() -> {
+                    // 1. 기본 여행지 정보 조회 (페이징 적용)
+                    List<TravelDTO> travels = travelMapper.getPage(pageRequest)
+                            .stream().map(TravelDTO::of).toList();
+
+                    // 2. 페이지의 모든 여행지 이미지를 한 번에 조회 후 여행지별로 분배 (N+1 조회 방지)
+                    setImages(travels);
+                    return travels;
+                },
+                () -> hasDistrict(pageRequest)
+                        ? travelMapper.getTotalCountByDistrict(pageRequest.getDistrict())
+                        : travelMapper.getTotalCount(),
+                // 3. Page 객체 생성
+                (totalCount, travels) -> Page.of(pageRequest, totalCount, travels));
     }
 
+    private static boolean hasDistrict(PageRequest pageRequest) {
+        return pageRequest.getDistrict() != null && !pageRequest.getDistrict().isEmpty();
+    }
+
+    /**
+     * 여행지 목록의 이미지 일괄 설정
+     * - WHERE travel_no IN (...) 쿼리 한 번으로 조회하여 여행지 번호별로 묶음
+     * - 이미지가 없는 여행지는 빈 목록
+     */
+    private void setImages(List<TravelDTO> travels) {
+        if (travels.isEmpty()) {
+            return;
+        }
+        List<Long> travelNos = travels.stream().map(TravelDTO::getNo).toList();
+        Map<Long, List<TravelImageDTO>> images = travelMapper.getImagesByTravelNos(travelNos).stream()
+                .collect(Collectors.groupingBy(TravelImageVO::getTravelNo,
+                        Collectors.mapping(TravelImageDTO::of, Collectors.toList())));
+        travels.forEach(travel -> travel.setImages(images.getOrDefault(travel.getNo(), List.of())));
+    }
 
     // 전체 목록
     @Override
     public List<TravelDTO> getList() {
+        if (travelCatalog.isLoaded()) {
+            return travelCatalog.getList();
+        }
         List<TravelVO> travels = travelMapper.getTravels();
         return travels.stream().map(TravelDTO::of).toList();
     }
 
-    // 특정 여행지 상세
+    // 특정 여행지 상세 (동시 요청은 하나의 DB 조회 결과를 공유)
     @Override
     public TravelDTO get(Long no) {
-        TravelVO travel = travelMapper.getTravel(no);
+        if (travelCatalog.isLoaded()) {
+            TravelDTO travel = travelCatalog.get(no);
+            if (travel == null) {
+                throw new NoSuchElementException();
+            }
+            return travel;
+        }
+
+        TravelVO travel = travelFlight.load(no, travelMapper::getTravel);
         if (travel == null) {
             throw new NoSuchElementException();
         }
@@ -62,8 +108,31 @@ public class TravelServiceImpl implements TravelService {
     // 이미지 정보 조회
     @Override
     public TravelImageDTO getImage(Long no) {
-        TravelImageVO image = travelMapper.getImage(no);
-        return TravelImageDTO.of(image);
+        TravelImageDTO image = travelCatalog.isLoaded()
+                ? travelCatalog.getImage(no)
+                : Optional.ofNullable(travelMapper.getImage(no)).map(TravelImageDTO::of).orElse(null);
+        if (image == null) {
+            throw new NoSuchElementException();
+        }
+        return image;
+    }
+
+    // 권역별 목록
+    @Override
+    public List<TravelDTO> getTravelsByDistrict(String district) {
+        if (travelCatalog.isLoaded()) {
+            return travelCatalog.getTravelsByDistrict(district);
+        }
+        return travelMapper.getTravelsByDistrict(district).stream().map(TravelDTO::of).toList();
+    }
+
+    // 권역별 여행지 수 (카탈로그 로드 후에는 스냅샷에서 계산된 값, 로드 전에는 GROUP BY 쿼리 한 번)
+    @Override
+    public List<TravelDistrictDTO> getDistricts() {
+        if (travelCatalog.isLoaded()) {
+            return travelCatalog.getDistricts();
+        }
+        return travelMapper.getDistrictCounts();
     }
 
 }
@@ -0,0 +1,82 @@
+package org.scoula.board.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.common.util.Compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttachmentZipWriterTest {
+
+    @TempDir
+    Path dir;
+
+    private BoardAttachmentVO attach(long no, String filename, String contentType, byte[] data, String encoding)
+            throws Exception {
+        Path file = dir.resolve("file-" + no);
+        try (OutputStream out = Compression.encode(encoding, Files.newOutputStream(file))) {
+            out.write(data);
+        }
+        return BoardAttachmentVO.builder().no(no).bno(1L).filename(filename).path(file.toString())
+                .contentType(contentType).encoding(encoding).size((long) data.length).build();
+    }
+
+    @Test
+    @DisplayName("첨부파일을 원본 내용으로 묶고, 이미 압축된 형식은 다시 압축하지 않는다")
+    void zip() throws Exception {
+        byte[] photo = new byte[200_000];
+        new Random(1).nextBytes(photo);                      // 압축되지 않는 내용 (JPEG와 같음)
+        byte[] text = "line of text\n".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+
+        List<BoardAttachmentVO> attachments = List.of(
+                attach(1, "photo.jpg", "image/jpeg", photo, null),
+                attach(2, "notes.txt", "text/plain", text, null),
+                attach(3, "notes.txt", "text/plain", text, Compression.GZIP),   // 같은 이름, gzip 저장
+                attach(4, "../../etc/passwd", "text/plain", text, null),
+                BoardAttachmentVO.builder().no(5L).filename("gone.txt").path(dir.resolve("missing").toString()).build());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(4, AttachmentZipWriter.write(attachments, out));
+
+        Map<String, byte[]> contents = new LinkedHashMap<>();
+        Map<String, Long> compressedSizes = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()), StandardCharsets.UTF_8)) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                contents.put(entry.getName(), zip.readAllBytes());
+                compressedSizes.put(entry.getName(), entry.getCompressedSize());
+            }
+        }
+
+        assertEquals(List.of("photo.jpg", "notes.txt", "notes (2).txt", "passwd"), new ArrayList<>(contents.keySet()));
+        assertArrayEquals(photo, contents.get("photo.jpg"));
+        assertArrayEquals(text, contents.get("notes.txt"));
+        assertArrayEquals(text, contents.get("notes (2).txt"));
+
+        // 이미지는 무압축 블록(원본 크기 + 블록 헤더), 텍스트는 압축
+        assertTrue(compressedSizes.get("photo.jpg") < photo.length + 100);
+        assertTrue(compressedSizes.get("notes.txt") < text.length / 10);
+    }
+
+    @Test
+    @DisplayName("ZIP 안의 파일명은 대소문자만 달라도 번호를 붙여 구분한다")
+    void uniqueName() {
+        Set<String> names = new HashSet<>();
+        assertEquals("a.txt", AttachmentZipWriter.uniqueName("a.txt", names));
+        assertEquals("A (2).TXT", AttachmentZipWriter.uniqueName("A.TXT", names));
+        assertEquals("a (3).txt", AttachmentZipWriter.uniqueName("C:\\temp\\a.txt", names));
+        assertEquals("file", AttachmentZipWriter.uniqueName("..", names));
+        assertEquals("README", AttachmentZipWriter.uniqueName("README", names));
+    }
+}
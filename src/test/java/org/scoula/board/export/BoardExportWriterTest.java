@@ -0,0 +1,67 @@
+package org.scoula.board.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.board.domain.BoardVO;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardExportWriterTest {
+
+    private static final BoardVO PLAIN = BoardVO.builder()
+            .no(1L).title("제목").content("내용").writer("user00")
+            .regDate(new Date(0)).updateDate(new Date(0))
+            .build();
+
+    // 쉼표, 큰따옴표, 줄바꿈이 포함된 게시글
+    private static final BoardVO SPECIAL = BoardVO.builder()
+            .no(2L).title("a,b").content("첫 줄 \"인용\"\r\n둘째 줄").writer("user01")
+            .build();
+
+    private String export(BoardExportFormat format, BoardVO... boards) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (BoardExportWriter writer = format.open(out)) {
+            for (BoardVO board : boards) {
+                writer.write(board);
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("NDJSON은 게시글마다 JSON 한 줄로 기록된다")
+    void ndjson() throws IOException {
+        String[] lines = export(BoardExportFormat.NDJSON, PLAIN, SPECIAL).split("\n", -1);
+
+        assertEquals(3, lines.length);   // 2건 + 마지막 줄바꿈
+        assertEquals("", lines[2]);
+
+        JsonNode second = new ObjectMapper().readTree(lines[1]);
+        assertEquals(2, second.get("no").asLong());
+        assertEquals(SPECIAL.getContent(), second.get("content").asText());
+        assertTrue(second.get("regDate").isNull());
+    }
+
+    @Test
+    @DisplayName("CSV는 특수문자가 포함된 값만 큰따옴표로 감싼다")
+    void csv() throws IOException {
+        String csv = export(BoardExportFormat.CSV, PLAIN, SPECIAL);
+
+        assertTrue(csv.startsWith("no,title,content,writer,regDate,updateDate\r\n1,제목,내용,user00,"));
+        assertTrue(csv.endsWith("2,\"a,b\",\"첫 줄 \"\"인용\"\"\r\n둘째 줄\",user01,,\r\n"));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식은 IllegalArgumentException")
+    void unknownFormat() {
+        assertEquals(BoardExportFormat.CSV, BoardExportFormat.of("csv"));
+        assertThrows(IllegalArgumentException.class, () -> BoardExportFormat.of("xml"));
+    }
+}
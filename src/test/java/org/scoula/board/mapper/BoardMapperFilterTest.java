@@ -0,0 +1,171 @@
+package org.scoula.board.mapper;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.domain.BoardSummaryVO;
+import org.scoula.board.domain.BoardVO;
+import org.scoula.common.pagination.PageRequest;
+import org.scoula.config.RootConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게시글 목록 필터 쿼리 결과 테스트
+ * - 테스트마다 고유한 작성자로 게시글을 등록하고 필터 조건에 맞는 행만 조회되는지 확인 (테스트 후 롤백)
+ * - 매퍼가 만드는 SQL에 EXPLAIN을 실행하여 필터 인덱스(board_filter_index.sql)를 사용할 수 있는지 확인
+ *   → 테이블 통계(행 수)에 따라 달라지는 최종 선택(key) 대신 후보 인덱스(possible_keys)와 전체 스캔(ALL) 여부만 검사
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = { RootConfig.class })
+@Transactional
+class BoardMapperFilterTest {
+
+    private static final String PAGE_STATEMENT = "org.scoula.board.mapper.BoardMapper.getPageWithSearch";
+
+    @Autowired
+    private BoardMapper boardMapper;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private String writer;          // 이번 테스트에서 등록한 게시글의 작성자
+    private Long withAttachment;    // 첨부파일이 있는 게시글 번호
+    private Long withoutAttachment; // 첨부파일이 없는 게시글 번호
+
+    @BeforeEach
+    void setUp() {
+        writer = "ft" + System.nanoTime() % 100_000_000L;
+        withoutAttachment = create("첨부 없음");
+        withAttachment = create("첨부 있음");
+
+        BoardAttachmentVO attach = BoardAttachmentVO.builder()
+                .filename("a.txt").path("a.txt").contentType("text/plain").size(1L).bno(withAttachment).build();
+        boardMapper.createAttachment(attach);
+
+        create("다른 작성자 글", "other" + writer);
+    }
+
+    private Long create(String title) {
+        return create(title, writer);
+    }
+
+    private Long create(String title, String writer) {
+        BoardVO board = BoardVO.builder().title(title).content(title + " 내용").writer(writer).build();
+        boardMapper.create(board);
+        return board.getNo();
+    }
+
+    private List<Long> search(PageRequest pageRequest) {
+        return boardMapper.getPageWithSearch(pageRequest).stream().map(BoardSummaryVO::getNo).toList();
+    }
+
+    // 실행 계획 중 tbl_board(b) 행 (possible_keys, type)
+    private record Plan(String possibleKeys, String type) {
+    }
+
+    // 매퍼가 만드는 목록 SQL 그대로 EXPLAIN 실행 (파라미터도 MyBatis 타입 핸들러로 설정)
+    private Plan explain(PageRequest pageRequest) throws Exception {
+        MappedStatement statement = sqlSessionFactory.getConfiguration().getMappedStatement(PAGE_STATEMENT);
+        BoundSql boundSql = statement.getBoundSql(pageRequest);
+        Connection conn = DataSourceUtils.getConnection(dataSource);   // 테스트 트랜잭션의 커넥션
+        try (PreparedStatement stmt = conn.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            new DefaultParameterHandler(statement, pageRequest, boundSql).setParameters(stmt);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    if ("b".equals(rs.getString("table"))) {
+                        return new Plan(rs.getString("possible_keys"), rs.getString("type"));
+                    }
+                }
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(conn, dataSource);
+        }
+        throw new AssertionError("tbl_board 실행 계획이 없습니다: " + boundSql.getSql());
+    }
+
+    private static void assertUsesIndex(String index, Plan plan) {
+        assertNotNull(plan.possibleKeys(), "사용 가능한 인덱스가 없습니다.");
+        assertTrue(plan.possibleKeys().contains(index), "후보 인덱스: " + plan.possibleKeys());
+        assertNotEquals("ALL", plan.type(), "전체 테이블 스캔");
+    }
+
+    @Test
+    @DisplayName("작성자 필터 SQL은 (writer, no) 인덱스를 사용할 수 있다")
+    void writerFilterPlan() throws Exception {
+        PageRequest pageRequest = PageRequest.of(1, 10);
+        pageRequest.setWriter(writer);
+
+        assertUsesIndex("idx_board_writer_no", explain(pageRequest));
+    }
+
+    @Test
+    @DisplayName("등록일 범위 필터 SQL은 (reg_date, no) 인덱스를 사용할 수 있다")
+    void dateRangeFilterPlan() throws Exception {
+        PageRequest pageRequest = PageRequest.of(1, 10);
+        pageRequest.setFrom(LocalDate.now().minusDays(7));
+        pageRequest.setTo(LocalDate.now());
+
+        assertUsesIndex("idx_board_reg_date_no", explain(pageRequest));
+    }
+
+    @Test
+    @DisplayName("작성자 필터는 해당 작성자의 글만 번호 역순으로 조회")
+    void writerFilter() {
+        PageRequest pageRequest = PageRequest.of(1, 10);
+        pageRequest.setWriter(writer);
+
+        assertEquals(List.of(withAttachment, withoutAttachment), search(pageRequest));
+        assertEquals(2, boardMapper.getTotalCountWithSearch(pageRequest));
+    }
+
+    @Test
+    @DisplayName("등록일 범위 필터는 범위 안의 글만 조회 (끝 날짜 포함)")
+    void dateRangeFilter() {
+        PageRequest pageRequest = PageRequest.of(1, 10);
+        pageRequest.setWriter(writer);
+        pageRequest.setFrom(LocalDate.now().minusDays(1));   // DB와 JVM의 시간대 차이 허용
+        pageRequest.setTo(LocalDate.now().plusDays(1));
+        assertEquals(List.of(withAttachment, withoutAttachment), search(pageRequest));
+
+        pageRequest.setFrom(LocalDate.now().plusDays(2));
+        pageRequest.setTo(LocalDate.now().plusDays(3));
+        assertTrue(search(pageRequest).isEmpty());
+    }
+
+    @Test
+    @DisplayName("작성자 + 첨부파일 유무 필터")
+    void writerWithAttachmentFilter() {
+        PageRequest pageRequest = PageRequest.of(1, 10);
+        pageRequest.setWriter(writer);
+
+        pageRequest.setHasAttachment(true);
+        List<BoardSummaryVO> boards = boardMapper.getPageWithSearch(pageRequest);
+        assertEquals(List.of(withAttachment), boards.stream().map(BoardSummaryVO::getNo).toList());
+        assertEquals(1, boards.get(0).getAttachCount());
+
+        pageRequest.setHasAttachment(false);
+        assertEquals(List.of(withoutAttachment), search(pageRequest));
+    }
+}
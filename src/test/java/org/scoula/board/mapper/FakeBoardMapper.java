@@ -0,0 +1,211 @@
+package org.scoula.board.mapper;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.domain.BoardSummaryVO;
+import org.scoula.board.domain.BoardVO;
+import org.scoula.board.domain.BoardVersionVO;
+import org.scoula.common.pagination.PageRequest;
+
+import java.util.*;
+
+/**
+ * 테스트용 메모리 BoardMapper
+ * - 첨부파일 테이블을 attachments 목록으로 대신하고, 첨부파일 관련 쿼리만 구현
+ * - 실행된 쿼리는 메서드 이름별로 인자와 함께 기록 (calls, count)
+ * - 목록 버전은 listVersion 값 사용, 게시글 목록/검색 쿼리는 지원하지 않음 (UnsupportedOperationException)
+ */
+public class FakeBoardMapper implements BoardMapper {
+
+    public final List<BoardAttachmentVO> attachments = new ArrayList<>();    // tbl_board_attachment
+    public String listVersion = "0:0:0";                                     // getListVersion 결과
+    private final Map<String, List<Object[]>> calls = new LinkedHashMap<>();
+    private long sequence;
+
+    // 첨부파일 행 추가 (번호 자동 부여)
+    public BoardAttachmentVO add(BoardAttachmentVO attach) {
+        if (attach.getNo() == null) {
+            attach.setNo(++sequence);
+        }
+        sequence = Math.max(sequence, attach.getNo());
+        attachments.add(attach);
+        return attach;
+    }
+
+    // 메서드별 호출 인자 목록
+    public List<Object[]> calls(String method) {
+        return calls.getOrDefault(method, List.of());
+    }
+
+    // 메서드별 호출 수
+    public int count(String method) {
+        return calls(method).size();
+    }
+
+    private void record(String method, Object... args) {
+        calls.computeIfAbsent(method, name -> new ArrayList<>()).add(args);
+    }
+
+    // === 첨부파일 ===
+
+    @Override
+    public void createAttachment(BoardAttachmentVO attach) {
+        record("createAttachment", attach);
+        add(attach);
+    }
+
+    @Override
+    public int createAttachments(List<BoardAttachmentVO> attaches) {
+        record("createAttachments", attaches);
+        attaches.forEach(this::add);
+        return attaches.size();
+    }
+
+    @Override
+    public List<BoardAttachmentVO> getAttachmentList(Long bno) {
+        record("getAttachmentList", bno);
+        return attachments.stream().filter(attach -> bno.equals(attach.getBno())).toList();
+    }
+
+    @Override
+    public BoardAttachmentVO getAttachment(Long no) {
+        record("getAttachment", no);
+        return attachments.stream().filter(attach -> no.equals(attach.getNo())).findFirst().orElse(null);
+    }
+
+    @Override
+    public int deleteAttachment(Long no) {
+        record("deleteAttachment", no);
+        return attachments.removeIf(attach -> no.equals(attach.getNo())) ? 1 : 0;
+    }
+
+    @Override
+    public int countAttachmentsByDigest(String digest) {
+        record("countAttachmentsByDigest", digest);
+        return (int) attachments.stream().filter(attach -> digest.equals(attach.getDigest())).count();
+    }
+
+    @Override
+    public List<String> findReferencedDigests(List<String> digests) {
+        record("findReferencedDigests", digests);
+        return digests.stream()
+                .filter(digest -> attachments.stream().anyMatch(attach -> digest.equals(attach.getDigest())))
+                .toList();
+    }
+
+    @Override
+    public List<String> findReferencedPaths(List<String> paths) {
+        record("findReferencedPaths", paths);
+        return paths.stream()
+                .filter(path -> attachments.stream().anyMatch(attach -> path.equals(attach.getPath())))
+                .toList();
+    }
+
+    @Override
+    public List<BoardAttachmentVO> getAttachmentsAfter(Long after, int limit) {
+        record("getAttachmentsAfter", after, limit);
+        return attachments.stream()
+                .filter(attach -> attach.getNo() > after)
+                .sorted(Comparator.comparing(BoardAttachmentVO::getNo))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public int updateAttachmentPaths(Map<String, String> moved) {
+        record("updateAttachmentPaths", moved);
+        int updated = 0;
+        for (BoardAttachmentVO attach : attachments) {
+            if (moved.containsKey(attach.getPath())) {
+                attach.setPath(moved.get(attach.getPath()));
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    // === 게시글 ===
+
+    @Override
+    public int touch(Long no) {
+        record("touch", no);
+        return 1;
+    }
+
+    @Override
+    public int countDeleted() {
+        record("countDeleted");
+        return 1;
+    }
+
+    @Override
+    public List<BoardVO> getList() {
+        throw new UnsupportedOperationException("getList");
+    }
+
+    @Override
+    public Cursor<BoardVO> getListCursor() {
+        throw new UnsupportedOperationException("getListCursor");
+    }
+
+    @Override
+    public BoardVO get(Long no) {
+        throw new UnsupportedOperationException("get");
+    }
+
+    @Override
+    public void create(BoardVO board) {
+        throw new UnsupportedOperationException("create");
+    }
+
+    @Override
+    public int update(BoardVO board) {
+        throw new UnsupportedOperationException("update");
+    }
+
+    @Override
+    public int delete(Long no) {
+        throw new UnsupportedOperationException("delete");
+    }
+
+    @Override
+    public BoardVersionVO getVersion(Long no) {
+        throw new UnsupportedOperationException("getVersion");
+    }
+
+    @Override
+    public int getTotalCount() {
+        throw new UnsupportedOperationException("getTotalCount");
+    }
+
+    @Override
+    public String getListVersion() {
+        record("getListVersion");
+        return listVersion;
+    }
+
+    @Override
+    public List<BoardSummaryVO> getPage(PageRequest pageRequest) {
+        throw new UnsupportedOperationException("getPage");
+    }
+
+    @Override
+    public int getTotalCountWithSearch(PageRequest pageRequest) {
+        throw new UnsupportedOperationException("getTotalCountWithSearch");
+    }
+
+    @Override
+    public int getTotalCountWithSearchLimit(PageRequest pageRequest) {
+        throw new UnsupportedOperationException("getTotalCountWithSearchLimit");
+    }
+
+    @Override
+    public List<BoardSummaryVO> getPageWithSearch(PageRequest pageRequest) {
+        throw new UnsupportedOperationException("getPageWithSearch");
+    }
+
+    @Override
+    public List<BoardSummaryVO> getPageByCursor(PageRequest pageRequest) {
+        throw new UnsupportedOperationException("getPageByCursor");
+    }
+}
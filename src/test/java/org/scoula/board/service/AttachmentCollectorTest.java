@@ -0,0 +1,121 @@
+package org.scoula.board.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.scoula.board.dto.StorageCollectDTO;
+import org.scoula.board.dto.UploadSessionDTO;
+import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.mapper.FakeBoardMapper;
+import org.scoula.common.cache.HotFileCache;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttachmentCollectorTest {
+
+    private static final String REFERENCED = "a".repeat(64);
+    private static final String ORPHAN = "b".repeat(64);
+
+    @TempDir
+    Path dir;
+
+    private final FakeBoardMapper mapper = new FakeBoardMapper();
+    private final HotFileCache cache = new HotFileCache(1024 * 1024, 1024 * 1024, 60_000);
+
+    // 대조 쿼리에 넘긴 digest/경로 수
+    private List<Integer> batchSizes() {
+        return Stream.concat(mapper.calls("findReferencedDigests").stream(), mapper.calls("findReferencedPaths").stream())
+                .map(args -> ((List<?>) args[0]).size())
+                .toList();
+    }
+
+    // 첨부 대기 중인 업로드가 없는 세션 서비스
+    private UploadSessionService uploads() {
+        return new UploadSessionServiceImpl(dir.toString(), 1024 * 1024, 4096, 10, 1024 * 1024);
+    }
+
+    private Path file(String name, int size, boolean old) throws Exception {
+        Path file = dir.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[size]);
+        if (old) {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - 120_000));
+        }
+        return file;
+    }
+
+    @Test
+    @DisplayName("보호 시간이 지나고 참조가 없는 파일만 삭제하고 회수한 용량을 보고한다")
+    void collectsOrphans() throws Exception {
+        Path referencedBlob = file(REFERENCED, 10, true);
+        Path orphanBlob = file(ORPHAN + ".gz", 100, true);
+        Path legacyKept = file("uuid1_kept.txt", 10, true);
+        Path legacyOrphan = file("uuid2_orphan.txt", 1000, true);
+        Path recent = file("c".repeat(64), 10, false);          // 커밋 전일 수 있는 최근 파일
+        Path staleTemp = file(".tmp/upload-1.part", 5, true);
+        Path uploading = file(".uploads/session.part", 5, true); // 분할 업로드 세션 파일은 대상 아님
+
+        String keptPath = new File(dir.toString(), "uuid1_kept.txt").getPath();
+        mapper.add(BoardAttachmentVO.builder().digest(REFERENCED).build());    // 참조 중인 파일
+        mapper.add(BoardAttachmentVO.builder().path(keptPath).build());
+        AttachmentCollector collector = new AttachmentCollector(mapper, uploads(), cache, dir.toString(), 60_000, 2);
+        StorageCollectDTO result = collector.collect();
+
+        assertEquals(3, result.getDeleted());
+        assertEquals(100 + 1000 + 5, result.getReclaimedBytes());
+        assertEquals(0, result.getFailed());
+        assertSame(result, collector.getLastResult());
+
+        assertTrue(Files.exists(referencedBlob));
+        assertTrue(Files.exists(legacyKept));
+        assertTrue(Files.exists(recent));
+        assertTrue(Files.exists(uploading));
+        assertFalse(Files.exists(orphanBlob));
+        assertFalse(Files.exists(legacyOrphan));
+        assertFalse(Files.exists(staleTemp));
+
+        // 대조 쿼리는 배치 크기를 넘지 않음
+        assertFalse(batchSizes().isEmpty());
+        assertTrue(batchSizes().stream().allMatch(size -> size <= 2));
+    }
+
+    @Test
+    @DisplayName("저장 디렉토리가 없으면 아무것도 하지 않는다")
+    void missingDirectory() {
+        AttachmentCollector collector = new AttachmentCollector(mapper, uploads(), cache,
+                dir.resolve("missing").toString(), 60_000, 100);
+        StorageCollectDTO result = collector.collect();
+
+        assertEquals(0, result.getScanned());
+        assertEquals(0, result.getDeleted());
+        assertTrue(batchSizes().isEmpty());
+    }
+
+    @Test
+    @DisplayName("완료 후 아직 첨부되지 않은 업로드의 파일은 세션이 남아 있는 동안 삭제하지 않는다")
+    void keepsPendingUploads() throws Exception {
+        UploadSessionService uploads = uploads();
+        String id = uploads.create(UploadSessionDTO.builder().filename("a.txt").size(5).build(), "user00").getId();
+        uploads.write(id, "user00", 0, 5, new ByteArrayInputStream("hello".getBytes()));
+        uploads.complete(id, "user00");
+        Path blob = Path.of(uploads.toAttachment(id, 1L, "user00").getPath());
+        Files.setLastModifiedTime(blob, FileTime.fromMillis(System.currentTimeMillis() - 120_000));
+
+        AttachmentCollector collector = new AttachmentCollector(mapper, uploads, cache, dir.toString(), 60_000, 100);
+        assertEquals(0, collector.collect().getDeleted());
+        assertTrue(Files.exists(blob));
+
+        // 첨부되지 않은 채 세션이 정리되면 다음 정리에서 삭제
+        uploads.release(id);
+        assertEquals(1, collector.collect().getDeleted());
+        assertFalse(Files.exists(blob));
+    }
+}
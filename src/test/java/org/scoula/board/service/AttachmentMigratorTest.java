@@ -0,0 +1,128 @@
+package org.scoula.board.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.dto.StorageMigrateDTO;
+import org.scoula.board.mapper.FakeBoardMapper;
+import org.scoula.common.cache.HotFileCache;
+import org.scoula.common.util.StorageLayout;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttachmentMigratorTest {
+
+    @TempDir
+    Path dir;
+
+    private final FakeBoardMapper mapper = new FakeBoardMapper();
+    private final HotFileCache cache = new HotFileCache(1024 * 1024, 1024 * 1024, 60_000);
+
+    // 첨부 대기 중인 업로드가 없는 세션 서비스
+    private UploadSessionService uploads() {
+        return new UploadSessionServiceImpl(dir.toString(), 1024 * 1024, 4096, 10, 1024 * 1024);
+    }
+
+    private AttachmentMigrator migrator(int batchSize) {
+        return new AttachmentMigrator(mapper, new AttachmentCollector(mapper, uploads(), cache, dir.toString(), 60_000,
+                batchSize), cache, dir.toString(), batchSize);
+    }
+
+    private void row(long no, String name) throws Exception {
+        Path file = dir.resolve(name);
+        if (!Files.exists(file)) {
+            Files.writeString(file, name);
+        }
+        mapper.add(BoardAttachmentVO.builder().no(no).path(file.toString()).build());
+    }
+
+    @Test
+    @DisplayName("기존 파일을 해시 하위 디렉토리로 옮기고 경로를 배치 단위로 갱신하며, 다시 실행해도 안전하다")
+    void migrate() throws Exception {
+        row(1, "a-1700000000000.txt");
+        row(2, "b-1700000000001.png");
+        row(3, "a-1700000000000.txt");     // 같은 파일을 공유하는 행
+        row(4, "c-1700000000002.pdf");
+        row(5, "d-1700000000003.zip");
+        Files.delete(dir.resolve("d-1700000000003.zip"));   // 파일이 없는 행
+
+        AttachmentMigrator migrator = migrator(2);
+        StorageMigrateDTO result = migrator.migrate();
+
+        assertEquals(5, result.getScanned());
+        assertEquals(3, result.getMoved());
+        assertEquals(4, result.getUpdated());
+        assertEquals(1, result.getMissing());
+        assertEquals(2, mapper.count("updateAttachmentPaths"));
+        assertTrue(result.isCompleted());
+        assertTrue(StorageLayout.isMigrated(dir.toString()));         // 배치(2행)마다 UPDATE 한 번, 옮길 파일이 없는 배치는 생략
+
+        for (BoardAttachmentVO row : mapper.attachments.subList(0, 4)) {
+            assertTrue(StorageLayout.isLaidOut(dir.toString(), row.getPath()));
+            assertTrue(Files.exists(Path.of(row.getPath())));
+        }
+        assertEquals("a-1700000000000.txt", Files.readString(Path.of(mapper.attachments.get(2).getPath())));
+
+        // 다시 실행하면 이미 옮긴 행은 건너뜀
+        StorageMigrateDTO again = migrator.migrate();
+        assertEquals(0, again.getMoved());
+        assertEquals(0, again.getUpdated());
+    }
+
+    @Test
+    @DisplayName("파일 이동 후 경로 갱신 전에 중단된 경우 다시 실행하면 경로만 갱신한다")
+    void resumesAfterInterruptedRun() throws Exception {
+        row(1, "a-1700000000000.txt");
+        Path target = StorageLayout.resolve(dir, "a-1700000000000.txt");
+        Files.createDirectories(target.getParent());
+        Files.move(dir.resolve("a-1700000000000.txt"), target);
+
+        StorageMigrateDTO result = migrator(100).migrate();
+
+        assertEquals(0, result.getMoved());
+        assertEquals(1, result.getUpdated());
+        assertEquals(target.toString(), mapper.attachments.get(0).getPath());
+    }
+
+    @Test
+    @DisplayName("새 위치에 같은 내용의 파일이 이미 있으면 기존 위치의 파일만 삭제하고 경로를 갱신한다")
+    void targetWithSameContent() throws Exception {
+        row(1, "a-1700000000000.txt");
+        Path target = StorageLayout.resolve(dir, "a-1700000000000.txt");
+        Files.createDirectories(target.getParent());
+        Files.writeString(target, "a-1700000000000.txt");
+
+        StorageMigrateDTO result = migrator(100).migrate();
+
+        assertEquals(1, result.getMoved());
+        assertEquals(0, result.getConflicts());
+        assertTrue(result.isCompleted());
+        assertFalse(Files.exists(dir.resolve("a-1700000000000.txt")));
+        assertEquals(target.toString(), mapper.attachments.get(0).getPath());
+    }
+
+    @Test
+    @DisplayName("새 위치에 내용이 다른 파일이 있으면 덮어쓰지 않고 건너뛰며, 완료 표시를 하지 않는다")
+    void targetWithDifferentContent() throws Exception {
+        row(1, "a-1700000000000.txt");
+        Path source = dir.resolve("a-1700000000000.txt");
+        Path target = StorageLayout.resolve(dir, "a-1700000000000.txt");
+        Files.createDirectories(target.getParent());
+        Files.writeString(target, "other");
+
+        StorageMigrateDTO result = migrator(100).migrate();
+
+        assertEquals(0, result.getMoved());
+        assertEquals(1, result.getConflicts());
+        assertEquals(0, result.getUpdated());
+        assertFalse(result.isCompleted());
+        assertFalse(StorageLayout.isMigrated(dir.toString()));
+        assertEquals("a-1700000000000.txt", Files.readString(source));
+        assertEquals("other", Files.readString(target));
+        assertEquals(source.toString(), mapper.attachments.get(0).getPath());
+    }
+}
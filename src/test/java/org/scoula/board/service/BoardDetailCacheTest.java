@@ -0,0 +1,114 @@
+package org.scoula.board.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.dto.BoardDTO;
+import org.scoula.common.concurrent.FakeConnectionPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardDetailCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    // DB 조회 대신 호출 수를 세며 게시글을 만드는 loader
+    private BoardDTO load(Long no) {
+        loads.incrementAndGet();
+        List<BoardAttachmentVO> attaches = new ArrayList<>();
+        attaches.add(BoardAttachmentVO.builder().no(no * 10).bno(no).filename("a.txt").build());
+        return BoardDTO.builder().no(no).title("title-" + no).attaches(attaches).build();
+    }
+
+    @Test
+    @DisplayName("반환한 DTO를 변경해도 캐시된 게시글은 바뀌지 않음")
+    void returnsCopies() {
+        BoardDetailCache cache = new BoardDetailCache(1 << 20, 60_000);
+
+        BoardDTO first = cache.get(1L, this::load);
+        first.setTitle("변경");
+        first.getAttaches().get(0).setFilename("changed.txt");
+        first.getAttaches().clear();
+
+        BoardDTO second = cache.get(1L, this::load);
+        assertEquals(1, loads.get());
+        assertNotSame(first, second);
+        assertEquals("title-1", second.getTitle());
+        assertEquals("a.txt", second.getAttaches().get(0).getFilename());
+
+        cache.peek(1L).setTitle("변경");
+        assertEquals("title-1", cache.peek(1L).getTitle());
+    }
+
+    @Test
+    @DisplayName("저장 후 유지 시간이 지나면 다시 로드 (무효화 누락 대비)")
+    void expiresAfterWrite() throws Exception {
+        BoardDetailCache cache = new BoardDetailCache(1 << 20, 1);
+
+        cache.get(1L, this::load);
+        Thread.sleep(5);   // 유지 시간 1ms 경과
+        cache.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("로드 도중 같은 게시글이 무효화되면 로드 결과를 캐시에 넣지 않음")
+    void invalidatedDuringLoad() {
+        BoardDetailCache cache = new BoardDetailCache(1 << 20, 60_000);
+
+        // 조회 후 저장 전에 수정이 커밋된 상황 (트랜잭션 밖이므로 invalidate는 즉시 실행)
+        BoardDTO stale = cache.get(1L, no -> {
+            BoardDTO board = load(no);
+            cache.invalidate(no);
+            return board;
+        });
+        assertEquals("title-1", stale.getTitle());   // 요청 자체는 결과를 받음
+        assertNull(cache.peek(1L));
+
+        cache.get(1L, this::load);
+        assertNotNull(cache.peek(1L));
+    }
+
+    @Test
+    @DisplayName("다른 게시글의 무효화는 진행 중인 로드를 버리지 않음")
+    void otherKeyInvalidation() {
+        BoardDetailCache cache = new BoardDetailCache(1 << 20, 60_000);
+
+        cache.get(1L, no -> {
+            BoardDTO board = load(no);
+            cache.invalidate(2L);
+            return board;
+        });
+
+        assertNotNull(cache.peek(1L));
+    }
+
+    @Test
+    @DisplayName("동시 캐시 미스 200건은 게시글당 커넥션 1회로 처리되고 커넥션 대기가 없다")
+    void concurrentMissesUseOneConnectionPerPost() throws Exception {
+        int requests = 200;
+        int keys = 5;
+        BoardDetailCache cache = new BoardDetailCache(1 << 20, 60_000);
+        FakeConnectionPool pool = new FakeConnectionPool();
+
+        List<BoardDTO> boards = pool.fire(requests, keys,
+                no -> cache.get(no, key -> BoardDTO.builder().no(key).title(pool.query(key)).build()),
+                () -> pool.getInUse() == keys && cache.getStats().getCoalescedCount() == requests - keys);
+
+        assertEquals(requests, boards.size());
+        for (BoardDTO board : boards) {
+            assertEquals("board-" + board.getNo(), board.getTitle());
+        }
+        for (long no = 1; no <= keys; no++) {
+            assertEquals(1, pool.getAcquisitions(no));
+            assertNotNull(cache.peek(no));
+        }
+        assertEquals(keys, pool.getAcquisitions());
+        assertEquals(0, pool.getWaiters());
+    }
+}
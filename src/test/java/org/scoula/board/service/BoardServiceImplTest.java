@@ -0,0 +1,86 @@
+package org.scoula.board.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.mapper.FakeBoardMapper;
+import org.scoula.common.cache.HotFileCache;
+import org.scoula.common.pagination.PageRequest;
+import org.scoula.common.util.BlobStore;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardServiceImplTest {
+
+    @TempDir
+    Path dir;
+
+    private final FakeBoardMapper mapper = new FakeBoardMapper();
+
+    // 첨부파일 삭제에 필요한 의존성만 사용하는 서비스
+    private BoardServiceImpl service() {
+        return new BoardServiceImpl(mapper, null, new BoardDetailCache(1 << 20, 60_000), null, null, null, null,
+                new HotFileCache(1024 * 1024, 1024 * 1024, 60_000));
+    }
+
+    @Test
+    @DisplayName("첨부파일을 삭제하면 게시글 수정일을 갱신 (목록 버전 변경)")
+    void deleteAttachmentTouchesBoard() {
+        mapper.add(BoardAttachmentVO.builder().bno(7L).filename("a.txt").path("a.txt").build());
+
+        assertTrue(service().deleteAttachment(1L));
+
+        assertTrue(mapper.attachments.isEmpty());
+        assertEquals(1, mapper.count("touch"));
+        assertEquals(7L, mapper.calls("touch").get(0)[0]);
+    }
+
+    @Test
+    @DisplayName("없는 첨부파일 삭제는 게시글 수정일을 바꾸지 않음")
+    void missingAttachmentDoesNotTouch() {
+        assertFalse(service().deleteAttachment(1L));
+
+        assertEquals(0, mapper.count("touch"));
+    }
+
+    @Test
+    @DisplayName("참조가 없어진 첨부파일은 설정된 저장 디렉토리(board.upload.dir)에서 삭제")
+    void releasesBlobInConfiguredDirectory() throws Exception {
+        BoardServiceImpl service = service();
+        ReflectionTestUtils.setField(service, "baseDir", dir.toString());
+        ReflectionTestUtils.setField(service, "releaseGraceMillis", 0L);
+
+        BlobStore.Blob blob = BlobStore.put(dir.toString(), new ByteArrayInputStream("hello".getBytes()));
+        mapper.add(BoardAttachmentVO.builder().bno(7L).filename("a.txt").path(blob.getPath())
+                .digest(blob.getDigest()).build());
+        mapper.add(BoardAttachmentVO.builder().bno(8L).filename("b.txt").path(blob.getPath())
+                .digest(blob.getDigest()).build());
+
+        assertTrue(service.deleteAttachment(1L));
+        assertTrue(Files.exists(Path.of(blob.getPath())));    // 다른 첨부파일이 같은 파일을 참조
+
+        assertTrue(service.deleteAttachment(2L));
+        assertFalse(Files.exists(Path.of(blob.getPath())));
+    }
+
+    @Test
+    @DisplayName("목록 ETag는 DB 목록 버전과 요청 조건만으로 계산 (서버별 메모리 값과 무관)")
+    void listETagUsesListVersionOnly() {
+        PageRequest pageRequest = PageRequest.of(1, 10);
+        mapper.listVersion = "42:20260101000000000000:3";
+
+        // 게시글 수 캐시(countService) 없이도 계산되고, 서비스 인스턴스(서버)가 달라도 같은 값
+        String etag = service().getListETag(pageRequest);
+        assertEquals(etag, service().getListETag(PageRequest.of(1, 10)));
+
+        assertNotEquals(etag, service().getListETag(PageRequest.of(2, 10)));
+        mapper.listVersion = "42:20260101000000000000:4";   // 삭제 횟수 증가
+        assertNotEquals(etag, service().getListETag(pageRequest));
+    }
+}
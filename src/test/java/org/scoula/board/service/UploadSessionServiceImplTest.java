@@ -0,0 +1,235 @@
+package org.scoula.board.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.scoula.board.domain.BoardAttachmentVO;
+import org.scoula.board.dto.UploadSessionDTO;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UploadSessionServiceImplTest {
+
+    private static final int CHUNK = 1000;
+    private static final String USER = "user00";
+
+    @TempDir
+    Path dir;
+
+    private UploadSessionServiceImpl service() {
+        return new UploadSessionServiceImpl(dir.toString(), 1024 * 1024, 4096, 3, 64 * 1024);
+    }
+
+    private static byte[] data(int size) {
+        byte[] data = new byte[size];
+        new Random(42).nextBytes(data);
+        return data;
+    }
+
+    private static UploadSessionDTO request(int size) {
+        return UploadSessionDTO.builder().filename("video.mp4").contentType("video/mp4").size(size).build();
+    }
+
+    private static UploadSessionDTO send(UploadSessionService service, String id, byte[] data, int offset, int length)
+            throws IOException {
+        return service.write(id, USER, offset, length, new ByteArrayInputStream(data, offset, length));
+    }
+
+    @Test
+    @DisplayName("구간을 순서 없이 동시에 보내도 원본과 같은 파일로 완료된다")
+    void parallelChunks() throws Exception {
+        byte[] data = data(10 * CHUNK + 123);
+        UploadSessionService service = service();
+        String id = service.create(request(data.length), USER).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<UploadSessionDTO>> results = new ArrayList<>();
+            for (int offset = data.length / CHUNK * CHUNK; offset >= 0; offset -= CHUNK) {
+                int start = offset;
+                results.add(executor.submit(() -> send(service, id, data, start, Math.min(CHUNK, data.length - start))));
+            }
+            for (Future<UploadSessionDTO> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        UploadSessionDTO state = service.get(id, USER);
+        assertEquals(List.of("0-" + (data.length - 1)), state.getReceived());
+        assertEquals(data.length, state.getReceivedBytes());
+
+        UploadSessionDTO done = service.complete(id, USER);
+        assertTrue(done.isComplete());
+
+        BoardAttachmentVO attach = service.toAttachment(id, 7L, USER);
+        assertEquals(7L, attach.getBno());
+        assertEquals(done.getDigest(), attach.getDigest());
+        assertArrayEquals(data, Files.readAllBytes(Path.of(attach.getPath())));
+    }
+
+    @Test
+    @DisplayName("받지 못한 구간이 있으면 완료할 수 없고, 재전송한 구간은 한 번만 계산된다")
+    void resume() throws Exception {
+        byte[] data = data(3 * CHUNK);
+        UploadSessionService service = service();
+        String id = service.create(request(data.length), USER).getId();
+
+        send(service, id, data, 0, CHUNK);
+        send(service, id, data, 0, CHUNK);           // 재전송
+        send(service, id, data, 2 * CHUNK, CHUNK);
+
+        // 중간에 끊긴 구간은 받은 것으로 표시하지 않음
+        assertThrows(IOException.class,
+                () -> service.write(id, USER, CHUNK, CHUNK, new ByteArrayInputStream(data, CHUNK, CHUNK / 2)));
+
+        UploadSessionDTO state = service.get(id, USER);
+        assertEquals(List.of("0-999", "2000-2999"), state.getReceived());
+        assertEquals(2 * CHUNK, state.getReceivedBytes());
+        assertThrows(IllegalArgumentException.class, () -> service.complete(id, USER));
+
+        send(service, id, data, CHUNK, CHUNK);
+        assertTrue(service.complete(id, USER).isComplete());
+        assertTrue(service.complete(id, USER).isComplete());  // 완료 재요청 허용
+        assertThrows(IllegalArgumentException.class, () -> send(service, id, data, 0, CHUNK));
+    }
+
+    @Test
+    @DisplayName("SHA-256이 다르면 완료가 거부되고, 취소하면 세션과 데이터가 삭제된다")
+    void digestMismatchAndCancel() throws Exception {
+        byte[] data = data(CHUNK);
+        UploadSessionService service = service();
+        UploadSessionDTO request = request(data.length);
+        request.setDigest("0".repeat(64));
+        String id = service.create(request, USER).getId();
+
+        send(service, id, data, 0, CHUNK);
+        assertThrows(IllegalArgumentException.class, () -> service.complete(id, USER));
+        assertThrows(IllegalArgumentException.class, () -> service.write(id, USER, CHUNK, 1, new ByteArrayInputStream(data)));
+
+        service.cancel(id, USER);
+        assertThrows(NoSuchElementException.class, () -> service.get(id, USER));
+        try (var files = Files.list(dir.resolve(".uploads"))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("multipart 본문의 파일 파트가 완료된 업로드로 바로 저장된다")
+    void streamingMultipart() throws Exception {
+        byte[] png = data(5000);
+        System.arraycopy(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'}, 0, png, 0, 8);
+        String boundary = "boundary123";
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"files\"; filename=\"photo.png\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes());
+        body.write(png);
+        body.write(("\r\n--" + boundary + "--\r\n").getBytes());
+
+        UploadSessionService service = service();
+        List<UploadSessionDTO> uploads = service.receive("multipart/form-data; boundary=" + boundary,
+                new ByteArrayInputStream(body.toByteArray()), USER);
+
+        assertEquals(1, uploads.size());
+        UploadSessionDTO upload = uploads.get(0);
+        assertTrue(upload.isComplete());
+        assertEquals("image/png", upload.getContentType());   // 파일 앞부분으로 판별
+        assertEquals(png.length, upload.getSize());
+
+        BoardAttachmentVO attach = service.toAttachment(upload.getId(), 1L, USER);
+        assertArrayEquals(png, Files.readAllBytes(Path.of(attach.getPath())));
+
+        // 최대 크기를 넘는 파일은 거부되고 임시 파일이 남지 않음
+        UploadSessionService small = new UploadSessionServiceImpl(dir.toString(), 1000, 4096, 3, 64 * 1024);
+        assertThrows(IllegalArgumentException.class, () -> small.receive("multipart/form-data; boundary=" + boundary,
+                new ByteArrayInputStream(body.toByteArray()), USER));
+        try (var temps = Files.list(dir.resolve(".tmp"))) {
+            assertEquals(0, temps.count());
+        }
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 세션은 조회, 전송, 완료, 취소, 첨부할 수 없다")
+    void sessionsAreBoundToOwner() throws Exception {
+        byte[] data = data(CHUNK);
+        UploadSessionService service = service();
+        String id = service.create(request(data.length), USER).getId();
+
+        assertThrows(NoSuchElementException.class, () -> service.get(id, "other"));
+        assertThrows(NoSuchElementException.class,
+                () -> service.write(id, "other", 0, CHUNK, new ByteArrayInputStream(data)));
+        send(service, id, data, 0, CHUNK);
+        assertThrows(NoSuchElementException.class, () -> service.complete(id, "other"));
+        service.complete(id, USER);
+        assertThrows(IllegalArgumentException.class, () -> service.toAttachment(id, 1L, "other"));
+        assertThrows(NoSuchElementException.class, () -> service.cancel(id, "other"));
+
+        assertEquals(1L, service.toAttachment(id, 1L, USER).getBno());
+    }
+
+    @Test
+    @DisplayName("사용자별 열린 세션 수와 전체 크기 한도를 넘는 세션은 만들 수 없다")
+    void perUserQuota() throws Exception {
+        UploadSessionService service = service();   // 세션 3개, 64KB
+
+        String first = service.create(request(60 * 1024), USER).getId();
+        assertThrows(IllegalArgumentException.class, () -> service.create(request(8 * 1024), USER));   // 크기 한도
+        service.create(request(1024), USER);
+        service.create(request(1024), USER);
+        assertThrows(IllegalArgumentException.class, () -> service.create(request(1), USER));          // 세션 수 한도
+
+        service.create(request(60 * 1024), "other");   // 다른 사용자는 별도 한도
+        service.cancel(first, USER);
+        service.create(request(8 * 1024), USER);       // 취소하면 한도 반환
+
+        // 세션 생성 시 전체 크기를 미리 할당하지 않음
+        try (var files = Files.list(dir.resolve(".uploads"))) {
+            for (Path file : files.toList()) {
+                assertEquals(0, Files.size(file));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("offset + length가 long 범위를 넘는 구간도 거부된다")
+    void rejectsOverflowingRange() throws Exception {
+        UploadSessionService service = service();
+        String id = service.create(request(CHUNK), USER).getId();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.write(id, USER, Long.MAX_VALUE - 10, 100, new ByteArrayInputStream(new byte[100])));
+        assertEquals(0, service.get(id, USER).getReceivedBytes());
+    }
+
+    @Test
+    @DisplayName("완료 후 첨부되지 않은 업로드의 digest는 첨부 대기 목록에 포함된다")
+    void pendingDigests() throws Exception {
+        byte[] data = data(CHUNK);
+        UploadSessionService service = service();
+        String id = service.create(request(data.length), USER).getId();
+        assertTrue(service.getPendingDigests().isEmpty());
+
+        send(service, id, data, 0, CHUNK);
+        String digest = service.complete(id, USER).getDigest();
+        assertEquals(Set.of(digest), service.getPendingDigests());
+
+        service.release(id);
+        assertTrue(service.getPendingDigests().isEmpty());
+    }
+}
@@ -0,0 +1,138 @@
+package org.scoula.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotFileCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private File createFile(String name, int size, long seed) throws Exception {
+        byte[] data = new byte[size];
+        new Random(seed).nextBytes(data);
+        return Files.write(dir.resolve(name), data).toFile();
+    }
+
+    private MockHttpServletResponse image(HotFileCache cache, File file, MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        cache.sendImage(request, response, file, "v1");
+        return response;
+    }
+
+    @Test
+    @DisplayName("두 번째 요청부터 캐시에서 같은 내용과 헤더로 전송하고 통계에 반영한다")
+    void servesFromCache() throws Exception {
+        File file = createFile("photo.png", 100 * 1024, 1);
+        HotFileCache cache = new HotFileCache(1024 * 1024, 512 * 1024, 60_000);
+
+        MockHttpServletResponse first = image(cache, file, new MockHttpServletRequest());
+        MockHttpServletResponse second = image(cache, file, new MockHttpServletRequest());
+
+        byte[] expected = Files.readAllBytes(file.toPath());
+        for (MockHttpServletResponse response : new MockHttpServletResponse[]{first, second}) {
+            assertEquals(200, response.getStatus());
+            assertEquals("image/png", response.getContentType());
+            assertEquals(expected.length, response.getContentLength());
+            assertEquals("\"v1\"", response.getHeader("ETag"));
+            assertArrayEquals(expected, response.getContentAsByteArray());
+        }
+
+        // If-None-Match는 캐시에서도 304
+        MockHttpServletRequest cached = new MockHttpServletRequest();
+        cached.addHeader("If-None-Match", "\"v1\"");
+        assertEquals(304, image(cache, file, cached).getStatus());
+
+        FileCacheStats stats = cache.getStats();
+        assertEquals(1, stats.getMissCount());
+        assertEquals(2, stats.getHitCount());
+        assertEquals(expected.length * 2L, stats.getServedBytes());
+        assertEquals(1, stats.getEntryCount());
+        assertEquals(expected.length, stats.getCachedBytes());
+    }
+
+    @Test
+    @DisplayName("파일이 바뀌면 확인 간격 후 다시 읽는다")
+    void invalidatesWhenChanged() throws Exception {
+        File file = createFile("photo.jpg", 1000, 1);
+        HotFileCache cache = new HotFileCache(1024 * 1024, 512 * 1024, 0);   // 매 요청 확인
+        image(cache, file, new MockHttpServletRequest());
+
+        byte[] changed = new byte[2000];
+        new Random(2).nextBytes(changed);
+        Files.write(file.toPath(), changed);
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(file.lastModified() + 5000));
+
+        assertArrayEquals(changed, image(cache, file, new MockHttpServletRequest()).getContentAsByteArray());
+        assertEquals(2, cache.getStats().getMissCount());
+    }
+
+    @Test
+    @DisplayName("캐시된 파일을 덮어쓰거나 잘라도 안전하고, invalidate 후에는 새 내용을 전송한다")
+    void rewriteAndInvalidate() throws Exception {
+        File file = createFile("avatar.png", 4096, 1);
+        byte[] original = Files.readAllBytes(file.toPath());
+        HotFileCache cache = new HotFileCache(1024 * 1024, 512 * 1024, 60_000);
+        image(cache, file, new MockHttpServletRequest());
+
+        // 확인 간격 안에서 파일이 잘려도 복사해 둔 내용을 그대로 전송 (매핑이었다면 잘린 영역 접근 오류)
+        Files.write(file.toPath(), new byte[0]);
+        assertArrayEquals(original, image(cache, file, new MockHttpServletRequest()).getContentAsByteArray());
+
+        byte[] replaced = new byte[1000];
+        new Random(2).nextBytes(replaced);
+        Files.write(file.toPath(), replaced);
+        cache.invalidate(new File(dir.toFile(), "./avatar.png"));   // 다른 표기의 같은 경로
+
+        assertArrayEquals(replaced, image(cache, file, new MockHttpServletRequest()).getContentAsByteArray());
+        assertEquals(2, cache.getStats().getMissCount());
+
+        Files.delete(file.toPath());
+        cache.invalidate(file);
+        assertEquals(0, cache.getStats().getEntryCount());
+    }
+
+    @Test
+    @DisplayName("보관 크기 상한은 다이렉트 메모리 한도를 넘지 않도록 조정한다")
+    void budgetFitsDirectMemory() {
+        long directLimit = HotFileCache.maxDirectMemory();
+
+        assertEquals(1024 * 1024, new HotFileCache(1024 * 1024, 512 * 1024, 1000).getStats().getMaxBytes());
+        long adjusted = new HotFileCache(directLimit * 2, 512 * 1024, 1000).getStats().getMaxBytes();
+        assertTrue(adjusted < directLimit, "조정된 상한: " + adjusted + ", 한도: " + directLimit);
+        assertTrue(adjusted >= directLimit / 2);
+    }
+
+    @Test
+    @DisplayName("Range 요청과 큰 파일은 캐시를 거치지 않고 파일에서 전송한다")
+    void bypass() throws Exception {
+        File small = createFile("small.png", 1000, 1);
+        File large = createFile("large.png", 10_000, 2);
+        HotFileCache cache = new HotFileCache(1024 * 1024, 5000, 60_000);
+
+        MockHttpServletRequest range = new MockHttpServletRequest();
+        range.addHeader("Range", "bytes=0-9");
+        MockHttpServletResponse partial = image(cache, small, range);
+        assertEquals(206, partial.getStatus());
+        assertEquals(10, partial.getContentAsByteArray().length);
+
+        MockHttpServletResponse full = image(cache, large, new MockHttpServletRequest());
+        assertEquals("image/png", full.getContentType());
+        assertArrayEquals(Files.readAllBytes(large.toPath()), full.getContentAsByteArray());
+
+        FileCacheStats stats = cache.getStats();
+        assertEquals(2, stats.getBypassCount());
+        assertEquals(0, stats.getEntryCount());
+    }
+}
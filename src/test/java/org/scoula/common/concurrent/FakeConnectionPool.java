@@ -0,0 +1,106 @@
+package org.scoula.common.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * 테스트용 DB 커넥션 풀 모델 (RootConfig의 HikariCP maximumPoolSize = 10)
+ * - 커넥션 10개를 Semaphore로 모사하고, 게시글별 커넥션 획득 수와 빈 커넥션이 없어 대기한 요청 수를 기록
+ * - 조회는 fire()가 모든 요청의 도착을 확인할 때까지 커넥션을 반환하지 않음
+ *   → 시간(sleep) 없이 "동시 요청이 모두 몰린 순간"을 고정하여 횟수로 비교
+ */
+public class FakeConnectionPool {
+    public static final int POOL_SIZE = 10;
+    private static final long WAIT_SECONDS = 10;
+
+    private final Semaphore connections = new Semaphore(POOL_SIZE);
+    private final CountDownLatch release = new CountDownLatch(1);        // 보유 중인 조회 완료 신호
+    private final AtomicInteger waiters = new AtomicInteger();           // 커넥션을 기다린 요청 수
+    private final Map<Long, AtomicInteger> acquisitions = new ConcurrentHashMap<>();   // 게시글별 커넥션 획득 수
+
+    /**
+     * 게시글 조회 (커넥션 획득 → 모든 요청 도착까지 보유 → 반환)
+     * @return "board-{no}"
+     */
+    public String query(Long no) {
+        if (!connections.tryAcquire()) {
+            waiters.incrementAndGet();
+            connections.acquireUninterruptibly();
+        }
+        try {
+            acquisitions.computeIfAbsent(no, key -> new AtomicInteger()).incrementAndGet();
+            if (!release.await(WAIT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("조회가 완료되지 않았습니다.");
+            }
+            return "board-" + no;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            connections.release();
+        }
+    }
+
+    // 전체 커넥션 획득 수 (= 실행된 쿼리 수)
+    public int getAcquisitions() {
+        return acquisitions.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    // 게시글별 커넥션 획득 수
+    public int getAcquisitions(Long no) {
+        AtomicInteger count = acquisitions.get(no);
+        return count == null ? 0 : count.get();
+    }
+
+    // 빈 커넥션이 없어 대기한 요청 수
+    public int getWaiters() {
+        return waiters.get();
+    }
+
+    // 현재 사용 중인 커넥션 수
+    public int getInUse() {
+        return POOL_SIZE - connections.availablePermits();
+    }
+
+    /**
+     * 게시글 keys개(1 ~ keys)에 동시 요청 requests건을 고르게 보내고 결과 반환
+     * - arrived가 참이 될 때까지(모든 요청이 커넥션을 잡았거나, 대기하거나, 진행 중인 조회에 합류) 조회를 붙잡아 둔 뒤 완료
+     * @param handler 요청 처리 (게시글 번호 → 결과)
+     * @param arrived 모든 요청 도착 여부
+     */
+    public <V> List<V> fire(int requests, int keys, Function<Long, V> handler, BooleanSupplier arrived)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<V>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                long no = i % keys + 1;
+                futures.add(executor.submit(() -> handler.apply(no)));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+            while (!arrived.getAsBoolean()) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("요청이 모두 도착하지 않았습니다: 사용 중 " + getInUse()
+                            + ", 대기 " + getWaiters());
+                }
+                Thread.yield();
+            }
+            release.countDown();
+
+            List<V> results = new ArrayList<>();
+            for (Future<V> future : futures) {
+                results.add(future.get(WAIT_SECONDS, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.scoula.common.concurrent;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FileIoExecutor 테스트
+ * - 파일 10개 저장(각 30ms)을 순차 실행 대비 동시 실행 시간 비교
+ */
+@Log4j2
+class FileIoExecutorTest {
+
+    private static final long WRITE_MILLIS = 30;
+    private static final int FILES = 10;
+
+    private static Callable<Integer> write(int no) {
+        return () -> {
+            Thread.sleep(WRITE_MILLIS);
+            return no;
+        };
+    }
+
+    @Test
+    @DisplayName("파일 저장 작업이 제한된 스레드에서 동시에 실행되고 결과 순서가 유지된다")
+    void runsConcurrently() throws Exception {
+        FileIoExecutor executor = new FileIoExecutor(4, 2);   // 대기열이 작아도 거절 없이 처리
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int i = 0; i < FILES; i++) {
+                tasks.add(write(i));
+            }
+
+            long start = System.nanoTime();
+            List<Future<Integer>> results = executor.invokeAll(tasks);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            log.info("순차 실행 예상 {}ms, 동시 실행 {}ms", WRITE_MILLIS * FILES, elapsedMs);
+
+            for (int i = 0; i < FILES; i++) {
+                assertTrue(results.get(i).isDone());
+                assertEquals(i, results.get(i).get());
+            }
+            assertTrue(elapsedMs < WRITE_MILLIS * FILES / 2, "동시에 실행되어야 합니다.");
+        } finally {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("일부 작업이 실패해도 나머지 작업은 끝까지 실행된다")
+    void failureDoesNotCancelOthers() {
+        FileIoExecutor executor = new FileIoExecutor(2, 8);
+        try {
+            List<Future<Integer>> results = executor.invokeAll(List.of(
+                    () -> {
+                        throw new IOException("disk full");
+                    },
+                    write(1),
+                    write(2)));
+
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> results.get(0).get());
+            assertInstanceOf(IOException.class, failure.getCause());
+            assertTrue(results.get(1).isDone() && results.get(2).isDone());
+        } finally {
+            executor.destroy();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package org.scoula.common.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.common.pagination.Page;
+import org.scoula.common.pagination.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PageQueryExecutor 테스트
+ * - 실행 시간 대신 latch로 두 쿼리가 실제로 겹쳐 실행되는지, 어느 스레드에서 실행되는지 확인
+ */
+class PageQueryExecutorTest {
+
+    private static final int ROUNDS = 20;
+    private static final long WAIT_SECONDS = 5;
+
+    private static final PageRequest PAGE_REQUEST = PageRequest.of(1, 10);
+
+    private static boolean await(CountDownLatch latch, long millis) {
+        try {
+            return latch.await(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Test
+    @DisplayName("동시 실행하면 목록 쿼리와 건수 쿼리가 서로 다른 스레드에서 겹쳐 실행된다")
+    void parallelOverlapsQueries() {
+        PageQueryExecutor parallel = new PageQueryExecutor(true, 4, 1000);
+        try {
+            for (int i = 0; i < ROUNDS; i++) {
+                Thread caller = Thread.currentThread();
+                CountDownLatch pageStarted = new CountDownLatch(1);
+                CountDownLatch countStarted = new CountDownLatch(1);
+
+                // 각 쿼리는 상대 쿼리가 시작될 때까지 대기 → 순차 실행이면 시간 초과로 실패
+                Page<String> page = parallel.execute(
+                        () -> {
+                            pageStarted.countDown();
+                            assertTrue(await(countStarted, WAIT_SECONDS * 1000), "건수 쿼리가 동시에 실행되지 않았습니다.");
+                            return List.of("a", "b");
+                        },
+                        () -> {
+                            countStarted.countDown();
+                            assertNotSame(caller, Thread.currentThread());
+                            return await(pageStarted, WAIT_SECONDS * 1000) ? 42 : -1;
+                        },
+                        (count, list) -> Page.of(PAGE_REQUEST, count, list));
+
+                assertEquals(42, page.getTotalCount());
+                assertEquals(2, page.getList().size());
+            }
+            assertEquals(ROUNDS, parallel.getStats().get(PageQueryExecutor.PARALLEL).getCount());
+        } finally {
+            parallel.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("순차 실행 설정이면 두 쿼리 모두 요청 스레드에서 목록 → 건수 순으로 실행된다")
+    void sequentialRunsOnCaller() {
+        PageQueryExecutor sequential = new PageQueryExecutor(false, 4, 1000);
+        try {
+            Thread caller = Thread.currentThread();
+            CountDownLatch pageDone = new CountDownLatch(1);
+
+            Page<String> page = sequential.execute(
+                    () -> {
+                        pageDone.countDown();
+                        return List.of("a");
+                    },
+                    () -> {
+                        assertSame(caller, Thread.currentThread());
+                        assertEquals(0, pageDone.getCount());
+                        return 1;
+                    },
+                    (count, list) -> Page.of(PAGE_REQUEST, count, list));
+
+            assertEquals(1, page.getTotalCount());
+            assertEquals(1, sequential.getStats().get(PageQueryExecutor.SEQUENTIAL).getCount());
+            assertEquals(0, sequential.getStats().get(PageQueryExecutor.PARALLEL).getCount());
+        } finally {
+            sequential.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("스레드 풀이 가득 차면 대기하지 않고 순차 실행으로 대체한다")
+    void fallbackWhenSaturated() throws Exception {
+        PageQueryExecutor executor = new PageQueryExecutor(true, 1, WAIT_SECONDS * 1000);
+        ExecutorService requests = Executors.newSingleThreadExecutor();
+        CountDownLatch countRunning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // 1. 첫 요청의 건수 쿼리가 하나뿐인 건수 스레드를 점유
+            Future<Page<String>> first = requests.submit(() -> executor.execute(
+                    () -> List.of("a"),
+                    () -> {
+                        countRunning.countDown();
+                        await(release, WAIT_SECONDS * 1000);
+                        return 1;
+                    },
+                    (count, list) -> Page.of(PAGE_REQUEST, count, list)));
+            assertTrue(countRunning.await(WAIT_SECONDS, TimeUnit.SECONDS));
+
+            // 2. 두 번째 요청은 거절되어 요청 스레드에서 순차 실행
+            Thread caller = Thread.currentThread();
+            Page<String> second = executor.execute(
+                    () -> List.of("b"),
+                    () -> {
+                        assertSame(caller, Thread.currentThread());
+                        return 2;
+                    },
+                    (count, list) -> Page.of(PAGE_REQUEST, count, list));
+            assertEquals(2, second.getTotalCount());
+
+            release.countDown();
+            assertEquals(1, first.get(WAIT_SECONDS, TimeUnit.SECONDS).getTotalCount());
+
+            assertEquals(1, executor.getStats().get(PageQueryExecutor.PARALLEL).getCount());
+            assertEquals(1, executor.getStats().get(PageQueryExecutor.FALLBACK).getCount());
+        } finally {
+            release.countDown();
+            requests.shutdownNow();
+            executor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("건수 쿼리가 시간을 초과하면 예외가 발생한다")
+    void countTimeout() {
+        PageQueryExecutor executor = new PageQueryExecutor(true, 1, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            assertThrows(IllegalStateException.class, () -> executor.execute(
+                    List::of,
+                    () -> {
+                        await(release, WAIT_SECONDS * 1000);   // 시간 초과 후 취소(인터럽트)될 때까지 대기
+                        return 0;
+                    },
+                    (count, list) -> Page.of(PAGE_REQUEST, count, list)));
+        } finally {
+            release.countDown();
+            executor.destroy();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package org.scoula.common.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SingleFlight 동시성 테스트
+ * - 인기 게시글 하나에 동시 요청 200건을 보내고, leader의 조회가 끝나기 전에 나머지 요청이 모두 합류하도록 latch로 제어
+ * - 시간(sleep) 대신 조회 횟수와 공유 횟수로 병합 여부 확인
+ * - 커넥션 풀 부하: 커넥션 10개 풀(FakeConnectionPool)에 동시 미스 200건 → 직접 조회와 병합 조회의 커넥션 획득/대기 수 비교
+ */
+class SingleFlightTest {
+
+    private static final int REQUESTS = 200;        // 동시 요청 수
+    private static final int KEYS = 5;              // 동시에 요청되는 인기 게시글 수
+
+    @Test
+    @DisplayName("동시 캐시 미스를 병합하면 커넥션 획득은 게시글당 1회, 커넥션 대기는 0건이 된다")
+    void coalescingCollapsesPoolWait() throws Exception {
+        // 1. 병합 없이 각 요청이 직접 조회 → 10개를 제외한 나머지 요청은 모두 커넥션 대기
+        FakeConnectionPool direct = new FakeConnectionPool();
+        List<String> directResults = direct.fire(REQUESTS, KEYS, direct::query,
+                () -> direct.getInUse() == FakeConnectionPool.POOL_SIZE
+                        && direct.getWaiters() == REQUESTS - FakeConnectionPool.POOL_SIZE);
+
+        assertEquals(REQUESTS, direct.getAcquisitions());
+        assertEquals(REQUESTS / KEYS, direct.getAcquisitions(1L));
+        assertEquals(REQUESTS - FakeConnectionPool.POOL_SIZE, direct.getWaiters());
+
+        // 2. SingleFlight로 병합 → 게시글마다 leader 하나만 커넥션 사용
+        FakeConnectionPool coalesced = new FakeConnectionPool();
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        List<String> coalescedResults = coalesced.fire(REQUESTS, KEYS, no -> singleFlight.load(no, coalesced::query),
+                () -> coalesced.getInUse() == KEYS && singleFlight.getSharedCount() == REQUESTS - KEYS);
+
+        assertEquals(KEYS, coalesced.getAcquisitions());
+        for (long no = 1; no <= KEYS; no++) {
+            assertEquals(1, coalesced.getAcquisitions(no));
+        }
+        assertEquals(0, coalesced.getWaiters());
+        assertEquals(directResults, coalescedResults);   // 결과는 같음
+    }
+
+    @Test
+    @DisplayName("진행 중인 조회에 합류한 동시 요청은 하나의 DB 조회 결과를 공유한다")
+    void concurrentLoadsAreCoalesced() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        AtomicInteger queries = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 조회 함수: 나머지 요청이 모두 합류할 때까지 끝나지 않음
+        Function<Long, String> query = no -> {
+            queries.incrementAndGet();
+            leaderStarted.countDown();
+            try {
+                assertTrue(release.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return "board-" + no;
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        try {
+            // 1. leader가 조회를 시작한 뒤 나머지 요청 전송
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.load(1L, query)));
+            assertTrue(leaderStarted.await(10, TimeUnit.SECONDS));
+            for (int i = 1; i < REQUESTS; i++) {
+                results.add(executor.submit(() -> singleFlight.load(1L, query)));
+            }
+
+            // 2. 모든 요청이 진행 중인 조회에 합류한 뒤(공유 수로 확인) leader 조회 완료
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (singleFlight.getSharedCount() < REQUESTS - 1) {
+                assertTrue(System.nanoTime() < deadline, "요청이 진행 중인 조회에 합류하지 않았습니다.");
+                Thread.yield();
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("board-1", result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, queries.get());
+        assertEquals(1, singleFlight.getLoadCount());
+        assertEquals(REQUESTS - 1, singleFlight.getSharedCount());
+    }
+
+    @Test
+    @DisplayName("forget 이후 요청은 진행 중인 조회를 공유하지 않고 새로 조회한다")
+    void forgetStartsNewLoad() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> stale = executor.submit(() -> singleFlight.load(1L, no -> {
+                leaderStarted.countDown();
+                try {
+                    assertTrue(release.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return "before";
+            }));
+            assertTrue(leaderStarted.await(10, TimeUnit.SECONDS));
+
+            // 데이터 변경 후 forget → 새 요청은 진행 중인 (변경 전) 조회를 기다리지 않음
+            singleFlight.forget(1L);
+            assertEquals("after", singleFlight.load(1L, no -> "after"));
+
+            release.countDown();
+            assertEquals("before", stale.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, singleFlight.getSharedCount());
+    }
+
+    @Test
+    @DisplayName("leader의 예외는 원래 타입으로 모든 대기 요청에 전달된다")
+    void exceptionIsShared() {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+        assertThrows(NoSuchElementException.class, () -> singleFlight.load(1L, no -> {
+            throw new NoSuchElementException();
+        }));
+
+        // 실패한 로드는 남지 않으므로 다음 요청은 새로 로드
+        assertEquals("ok", singleFlight.load(1L, no -> "ok"));
+        assertEquals(2, singleFlight.getLoadCount());
+    }
+}
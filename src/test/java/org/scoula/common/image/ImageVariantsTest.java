@@ -0,0 +1,188 @@
+package org.scoula.common.image;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.scoula.common.cache.HotFileCache;
+import org.scoula.common.concurrent.FileIoExecutor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이미지 변형 캐시 테스트
+ * - 여행지 목록 한 페이지(이미지 10장, 2000x1333 사진)를 원본/썸네일로 전송하여 전송량과 시간 비교
+ */
+@Log4j2
+class ImageVariantsTest {
+
+    private static final int PAGE_SIZE = 10;    // 여행지 목록 기본 페이지 크기
+
+    @TempDir
+    Path dir;
+
+    private FileIoExecutor executor;
+    private ImageVariants variants;
+
+    @BeforeEach
+    void setUp() {
+        executor = new FileIoExecutor(2, 8);
+        variants = new ImageVariants(dir.resolve("variants").toString(), 1L << 30, executor,
+                new HotFileCache(64 * 1024 * 1024, 8 * 1024 * 1024, 1000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    // 사진과 비슷하게 압축되도록 그라데이션 + 잡음이 있는 이미지 생성
+    private File photo(String name, int width, int height, long seed) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, new Color(40, 90, 160), width, height, new Color(220, 180, 90)));
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        Random random = new Random(seed);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int noise = random.nextInt(48) - 24;
+                int rgb = image.getRGB(x, y);
+                int r = Math.max(0, Math.min(255, ((rgb >> 16) & 0xff) + noise));
+                int gr = Math.max(0, Math.min(255, ((rgb >> 8) & 0xff) + noise));
+                int b = Math.max(0, Math.min(255, (rgb & 0xff) + noise));
+                image.setRGB(x, y, (r << 16) | (gr << 8) | b);
+            }
+        }
+        File file = dir.resolve(name).toFile();
+        ImageIO.write(image, name.endsWith(".png") ? "png" : "jpg", file);
+        return file;
+    }
+
+    // 목록 한 페이지의 이미지를 모두 전송하고 (전송 바이트, 소요 ms) 반환
+    private long[] servePage(List<File> images, ImageVariant variant) throws Exception {
+        long bytes = 0;
+        long start = System.nanoTime();
+        for (File image : images) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            variants.send(new MockHttpServletRequest(), response, image, ImageVariants.keyOf(image), variant);
+            assertEquals(200, response.getStatus());
+            bytes += response.getContentAsByteArray().length;
+        }
+        return new long[]{bytes, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)};
+    }
+
+    @Test
+    @DisplayName("여행지 목록 한 페이지: 썸네일 전송량이 원본보다 크게 줄고, 두 번째 요청부터는 캐시에서 전송된다")
+    void travelListPage() throws Exception {
+        List<File> images = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            images.add(photo("travel" + i + ".jpg", 2000, 1333, i));
+        }
+
+        long[] original = servePage(images, null);
+        long[] cold = servePage(images, ImageVariant.THUMB);    // 첫 요청: 생성 후 전송
+        long[] warm = servePage(images, ImageVariant.THUMB);    // 캐시 전송
+
+        log.info("원본        : {} KB, {}ms", original[0] / 1024, original[1]);
+        log.info("썸네일(생성): {} KB, {}ms", cold[0] / 1024, cold[1]);
+        log.info("썸네일(캐시): {} KB, {}ms", warm[0] / 1024, warm[1]);
+
+        assertEquals(PAGE_SIZE, variants.getGenerateCount());
+        assertEquals(PAGE_SIZE, variants.getHitCount());
+        assertEquals(cold[0], warm[0]);
+        assertTrue(warm[0] * 10 < original[0], "썸네일 전송량은 원본의 10% 미만이어야 합니다.");
+
+        BufferedImage thumb = ImageIO.read(variants.get(images.get(0), ImageVariants.keyOf(images.get(0)), ImageVariant.THUMB));
+        assertEquals(200, thumb.getWidth());
+        assertEquals(133, thumb.getHeight());
+    }
+
+    @Test
+    @DisplayName("요청 크기보다 작은 이미지, 이미지가 아닌 파일은 원본을 전송하고 원본이 바뀌면 새로 생성한다")
+    void originalFallbackAndInvalidation() throws Exception {
+        File small = photo("small.png", 150, 100, 1);
+        assertEquals(small, variants.get(small, ImageVariants.keyOf(small), ImageVariant.THUMB));
+
+        File text = dir.resolve("note.jpg").toFile();
+        Files.writeString(text.toPath(), "not an image");
+        assertEquals(text, variants.get(text, ImageVariants.keyOf(text), ImageVariant.THUMB));
+        assertEquals(0, variants.getGenerateCount());
+
+        File avatar = photo("avatar.png", 600, 600, 2);
+        String before = ImageVariants.keyOf(avatar);
+        File thumb = variants.get(avatar, before, ImageVariant.THUMB);
+        assertNotEquals(avatar, thumb);
+        assertTrue(thumb.getName().endsWith(".png"));   // 투명도 유지를 위해 PNG 유지
+
+        // 원본 변경 → 다른 키 → 새 변형
+        photo("avatar.png", 700, 700, 3);
+        assertTrue(avatar.setLastModified(avatar.lastModified() + 2000));
+        assertNotEquals(before, ImageVariants.keyOf(avatar));
+        variants.get(avatar, ImageVariants.keyOf(avatar), ImageVariant.THUMB);
+        assertEquals(2, variants.getGenerateCount());
+
+        assertThrows(IllegalArgumentException.class, () -> ImageVariant.of("huge"));
+        assertNull(ImageVariant.of("original"));
+    }
+
+    @Test
+    @DisplayName("확장자가 없는 digest 이름의 PNG도 투명도를 유지하는 PNG 변형으로 생성된다")
+    void digestNamedPngKeepsFormat() throws Exception {
+        BufferedImage image = new BufferedImage(600, 400, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(new Color(255, 0, 0, 128));    // 반투명
+        g.fillRect(0, 0, 300, 400);
+        g.dispose();
+        String digest = "d".repeat(64);
+        File blob = dir.resolve(digest).toFile();  // BlobStore 저장 파일처럼 확장자 없음
+        ImageIO.write(image, "png", blob);
+
+        File thumb = variants.get(blob, digest, ImageVariant.THUMB);
+        assertTrue(thumb.getName().endsWith(".png"));
+        BufferedImage read = ImageIO.read(thumb);
+        assertTrue(read.getColorModel().hasAlpha());
+        assertEquals(0, read.getRGB(read.getWidth() - 1, 0) >>> 24);   // 투명한 부분은 흰 배경이 아닌 투명 그대로
+
+        assertEquals(thumb, variants.get(blob, digest, ImageVariant.THUMB));   // 다시 요청하면 캐시 적중
+        assertEquals(1, variants.getGenerateCount());
+        assertEquals(1, variants.getHitCount());
+    }
+
+    @Test
+    @DisplayName("변형 디렉토리가 상한을 넘으면 오래된 변형부터 삭제하고, 삭제된 변형은 다시 생성된다")
+    void trimsToMaxBytes() throws Exception {
+        File first = photo("first.jpg", 600, 400, 1);
+        File second = photo("second.jpg", 600, 400, 2);
+        File firstThumb = variants.get(first, "first", ImageVariant.THUMB);
+        assertTrue(firstThumb.setLastModified(System.currentTimeMillis() - 60_000));   // 먼저 생성된 변형
+        File secondThumb = variants.get(second, "second", ImageVariant.THUMB);
+        assertEquals(0, variants.trim());     // 상한 안이면 삭제하지 않음
+
+        // 같은 디렉토리를 두 변형 크기의 합보다 작은 상한으로 정리
+        ImageVariants limited = new ImageVariants(dir.resolve("variants").toString(),
+                firstThumb.length() + secondThumb.length() - 1, executor,
+                new HotFileCache(1024 * 1024, 1024 * 1024, 1000));
+        assertEquals(1, limited.trim());
+        assertFalse(firstThumb.exists());
+        assertTrue(secondThumb.exists());
+
+        assertEquals(firstThumb, limited.get(first, "first", ImageVariant.THUMB));
+        assertEquals(1, limited.getGenerateCount());
+    }
+}
@@ -0,0 +1,47 @@
+package org.scoula.common.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 해석하면 같은 위치와 방향")
+    void roundTrip() {
+        PageCursor next = PageCursor.decode(PageCursor.next(42).encode());
+        assertEquals(42, next.getNo());
+        assertFalse(next.isBackward());
+
+        PageCursor prev = PageCursor.decode(PageCursor.prev(7).encode());
+        assertEquals(7, prev.getNo());
+        assertTrue(prev.isBackward());
+
+        assertNull(PageCursor.decode(""));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 IllegalArgumentException (400)")
+    void malformed() {
+        for (String cursor : new String[]{"!!!", "eDox", "bjphYmM", "bg"}) {   // Base64 아님, 알 수 없는 방향, 숫자 아님, 구분자 없음
+            assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(cursor), cursor);
+        }
+    }
+
+    @Test
+    @DisplayName("해석된 커서만 매퍼 조건(cursorNo, backward)으로 전달")
+    void applyCursor() {
+        PageRequest pageRequest = PageRequest.of(1, 10);
+        pageRequest.setCursor(PageCursor.prev(15).encode());
+        assertNull(pageRequest.getCursorNo());     // 해석 전에는 조건 없음
+
+        pageRequest.applyCursor(PageCursor.decode(pageRequest.getCursor()));
+        assertEquals(15L, pageRequest.getCursorNo());
+        assertTrue(pageRequest.isBackward());
+
+        pageRequest.applyCursor(null);
+        assertNull(pageRequest.getCursorNo());
+        assertFalse(pageRequest.isBackward());
+    }
+}
@@ -0,0 +1,158 @@
+package org.scoula.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlobStoreTest {
+
+    // "hello"의 SHA-256
+    private static final String HELLO_DIGEST = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @TempDir
+    Path dir;
+
+    private MockMultipartFile file(String name, String content) {
+        return new MockMultipartFile("files", name, "text/plain", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("같은 내용은 파일명이 달라도 한 번만 저장된다")
+    void deduplicates() throws Exception {
+        BlobStore.Blob first = BlobStore.put(dir.toString(), file("a.txt", "hello"));
+        BlobStore.Blob second = BlobStore.put(dir.toString(), file("b.txt", "hello"));
+        BlobStore.Blob streamed = BlobStore.put(dir.toString(),
+                new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(HELLO_DIGEST, first.getDigest());
+        assertTrue(first.isCreated());
+        assertFalse(second.isCreated());
+        assertFalse(streamed.isCreated());
+        assertEquals(first.getPath(), second.getPath());
+        assertEquals(5, streamed.getSize());
+
+        // 저장 디렉토리에는 파일 하나와 비어 있는 임시 디렉토리만 남음
+        try (var files = Files.list(dir)) {
+            assertEquals(2, files.count());
+        }
+        try (var temps = Files.list(dir.resolve(".tmp"))) {
+            assertEquals(0, temps.count());
+        }
+    }
+
+    @Test
+    @DisplayName("저장 구조 이전 전에 단일 디렉토리에 저장된 파일도 재사용하고 삭제한다")
+    void usesFlatBlobUntilMigrated() throws Exception {
+        Path flat = dir.resolve(HELLO_DIGEST);
+        Files.writeString(flat, "hello");
+
+        BlobStore.Blob blob = BlobStore.put(dir.toString(), file("a.txt", "hello"));
+        assertFalse(blob.isCreated());
+        assertEquals(flat.toString(), blob.getPath());
+
+        assertTrue(BlobStore.deleteIfIdle(dir.toString(), HELLO_DIGEST, 0));
+        assertFalse(Files.exists(flat));
+    }
+
+    @Test
+    @DisplayName("업로드 데이터는 저장과 digest 계산을 위해 한 번만 읽는다")
+    void readsUploadOnce() throws Exception {
+        AtomicInteger opens = new AtomicInteger();
+        MockMultipartFile part = new MockMultipartFile("files", "a.txt", "text/plain",
+                "hello".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                opens.incrementAndGet();
+                return super.getInputStream();
+            }
+        };
+
+        assertTrue(BlobStore.put(dir.toString(), part).isCreated());
+        assertFalse(BlobStore.put(dir.toString(), part).isCreated());   // 중복도 한 번만 읽고 임시 파일은 삭제
+
+        assertEquals(2, opens.get());
+        try (var temps = Files.list(dir.resolve(".tmp"))) {
+            assertEquals(0, temps.count());
+        }
+    }
+
+    @Test
+    @DisplayName("최근 재사용된 파일은 보호 시간 동안 삭제되지 않는다")
+    void deleteRespectsGrace() throws Exception {
+        BlobStore.Blob blob = BlobStore.put(dir.toString(), file("a.txt", "hello"));
+
+        assertFalse(BlobStore.deleteIfIdle(dir.toString(), blob.getDigest(), 60_000));
+        assertTrue(Files.exists(Path.of(blob.getPath())));
+
+        // 보호 시간이 지난 파일은 삭제
+        Files.setLastModifiedTime(Path.of(blob.getPath()), FileTime.fromMillis(System.currentTimeMillis() - 120_000));
+        assertTrue(BlobStore.deleteIfIdle(dir.toString(), blob.getDigest(), 60_000));
+        assertFalse(Files.exists(Path.of(blob.getPath())));
+        assertFalse(BlobStore.deleteIfIdle(dir.toString(), blob.getDigest(), 60_000));
+    }
+
+    @Test
+    @DisplayName("되돌리기는 새로 저장한 파일만, 다른 업로드가 재사용하지 않았을 때만 삭제한다")
+    void discard() throws Exception {
+        BlobStore.Blob created = BlobStore.put(dir.toString(), file("a.txt", "hello"));
+        BlobStore.Blob reused = BlobStore.put(dir.toString(), file("b.txt", "hello"));
+
+        // 재사용 결과는 삭제 대상이 아니고, 재사용으로 수정 시각이 바뀌었으므로 새로 저장한 쪽도 유지
+        assertFalse(BlobStore.discard(reused));
+        assertFalse(BlobStore.discard(created));
+        assertTrue(Files.exists(Path.of(created.getPath())));
+
+        BlobStore.Blob other = BlobStore.put(dir.toString(), file("c.txt", "world"));
+        assertTrue(BlobStore.discard(other));
+        assertFalse(Files.exists(Path.of(other.getPath())));
+    }
+
+    @Test
+    @DisplayName("압축 저장은 압축 효과가 있는 형식만 gzip으로, 나머지는 원본으로 저장한다")
+    void compresses() throws Exception {
+        String csv = "no,title,writer\n".repeat(1000);
+        BlobStore.Blob text = BlobStore.put(dir.toString(), file("a.csv", csv), true);
+
+        assertEquals(Compression.GZIP, text.getEncoding());
+        assertTrue(text.getPath().endsWith(".gz"));
+        assertEquals(csv.length(), text.getSize());                            // 크기는 원본 기준
+        assertTrue(Files.size(Path.of(text.getPath())) < csv.length() / 10);
+        try (var in = Compression.decode(text.getEncoding(), Files.newInputStream(Path.of(text.getPath())))) {
+            assertEquals(csv, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        // 같은 내용은 압축 옵션과 관계없이 압축된 파일을 재사용
+        BlobStore.Blob again = BlobStore.put(dir.toString(), file("b.csv", csv));
+        assertFalse(again.isCreated());
+        assertEquals(Compression.GZIP, again.getEncoding());
+
+        // 압축 대상이 아닌 형식, 압축 효과가 없는 내용은 원본으로 저장
+        byte[] random = new byte[4096];
+        new Random(1).nextBytes(random);
+        BlobStore.Blob image = BlobStore.put(dir.toString(),
+                new MockMultipartFile("files", "a.png", "image/png", "png".repeat(1000).getBytes()), true);
+        BlobStore.Blob noise = BlobStore.put(dir.toString(),
+                new MockMultipartFile("files", "a.txt", "text/plain", random), true);
+        assertNull(image.getEncoding());
+        assertNull(noise.getEncoding());
+        assertEquals(4096, Files.size(Path.of(noise.getPath())));
+
+        // 삭제는 저장 형식과 관계없이 digest로
+        Files.setLastModifiedTime(Path.of(text.getPath()), FileTime.fromMillis(0));
+        assertTrue(BlobStore.deleteIfIdle(dir.toString(), text.getDigest(), 60_000));
+        assertFalse(Files.exists(Path.of(text.getPath())));
+    }
+}
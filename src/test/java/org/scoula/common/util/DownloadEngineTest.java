@@ -0,0 +1,209 @@
+package org.scoula.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DownloadEngineTest {
+
+    @TempDir
+    Path dir;
+
+    private File createFile(int size) throws Exception {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return Files.write(dir.resolve("file-" + size + ".bin"), data).toFile();
+    }
+
+    @Test
+    @DisplayName("sendfile 미지원 컨테이너에서는 버퍼로 파일 전체를 전송한다")
+    void copyWhenSendfileUnsupported() throws Exception {
+        File file = createFile(200 * 1024 + 7);   // 버퍼 크기(64KB)의 배수가 아닌 크기
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        DownloadEngine.send(new MockHttpServletRequest(), response, file);
+
+        assertEquals(file.length(), Long.parseLong(response.getHeader("Content-Length")));
+        assertArrayEquals(Files.readAllBytes(file.toPath()), response.getContentAsByteArray());
+    }
+
+    @Test
+    @DisplayName("sendfile 지원 컨테이너에서는 요청 속성만 설정하고 본문을 쓰지 않는다")
+    void sendfileWhenSupported() throws Exception {
+        File file = createFile(100 * 1024);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        DownloadEngine.send(request, response, file, 10, 50 * 1024);
+
+        assertEquals(file.getCanonicalPath(), request.getAttribute("org.apache.tomcat.sendfile.filename"));
+        assertEquals(10L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+        assertEquals(10L + 50 * 1024, request.getAttribute("org.apache.tomcat.sendfile.end"));
+        assertEquals(50 * 1024, response.getContentLength());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("없는 파일은 NoSuchElementException (404)")
+    void missingFile() {
+        File file = dir.resolve("missing.bin").toFile();
+        assertThrows(NoSuchElementException.class,
+                () -> DownloadEngine.send(new MockHttpServletRequest(), new MockHttpServletResponse(), file));
+    }
+
+    @Test
+    @DisplayName("단일 Range는 206과 해당 구간만 전송한다")
+    void singleRange() throws Exception {
+        File file = createFile(1000);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=100-199");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        DownloadEngine.send(request, response, file);
+
+        byte[] data = Files.readAllBytes(file.toPath());
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 100-199/1000", response.getHeader("Content-Range"));
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        assertArrayEquals(Arrays.copyOfRange(data, 100, 200), response.getContentAsByteArray());
+    }
+
+    @Test
+    @DisplayName("여러 Range는 multipart/byteranges로 전송하고 Content-Length가 본문 길이와 같다")
+    void multiRange() throws Exception {
+        File file = createFile(1000);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=0-9,-10");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setContentType("application/pdf");
+
+        DownloadEngine.send(request, response, file);
+
+        String body = new String(response.getContentAsByteArray(), StandardCharsets.ISO_8859_1);
+        assertEquals(206, response.getStatus());
+        assertTrue(response.getContentType().startsWith("multipart/byteranges; boundary="));
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+        assertTrue(body.contains("Content-Range: bytes 0-9/1000"));
+        assertTrue(body.contains("Content-Range: bytes 990-999/1000"));
+        assertTrue(body.contains("Content-Type: application/pdf"));
+    }
+
+    @Test
+    @DisplayName("파일 범위를 벗어난 Range는 416")
+    void unsatisfiableRange() throws Exception {
+        File file = createFile(1000);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=5000-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        DownloadEngine.send(request, response, file);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */1000", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    @DisplayName("If-Range가 파일 수정 시각과 다르면 전체 파일을 200으로 전송한다")
+    void ifRangeMismatch() throws Exception {
+        File file = createFile(1000);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=0-9");
+        request.addHeader("If-Range", file.lastModified() - 60_000);   // 이전 버전
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        DownloadEngine.send(request, response, file);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(1000, response.getContentAsByteArray().length);
+
+        // 현재 수정 시각이면 부분 전송
+        MockHttpServletRequest current = new MockHttpServletRequest();
+        current.addHeader("Range", "bytes=0-9");
+        current.addHeader("If-Range", file.lastModified());
+        MockHttpServletResponse partial = new MockHttpServletResponse();
+        DownloadEngine.send(current, partial, file);
+        assertEquals(206, partial.getStatus());
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 304, If-Range에 ETag를 사용할 수 있다")
+    void etag() throws Exception {
+        File file = createFile(1000);
+
+        MockHttpServletRequest cached = new MockHttpServletRequest();
+        cached.addHeader("If-None-Match", "\"abc\"");
+        MockHttpServletResponse notModified = new MockHttpServletResponse();
+        DownloadEngine.send(cached, notModified, file, "abc");
+        assertEquals(304, notModified.getStatus());
+        assertEquals("\"abc\"", notModified.getHeader("ETag"));
+        assertEquals(0, notModified.getContentAsByteArray().length);
+
+        MockHttpServletRequest resume = new MockHttpServletRequest();
+        resume.addHeader("Range", "bytes=0-9");
+        resume.addHeader("If-Range", "\"abc\"");
+        MockHttpServletResponse partial = new MockHttpServletResponse();
+        DownloadEngine.send(resume, partial, file, "abc");
+        assertEquals(206, partial.getStatus());
+
+        MockHttpServletRequest changed = new MockHttpServletRequest();
+        changed.addHeader("Range", "bytes=0-9");
+        changed.addHeader("If-Range", "\"old\"");
+        MockHttpServletResponse full = new MockHttpServletResponse();
+        DownloadEngine.send(changed, full, file, "abc");
+        assertEquals(200, full.getStatus());
+    }
+
+    @Test
+    @DisplayName("압축 저장 파일은 Accept-Encoding에 따라 그대로 또는 압축 해제하여 전송한다")
+    void contentEncoding() throws Exception {
+        byte[] original = "line of text\n".repeat(500).getBytes(StandardCharsets.UTF_8);
+        Path stored = dir.resolve("text.gz");
+        try (var out = Compression.encode(Compression.GZIP, Files.newOutputStream(stored))) {
+            out.write(original);
+        }
+        File file = stored.toFile();
+
+        // gzip 허용: 저장된 바이트 그대로 + Content-Encoding (ETag는 원본과 구분)
+        MockHttpServletRequest gzip = new MockHttpServletRequest();
+        gzip.addHeader("Accept-Encoding", "gzip, deflate, br");
+        MockHttpServletResponse encoded = new MockHttpServletResponse();
+        DownloadEngine.send(gzip, encoded, file, "abc", Compression.GZIP, original.length);
+        assertEquals("gzip", encoded.getHeader("Content-Encoding"));
+        assertEquals("\"abc-gzip\"", encoded.getHeader("ETag"));
+        assertEquals("Accept-Encoding", encoded.getHeader("Vary"));
+        assertEquals(file.length(), encoded.getContentLength());
+        assertArrayEquals(Files.readAllBytes(stored), encoded.getContentAsByteArray());
+
+        // 미지원(또는 q=0): 압축 해제하여 원본 크기로 전송
+        MockHttpServletRequest identity = new MockHttpServletRequest();
+        identity.addHeader("Accept-Encoding", "gzip;q=0, identity");
+        MockHttpServletResponse decoded = new MockHttpServletResponse();
+        DownloadEngine.send(identity, decoded, file, "abc", Compression.GZIP, original.length);
+        assertNull(decoded.getHeader("Content-Encoding"));
+        assertEquals("\"abc\"", decoded.getHeader("ETag"));
+        assertEquals("none", decoded.getHeader("Accept-Ranges"));
+        assertEquals(original.length, decoded.getContentLength());
+        assertArrayEquals(original, decoded.getContentAsByteArray());
+
+        // 압축 해제 전송에도 If-None-Match는 304
+        MockHttpServletRequest cached = new MockHttpServletRequest();
+        cached.addHeader("If-None-Match", "\"abc\"");
+        MockHttpServletResponse notModified = new MockHttpServletResponse();
+        DownloadEngine.send(cached, notModified, file, "abc", Compression.GZIP, original.length);
+        assertEquals(304, notModified.getStatus());
+        assertEquals(0, notModified.getContentAsByteArray().length);
+    }
+}
@@ -0,0 +1,87 @@
+package org.scoula.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultipartReaderTest {
+
+    private static final String BOUNDARY = "----WebKitFormBoundary7MA4YWxkTrZu0gW";
+
+    // 한 번에 몇 바이트씩만 돌려주는 스트림 (네트워크에서 조각나 도착하는 본문 모사)
+    private static InputStream trickle(byte[] body) {
+        Random random = new Random(7);
+        return new FilterInputStream(new ByteArrayInputStream(body)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1 + random.nextInt(7)));
+            }
+        };
+    }
+
+    private static byte[] body(byte[] file) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(("preamble\r\n--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"title\"\r\n\r\n"
+                + "제목\r\n--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"files\"; filename=\"C:\\\\docs\\\\a;b.bin\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        out.write(file);
+        out.write(("\r\n--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"files\"; filename=\"\"\r\n\r\n"
+                + "\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("조각난 본문에서도 파트 경계와 데이터를 정확히 구분한다")
+    void parsesParts() throws Exception {
+        // 버퍼(64KB)보다 크고, 경계 앞부분("\r\n--")과 같은 바이트를 포함한 파일
+        byte[] file = new byte[200 * 1024];
+        new Random(1).nextBytes(file);
+        byte[] fake = ("\r\n--" + BOUNDARY.substring(0, 10)).getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(fake, 0, file, 70_000, fake.length);
+
+        MultipartReader reader = new MultipartReader(trickle(body(file)), MultipartReader.boundaryOf(
+                "multipart/form-data; boundary=" + BOUNDARY));
+
+        MultipartReader.Part title = reader.next();
+        assertEquals("title", title.getName());
+        assertFalse(title.isFile());
+        assertEquals("제목", new String(title.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+
+        MultipartReader.Part attach = reader.next();
+        assertEquals("a;b.bin", attach.getFilename());
+        assertEquals("application/octet-stream", attach.getContentType());
+        assertArrayEquals(file, attach.getInputStream().readAllBytes());
+
+        // 읽지 않은 파트는 다음 파트로 넘어갈 때 건너뜀
+        MultipartReader.Part empty = reader.next();
+        assertEquals("", empty.getFilename());
+        assertNull(reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("본문이 중간에 끊기거나 multipart 요청이 아니면 예외가 발생한다")
+    void rejectsBrokenBody() throws Exception {
+        byte[] body = body(new byte[1000]);
+        MultipartReader reader = new MultipartReader(trickle(Arrays.copyOf(body, body.length - 300)), BOUNDARY);
+        reader.next();
+        MultipartReader.Part attach = reader.next();
+        assertThrows(IOException.class, () -> attach.getInputStream().readAllBytes());
+
+        assertThrows(IllegalArgumentException.class, () -> MultipartReader.boundaryOf("application/json"));
+        assertEquals("abc", MultipartReader.boundaryOf("multipart/form-data; charset=UTF-8; boundary=\"abc\""));
+    }
+}
@@ -0,0 +1,78 @@
+package org.scoula.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StorageLayoutTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("16진수 이름은 앞 4자로, 그 외 이름은 해시로 2단계 하위 디렉토리에 배치한다")
+    void resolve() {
+        String digest = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+        assertEquals(Paths.get("base", "2c", "f2", digest + ".gz"), StorageLayout.resolve("base", digest + ".gz"));
+
+        Path legacy = StorageLayout.resolve("base", "report-1700000000000.pdf");
+        assertEquals(Paths.get("base"), legacy.getParent().getParent().getParent());
+        assertTrue(legacy.getParent().getFileName().toString().matches("[0-9a-f]{2}"));
+        assertEquals(legacy, StorageLayout.resolve("base", "report-1700000000000.pdf"));   // 같은 이름은 항상 같은 위치
+
+        assertTrue(StorageLayout.isLaidOut("base", legacy.toString()));
+        assertFalse(StorageLayout.isLaidOut("base", Paths.get("base", "report-1700000000000.pdf").toString()));
+    }
+
+    @Test
+    @DisplayName("이전 완료 표시 전에는 기존 단일 디렉토리의 파일을 찾고, 완료 후에는 새 구조의 경로만 사용한다")
+    void resolveStoredUntilMigrated() throws Exception {
+        String base = dir.toString();
+        Path flat = dir.resolve("report-1700000000000.pdf");
+        Path laidOut = StorageLayout.resolve(base, "report-1700000000000.pdf");
+
+        assertEquals(laidOut, StorageLayout.resolveStored(base, "report-1700000000000.pdf"));   // 새로 저장할 위치
+        Files.writeString(flat, "old");
+        assertEquals(flat, StorageLayout.resolveStored(base, "report-1700000000000.pdf"));
+        assertFalse(StorageLayout.isMigrated(base));
+
+        StorageLayout.markMigrated(base);
+        assertTrue(StorageLayout.isMigrated(base));
+        assertEquals(laidOut, StorageLayout.resolveStored(base, "report-1700000000000.pdf"));
+    }
+
+    @Test
+    @DisplayName("파일 ID는 동시에 생성해도 겹치지 않고, 확장자가 없는 파일명도 처리한다")
+    void uniqueNames() {
+        Set<String> names = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 100_000).parallel()
+                .forEach(i -> names.add(UploadFileName.getUniqueName("same.txt")));
+        assertEquals(100_000, names.size());
+
+        assertTrue(UploadFileName.getUniqueName("a.txt").matches("[0-9a-f]{32}\\.txt"));
+        assertTrue(UploadFileName.getUniqueName("README").matches("[0-9a-f]{32}"));
+        assertTrue(UploadFileName.getUniqueName(".bashrc").matches("[0-9a-f]{32}"));
+        assertTrue(UploadFileName.getUniqueName("a.b/c").matches("[0-9a-f]{32}"));
+    }
+
+    @Test
+    @DisplayName("기록된 경로에 파일이 없으면 새 구조의 위치에서 찾는다")
+    void locate() throws Exception {
+        String legacy = dir.resolve("old.txt").toString();
+        assertEquals(legacy, StorageLayout.locate(legacy).getPath());    // 어디에도 없으면 그대로
+
+        Path moved = StorageLayout.resolve(dir, "old.txt");
+        Files.createDirectories(moved.getParent());
+        Files.writeString(moved, "moved");
+        assertEquals(moved.toFile(), StorageLayout.locate(legacy));
+    }
+}
@@ -0,0 +1,133 @@
+package org.scoula.travel.mapper;
+
+import org.scoula.common.pagination.PageRequest;
+import org.scoula.travel.domain.TravelImageVO;
+import org.scoula.travel.domain.TravelVO;
+import org.scoula.travel.dto.TravelDistrictDTO;
+
+import java.util.*;
+
+/**
+ * 테스트용 메모리 TravelMapper
+ * - 여행지/이미지 테이블을 travels, images 목록으로 대신하고, 변경 버전은 version 값 사용
+ * - 실행된 쿼리는 메서드 이름별로 인자와 함께 기록 (calls, count, total)
+ * - failure를 설정하면 모든 쿼리가 그 예외로 실패 (DB 장애)
+ * - 권역 목록/단건 조회 쿼리는 지원하지 않음 (UnsupportedOperationException)
+ */
+public class FakeTravelMapper implements TravelMapper {
+
+    public final List<TravelVO> travels = new ArrayList<>();         // tbl_travel (getTravels는 이 순서 그대로)
+    public final List<TravelImageVO> images = new ArrayList<>();     // tbl_travel_image
+    public String version = "v1";                                    // getChangeVersion 결과
+    public RuntimeException failure;                                 // 설정하면 모든 쿼리 실패
+
+    private final Map<String, List<Object[]>> calls = new LinkedHashMap<>();
+
+    // 메서드별 호출 인자 목록
+    public List<Object[]> calls(String method) {
+        return calls.getOrDefault(method, List.of());
+    }
+
+    // 메서드별 호출 수
+    public int count(String method) {
+        return calls(method).size();
+    }
+
+    // 전체 실행 쿼리 수
+    public int total() {
+        return calls.values().stream().mapToInt(List::size).sum();
+    }
+
+    // 호출 기록 초기화
+    public void clearCalls() {
+        calls.clear();
+    }
+
+    private void record(String method, Object... args) {
+        calls.computeIfAbsent(method, name -> new ArrayList<>()).add(args);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static boolean inDistrict(TravelVO travel, String district) {
+        return district == null || district.equals(travel.getDistrict());
+    }
+
+    // === 목록/건수 ===
+
+    @Override
+    public int getTotalCount() {
+        record("getTotalCount");
+        return travels.size();
+    }
+
+    @Override
+    public int getTotalCountByDistrict(String district) {
+        record("getTotalCountByDistrict", district);
+        return (int) travels.stream().filter(travel -> inDistrict(travel, district)).count();
+    }
+
+    @Override
+    public List<TravelVO> getTravels() {
+        record("getTravels");
+        return travels;
+    }
+
+    @Override
+    public List<TravelVO> getPage(PageRequest pageRequest) {
+        record("getPage", pageRequest);
+        return travels.stream()
+                .filter(travel -> inDistrict(travel, pageRequest.getDistrict()))
+                .skip(pageRequest.getOffset())
+                .limit(pageRequest.getAmount())
+                .toList();
+    }
+
+    @Override
+    public String getChangeVersion() {
+        record("getChangeVersion");
+        return version;
+    }
+
+    // === 이미지 ===
+
+    @Override
+    public List<TravelImageVO> getImages(Long travelNo) {
+        record("getImages", travelNo);
+        return images.stream().filter(image -> travelNo.equals(image.getTravelNo())).toList();
+    }
+
+    @Override
+    public List<TravelImageVO> getImagesByTravelNos(List<Long> travelNos) {
+        record("getImagesByTravelNos", travelNos);
+        return images.stream().filter(image -> travelNos.contains(image.getTravelNo())).toList();
+    }
+
+    // === 미지원 ===
+
+    @Override
+    public List<String> getDistricts() {
+        throw new UnsupportedOperationException("getDistricts");
+    }
+
+    @Override
+    public List<TravelDistrictDTO> getDistrictCounts() {
+        throw new UnsupportedOperationException("getDistrictCounts");
+    }
+
+    @Override
+    public List<TravelVO> getTravelsByDistrict(String district) {
+        throw new UnsupportedOperationException("getTravelsByDistrict");
+    }
+
+    @Override
+    public TravelVO getTravel(Long no) {
+        throw new UnsupportedOperationException("getTravel");
+    }
+
+    @Override
+    public TravelImageVO getImage(Long no) {
+        throw new UnsupportedOperationException("getImage");
+    }
+}
@@ -0,0 +1,144 @@
+package org.scoula.travel.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.common.pagination.Page;
+import org.scoula.common.pagination.PageRequest;
+import org.scoula.travel.domain.TravelImageVO;
+import org.scoula.travel.domain.TravelVO;
+import org.scoula.travel.dto.TravelCatalogDTO;
+import org.scoula.travel.dto.TravelDTO;
+import org.scoula.travel.dto.TravelDistrictDTO;
+import org.scoula.travel.mapper.FakeTravelMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TravelCatalogTest {
+
+    private final FakeTravelMapper mapper = new FakeTravelMapper();   // travels는 district, title 순 (getTravels 결과)
+
+    private void row(long no, String district, String title, long... imageNos) {
+        List<TravelImageVO> images = new ArrayList<>();
+        for (long imageNo : imageNos) {
+            images.add(TravelImageVO.builder().no(imageNo).filename(imageNo + ".jpg").travelNo(no).build());
+        }
+        mapper.travels.add(TravelVO.builder().no(no).district(district).title(title).description(title + " 설명")
+                .images(images).build());
+    }
+
+    private TravelCatalog loaded() {
+        row(3, "강릉권", "경포대", 30, 31);
+        row(1, "강릉권", "오죽헌");
+        row(5, "영월권", "청령포", 50);
+        row(2, "춘천권", "남이섬", 20);
+        row(4, "춘천권", "소양강", 40);
+        TravelCatalog catalog = new TravelCatalog(mapper, true);
+        catalog.afterPropertiesSet();
+        return catalog;
+    }
+
+    @Test
+    @DisplayName("로드 후 목록/상세/권역/이미지 조회는 DB에 접근하지 않음")
+    void readsWithoutDatabase() {
+        TravelCatalog catalog = loaded();
+        int loadStatements = mapper.total();
+
+        Page<TravelDTO> page = catalog.getPage(PageRequest.of(2, 2));
+        assertEquals(5, page.getTotalCount());
+        assertEquals(3, page.getTotalPage());
+        assertEquals(List.of(5L, 2L), page.getList().stream().map(TravelDTO::getNo).toList());
+        assertTrue(catalog.getPage(PageRequest.of(4, 2)).getList().isEmpty());
+
+        assertEquals("경포대", catalog.get(3L).getTitle());
+        assertEquals(2, catalog.get(3L).getImages().size());
+        assertNull(catalog.get(99L));
+
+        assertEquals(List.of(3L, 1L), catalog.getTravelsByDistrict("강릉권").stream().map(TravelDTO::getNo).toList());
+        assertEquals(List.of(2L, 4L), catalog.getTravelsByDistrict("춘천권").stream().map(TravelDTO::getNo).toList());
+        assertTrue(catalog.getTravelsByDistrict("없는권").isEmpty());
+
+        assertEquals(5L, catalog.getImage(50L).getTravelNo());
+        assertNull(catalog.getImage(99L));
+
+        assertEquals(loadStatements, mapper.total());
+    }
+
+    @Test
+    @DisplayName("권역 조건 페이징과 권역별 여행지 수")
+    void districtFacets() {
+        TravelCatalog catalog = loaded();
+        int loadStatements = mapper.total();
+
+        PageRequest pageRequest = PageRequest.of(1, 1);
+        pageRequest.setDistrict("춘천권");
+        Page<TravelDTO> page = catalog.getPage(pageRequest);
+        assertEquals(2, page.getTotalCount());
+        assertEquals(2, page.getTotalPage());
+        assertEquals(List.of(2L), page.getList().stream().map(TravelDTO::getNo).toList());
+
+        pageRequest.setPage(2);
+        assertEquals(List.of(4L), catalog.getPage(pageRequest).getList().stream().map(TravelDTO::getNo).toList());
+        pageRequest.setPage(3);
+        assertTrue(catalog.getPage(pageRequest).getList().isEmpty());
+
+        pageRequest.setDistrict("없는권");
+        assertEquals(0, catalog.getPage(pageRequest).getTotalCount());
+
+        assertEquals(List.of(new TravelDistrictDTO("강릉권", 2), new TravelDistrictDTO("영월권", 1),
+                new TravelDistrictDTO("춘천권", 2)), catalog.getDistricts());
+        assertEquals(loadStatements, mapper.total());
+    }
+
+    @Test
+    @DisplayName("반환한 DTO를 변경해도 스냅샷은 바뀌지 않음")
+    void snapshotIsNotShared() {
+        TravelCatalog catalog = loaded();
+
+        TravelDTO travel = catalog.get(3L);
+        travel.setTitle("변경");
+        travel.getImages().get(0).setFilename("변경.jpg");
+        mapper.travels.get(0).setTitle("DB 변경");     // 매퍼 결과를 바꿔도 다시 로드 전까지 반영되지 않음
+
+        assertEquals("경포대", catalog.get(3L).getTitle());
+        assertEquals("30.jpg", catalog.get(3L).getImages().get(0).getFilename());
+    }
+
+    @Test
+    @DisplayName("변경 버전이 달라질 때만 다시 로드")
+    void pollReloadsOnVersionChange() {
+        TravelCatalog catalog = loaded();
+        TravelCatalogDTO first = catalog.getStats();
+        assertEquals("v1", first.getVersion());
+        assertEquals(5, first.getTravelCount());
+        assertEquals(5, first.getImageCount());
+        assertEquals(3, first.getDistrictCount());
+
+        catalog.scheduled();
+        assertEquals(5, catalog.getStats().getTravelCount());
+
+        row(6, "춘천권", "의암호");
+        catalog.scheduled();
+        assertEquals(5, catalog.getStats().getTravelCount());   // 버전이 같으면 그대로
+
+        mapper.version = "v2";
+        catalog.scheduled();
+        assertEquals("v2", catalog.getStats().getVersion());
+        assertEquals(6, catalog.getStats().getTravelCount());
+        assertEquals(3, catalog.getTravelsByDistrict("춘천권").size());
+        assertEquals(3, catalog.getDistricts().get(2).getCount());    // 여행지 수도 새 스냅샷 기준
+    }
+
+    @Test
+    @DisplayName("로드에 실패하면 미로드 상태로 시작 (서비스는 DB 조회 사용)")
+    void loadFailure() {
+        mapper.failure = new IllegalStateException("DB 연결 실패");
+        TravelCatalog failing = new TravelCatalog(mapper, true);
+        failing.afterPropertiesSet();
+
+        assertFalse(failing.isLoaded());
+        assertNull(failing.getStats());
+    }
+}
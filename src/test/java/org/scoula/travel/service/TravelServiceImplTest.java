@@ -0,0 +1,111 @@
+package org.scoula.travel.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.common.concurrent.PageQueryExecutor;
+import org.scoula.common.pagination.Page;
+import org.scoula.common.pagination.PageRequest;
+import org.scoula.travel.domain.TravelImageVO;
+import org.scoula.travel.domain.TravelVO;
+import org.scoula.travel.dto.TravelDTO;
+import org.scoula.travel.dto.TravelImageDTO;
+import org.scoula.travel.mapper.FakeTravelMapper;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TravelServiceImplTest {
+
+    private final PageQueryExecutor executor = new PageQueryExecutor(false, 4, 1000);   // 순차 실행
+
+    private final FakeTravelMapper mapper = new FakeTravelMapper();
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    // 카탈로그를 로드하지 않은 서비스 (DB 조회 경로)
+    private TravelService service() {
+        return new TravelServiceImpl(mapper, executor, new TravelCatalog(mapper, false));
+    }
+
+    // 여행지 count개 생성, 짝수 번호 여행지에만 이미지 2개씩
+    private void travels(int count) {
+        for (long no = 1; no <= count; no++) {
+            mapper.travels.add(TravelVO.builder().no(no).district(no <= count / 2 ? "east" : "west")
+                    .title("travel-" + no).build());
+            if (no % 2 == 0) {
+                mapper.images.add(TravelImageVO.builder().no(no * 10).filename(no + "-a.jpg").travelNo(no).build());
+                mapper.images.add(TravelImageVO.builder().no(no * 10 + 1).filename(no + "-b.jpg").travelNo(no).build());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("페이지 크기와 관계없이 목록 조회 쿼리 수는 일정 (목록 + 이미지 + 건수)")
+    void pageStatementCount() {
+        travels(100);
+        TravelService service = service();
+
+        for (int amount : new int[]{10, 100}) {
+            mapper.clearCalls();
+            Page<TravelDTO> page = service.getPage(PageRequest.of(1, amount));
+
+            assertEquals(amount, page.getList().size());
+            assertEquals(3, mapper.total());
+            assertEquals(1, mapper.count("getImagesByTravelNos"));
+            assertEquals(0, mapper.count("getImages"));
+        }
+    }
+
+    @Test
+    @DisplayName("일괄 조회한 이미지를 여행지별로 분배")
+    void imagesGroupedByTravel() {
+        travels(10);
+        TravelService service = service();
+
+        Page<TravelDTO> page = service.getPage(PageRequest.of(1, 10));
+
+        for (TravelDTO travel : page.getList()) {
+            if (travel.getNo() % 2 == 0) {
+                assertEquals(List.of(travel.getNo() + "-a.jpg", travel.getNo() + "-b.jpg"),
+                        travel.getImages().stream().map(TravelImageDTO::getFilename).toList());
+            } else {
+                assertEquals(List.of(), travel.getImages());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("권역 조건 목록은 권역 건수 쿼리 사용")
+    void districtPage() {
+        travels(10);
+        TravelService service = service();
+
+        PageRequest pageRequest = PageRequest.of(1, 3);
+        pageRequest.setDistrict("west");
+        Page<TravelDTO> page = service.getPage(pageRequest);
+
+        assertEquals(5, page.getTotalCount());
+        assertEquals(List.of(6L, 7L, 8L), page.getList().stream().map(TravelDTO::getNo).toList());
+        assertEquals(1, mapper.count("getTotalCountByDistrict"));
+        assertEquals(0, mapper.count("getTotalCount"));
+        assertEquals(3, mapper.total());
+    }
+
+    @Test
+    @DisplayName("빈 페이지는 이미지 쿼리를 실행하지 않음")
+    void emptyPage() {
+        travels(5);
+        TravelService service = service();
+
+        Page<TravelDTO> page = service.getPage(PageRequest.of(3, 10));
+
+        assertTrue(page.getList().isEmpty());
+        assertEquals(0, mapper.count("getImagesByTravelNos"));
+        assertEquals(2, mapper.total());
+    }
+}
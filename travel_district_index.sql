@@ -0,0 +1,25 @@
+-- 여행지 권역 목록/권역별 목록 인덱스
+--  - 권역별 목록: WHERE district = ? ORDER BY title LIMIT → (district, title) 인덱스 범위를 순서대로 읽고 LIMIT에서 중단
+--  - 전체 목록: ORDER BY district, title → 같은 인덱스 순서 (filesort 없음)
+--  - 권역별 여행지 수: GROUP BY district → 인덱스만 읽음 (테이블 접근 없음)
+
+ALTER TABLE tbl_travel
+    ADD INDEX idx_travel_district_title (district, title);
+
+-- 인덱스 확인
+SHOW INDEX FROM tbl_travel;
+
+-- 권역별 목록 (key: idx_travel_district_title, type: ref, Extra에 filesort 없음)
+EXPLAIN
+SELECT *
+FROM tbl_travel
+WHERE district = '강릉권'
+ORDER BY district, title
+LIMIT 0, 10;
+
+-- 권역별 여행지 수 (key: idx_travel_district_title, Extra: Using index)
+EXPLAIN
+SELECT district, count(*) AS count
+FROM tbl_travel
+GROUP BY district
+ORDER BY district;